@@ -2,6 +2,8 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.6"
     id("io.spring.dependency-management") version "1.1.7"
+    // 마이크로 벤치마크 (src/jmh, ./gradlew jmh)
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com"
@@ -24,17 +26,37 @@ repositories {
     mavenCentral()
 }
 
+// 부하 테스트/벤치마크 하네스 (src/loadtest) - build/test 에는 포함되지 않고 전용 태스크로만 실행
+sourceSets {
+    create("loadtest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val loadtestImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+val loadtestRuntimeOnly: Configuration by configurations.getting {
+    extendsFrom(configurations.runtimeOnly.get())
+}
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    // Micrometer 메트릭 (요청별 SQL 계측 등)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
 
     //WebSocket(STOMP) + spring-messaging
     implementation("org.springframework.boot:spring-boot-starter-websocket")
     //WebSocket에서 @AuthenticationPrincipal 등 Security 연동
     implementation("org.springframework.security:spring-security-messaging")
+    //외부 STOMP 브로커 릴레이(ws.broker.mode=relay)용 TCP 클라이언트
+    implementation("io.projectreactor.netty:reactor-netty")
 
 
     compileOnly("org.projectlombok:lombok")
@@ -45,6 +67,10 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    // 메일 아웃박스 발송 테스트용 인프로세스 SMTP 서버
+    testImplementation("com.icegreen:greenmail-junit5:2.1.3")
+    // 다중 노드 브로커 팬아웃 테스트용 임베디드 Redis
+    testImplementation("com.github.codemonstur:embedded-redis:1.4.3")
 
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
@@ -65,8 +91,41 @@ dependencies {
     // Jackson
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
     implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
+
+    // 추천 벤치마크의 redis 모드용 임베디드 Redis
+    loadtestImplementation("com.github.codemonstur:embedded-redis:1.4.3")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// -Dloadtest.* 시스템 프로퍼티를 그대로 하네스에 전달
+fun JavaExec.loadtestTask(main: String) {
+    group = "verification"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set(main)
+    systemProperties(System.getProperties()
+        .filterKeys { it.toString().startsWith("loadtest.") }
+        .mapKeys { it.key.toString() })
+}
+
+tasks.register<JavaExec>("chatLoadTest") {
+    description = "STOMP 채팅 부하 테스트 (예: ./gradlew chatLoadTest -Dloadtest.users=200 -Dloadtest.rate=2)"
+    loadtestTask("com.unimate.loadtest.ChatLoadTest")
+}
+
+tasks.register<JavaExec>("recommendationBenchmark") {
+    description = "추천 API 지연 시간 벤치마크 - redis/db 모드 비교 (예: ./gradlew recommendationBenchmark -Dloadtest.users=5000 -Dloadtest.clients=32)"
+    loadtestTask("com.unimate.loadtest.RecommendationBenchmark")
+}
+
+tasks.register<JavaExec>("loginBenchmark") {
+    description = "로그인 폭주 시 처리량/다른 API 간섭 비교 - inline/pool 모드 (예: ./gradlew loginBenchmark -Dloadtest.login-clients=64)"
+    loadtestTask("com.unimate.loadtest.LoginBenchmark")
+}
+
+jmh {
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
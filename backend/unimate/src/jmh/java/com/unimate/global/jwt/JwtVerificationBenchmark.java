@@ -0,0 +1,72 @@
+package com.unimate.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건의 토큰 검증 비용 비교
+ * - legacyTriplePass: 이전 방식 (validate → email → userId, 매번 파서 생성 + 서명 검증)
+ * - singleParse: 재사용 파서로 한 번 파싱 (캐시 끔)
+ * - cachedParse: 검증 캐시 적중 (토큰 해시 계산 + 맵 조회)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark";
+
+    private SecretKey key;
+    private JwtProvider uncached;
+    private JwtProvider cached;
+    private String token;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncached = new JwtProvider(SECRET, 3_600_000L, 604_800_000L, false, 0);
+        cached = new JwtProvider(SECRET, 3_600_000L, 604_800_000L, true, 10_000);
+        token = uncached.generateToken("user1@unimate.ac.kr", 1L).getAccessToken();
+        cached.parse(token); // 캐시 적재
+    }
+
+    @Benchmark
+    public void legacyTriplePass(Blackhole bh) {
+        bh.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token));
+        Claims forEmail = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        bh.consume(forEmail.getSubject());
+        Claims forUserId = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        bh.consume(forUserId.get("userId", Long.class));
+    }
+
+    @Benchmark
+    public JwtClaims singleParse() {
+        return uncached.parse(token).orElseThrow();
+    }
+
+    @Benchmark
+    public JwtClaims cachedParse() {
+        return cached.parse(token).orElseThrow();
+    }
+}
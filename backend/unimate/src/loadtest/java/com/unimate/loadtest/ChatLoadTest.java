@@ -0,0 +1,304 @@
+package com.unimate.loadtest;
+
+import com.unimate.global.ws.WsSessionMonitor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static com.unimate.loadtest.LoadTestReport.doubleProp;
+import static com.unimate.loadtest.LoadTestReport.intProp;
+
+/**
+ * STOMP 채팅 부하 테스트
+ * - seed 사용자 N명으로 로그인 → 두 명씩 채팅방 생성 → 각자 STOMP(SockJS) 연결 후 /sub/chatroom.{id} 구독
+ * - 모든 클라이언트가 초당 rate 건씩 /pub/chat.send 로 전송
+ * - 전송→상대방 수신 지연, 전송→ACK 지연, 오류율을 측정 구간(duration) 동안만 집계해 JSON 리포트로 저장
+ * - slow-fraction 비율의 클라이언트는 수신 프레임마다 slow-delay-ms 만큼 멈춰 느린 소비자를 흉내냄
+ *   (수신 지연은 일반/느린 클라이언트를 나눠 집계 → 느린 소비자가 일반 클라이언트 수치를 가리지 않음)
+ *
+ * 예) ./gradlew chatLoadTest -Dloadtest.users=200 -Dloadtest.rate=2 -Dloadtest.duration-seconds=60
+ */
+public final class ChatLoadTest {
+
+    private static final String PASSWORD = "test1234";
+    private static final String MARK = "lt|";
+
+    private final int users = intProp("users", 100) / 2 * 2; // 두 명씩 방을 만들므로 짝수
+    private final double rate = doubleProp("rate", 1.0);
+    private final int warmupSeconds = intProp("warmup-seconds", 10);
+    private final int durationSeconds = intProp("duration-seconds", 60);
+    private final int payloadBytes = intProp("payload-bytes", 64);
+    private final double slowFraction = doubleProp("slow-fraction", 0.0);
+    private final int slowDelayMs = intProp("slow-delay-ms", 200);
+
+    private final LatencyRecorder deliveryLatency = new LatencyRecorder();
+    private final LatencyRecorder slowDeliveryLatency = new LatencyRecorder();
+    private final LatencyRecorder ackLatency = new LatencyRecorder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder sendErrors = new LongAdder();
+    private final LongAdder stompErrors = new LongAdder();
+    private final LongAdder transportErrors = new LongAdder();
+    private final AtomicBoolean measuring = new AtomicBoolean();
+    private final Map<String, Pending> pendingAcks = new ConcurrentHashMap<>();
+
+    private record Pending(long sentAt, boolean measured) {
+    }
+
+    private record Client(int index, Long userId, String accessToken, boolean slow) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new ChatLoadTest().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        try (LoadTestServer server = LoadTestServer.start(Map.of())) {
+            RestClient rest = RestClient.create(server.baseUrl());
+
+            List<Client> clients = login(rest);
+            Map<Integer, Long> rooms = createRooms(rest, clients);
+
+            WebSocketStompClient stomp = stompClient();
+            List<StompSession> sessions = new ArrayList<>();
+            for (Client c : clients) {
+                sessions.add(connect(stomp, server.baseUrl(), c, rooms.get(c.index() / 2)));
+            }
+
+            ScheduledExecutorService senders = Executors.newScheduledThreadPool(
+                    Math.max(4, Runtime.getRuntime().availableProcessors()));
+            long periodMicros = (long) (1_000_000 / rate);
+            for (int i = 0; i < clients.size(); i++) {
+                StompSession session = sessions.get(i);
+                Long roomId = rooms.get(i / 2);
+                senders.scheduleAtFixedRate(() -> send(session, roomId),
+                        ThreadLocalRandom.current().nextLong(periodMicros), periodMicros, TimeUnit.MICROSECONDS);
+            }
+
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            measuring.set(true);
+            long measureStart = System.nanoTime();
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            measuring.set(false);
+            double measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+
+            senders.shutdownNow();
+            TimeUnit.SECONDS.sleep(5); // 남은 ACK/수신 대기
+            long ackTimeouts = pendingAcks.values().stream().filter(Pending::measured).count();
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("params", Map.of(
+                    "users", users, "rooms", rooms.size(), "ratePerClient", rate,
+                    "warmupSeconds", warmupSeconds, "durationSeconds", durationSeconds,
+                    "payloadBytes", payloadBytes, "slowFraction", slowFraction, "slowDelayMs", slowDelayMs));
+            report.put("throughput", Map.of(
+                    "sent", sent.sum(),
+                    "received", received.sum(),
+                    "sendPerSec", Math.round(sent.sum() / measuredSeconds),
+                    "receivePerSec", Math.round(received.sum() / measuredSeconds)));
+            report.put("deliveryLatency", deliveryLatency.summary());
+            if (slowFraction > 0) {
+                report.put("slowDeliveryLatency", slowDeliveryLatency.summary());
+            }
+            report.put("ackLatency", ackLatency.summary());
+
+            Map<String, Object> errors = new LinkedHashMap<>();
+            errors.put("sendErrors", sendErrors.sum());
+            errors.put("ackTimeouts", ackTimeouts);
+            errors.put("stompErrors", stompErrors.sum());
+            errors.put("transportErrors", transportErrors.sum());
+            errors.put("errorRate", sent.sum() == 0 ? 0.0 : (double) (sendErrors.sum() + ackTimeouts) / sent.sum());
+            report.put("errors", errors);
+
+            WsSessionMonitor monitor = server.bean(WsSessionMonitor.class);
+            if (monitor != null) {
+                report.put("server", Map.of(
+                        "activeSessions", monitor.getActiveSessions(),
+                        "slowConsumerDisconnects", monitor.getSlowConsumerDisconnects()));
+            }
+
+            LoadTestReport.write("chat", report);
+            sessions.forEach(s -> {
+                if (s.isConnected()) s.disconnect();
+            });
+            stomp.stop();
+        }
+    }
+
+    private List<Client> login(RestClient rest) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Client>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                int idx = i;
+                futures.add(pool.submit(() -> {
+                    Map<?, ?> res = rest.post().uri("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(Map.of("email", "user" + (idx + 1) + "@unimate.ac.kr", "password", PASSWORD))
+                            .retrieve()
+                            .body(Map.class);
+                    return new Client(idx, ((Number) res.get("userId")).longValue(), (String) res.get("accessToken"),
+                            idx < users * slowFraction);
+                }));
+            }
+            List<Client> clients = new ArrayList<>();
+            for (var f : futures) clients.add(f.get());
+            return clients;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // (0,1), (2,3) ... 짝마다 채팅방 하나
+    private Map<Integer, Long> createRooms(RestClient rest, List<Client> clients) {
+        Map<Integer, Long> rooms = new ConcurrentHashMap<>();
+        for (int pair = 0; pair < clients.size() / 2; pair++) {
+            Client a = clients.get(pair * 2);
+            Client b = clients.get(pair * 2 + 1);
+            Map<?, ?> res = rest.post().uri("/api/v1/chatrooms")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + a.accessToken())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("partnerId", b.userId()))
+                    .retrieve()
+                    .body(Map.class);
+            rooms.put(pair, ((Number) res.get("chatroomId")).longValue());
+        }
+        return rooms;
+    }
+
+    private static WebSocketStompClient stompClient() {
+        WebSocketStompClient stomp = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stomp.setMessageConverter(new MappingJackson2MessageConverter());
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("loadtest-stomp-");
+        scheduler.initialize();
+        stomp.setTaskScheduler(scheduler);
+        return stomp;
+    }
+
+    private StompSession connect(WebSocketStompClient stomp, String baseUrl, Client c, Long roomId) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add(HttpHeaders.AUTHORIZATION, "Bearer " + c.accessToken());
+
+        StompSession session = stomp.connectAsync(baseUrl + "/ws-stomp", new WebSocketHttpHeaders(), connectHeaders,
+                new StompSessionHandlerAdapter() {
+                    @Override
+                    public void handleException(StompSession s, StompCommand command, StompHeaders headers,
+                                                byte[] payload, Throwable exception) {
+                        stompErrors.increment();
+                    }
+
+                    @Override
+                    public void handleTransportError(StompSession s, Throwable exception) {
+                        transportErrors.increment();
+                    }
+
+                    @Override
+                    public void handleFrame(StompHeaders headers, Object payload) {
+                        stompErrors.increment(); // 구독 밖으로 온 프레임 = ERROR
+                    }
+                }).get(10, TimeUnit.SECONDS);
+
+        session.subscribe("/sub/chatroom." + roomId, new MapFrameHandler(payload -> {
+            pauseIfSlow(c);
+            Object senderId = payload.get("senderId");
+            String content = (String) payload.get("content");
+            if (senderId == null || c.userId().equals(((Number) senderId).longValue())
+                    || content == null || !content.startsWith(MARK)) {
+                return;
+            }
+            // lt|{측정여부}|{전송 nanoTime}|...
+            String[] parts = content.split("\\|", 4);
+            if ("1".equals(parts[1])) {
+                received.increment();
+                (c.slow() ? slowDeliveryLatency : deliveryLatency).record(System.nanoTime() - Long.parseLong(parts[2]));
+            }
+        }));
+
+        session.subscribe("/user/queue/chat.ack", new MapFrameHandler(payload -> {
+            Pending p = pendingAcks.remove((String) payload.get("clientMessageId"));
+            if (p != null && p.measured()) {
+                ackLatency.record(System.nanoTime() - p.sentAt());
+            }
+        }));
+        return session;
+    }
+
+    private void send(StompSession session, Long roomId) {
+        boolean measured = measuring.get();
+        String clientMessageId = UUID.randomUUID().toString();
+        long now = System.nanoTime();
+        String content = MARK + (measured ? "1" : "0") + "|" + now + "|" + "x".repeat(payloadBytes);
+
+        pendingAcks.put(clientMessageId, new Pending(now, measured));
+        try {
+            session.send("/pub/chat.send", Map.of(
+                    "chatroomId", roomId,
+                    "clientMessageId", clientMessageId,
+                    "type", "TEXT",
+                    "content", content));
+            if (measured) sent.increment();
+        } catch (Exception e) {
+            pendingAcks.remove(clientMessageId);
+            if (measured) {
+                sent.increment();
+                sendErrors.increment();
+            }
+        }
+    }
+
+    private void pauseIfSlow(Client c) {
+        if (!c.slow()) return;
+        try {
+            Thread.sleep(slowDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record MapFrameHandler(Consumer<Map<String, Object>> onPayload) implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void handleFrame(StompHeaders headers, Object payload) {
+            onPayload.accept((Map<String, Object>) payload);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.unimate.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 지연 시간 기록 (나노초 입력, 밀리초 백분위 출력)
+ * - 측정 구간 동안 모든 샘플을 보관하고 리포트 시 정렬해 백분위 계산
+ */
+public final class LatencyRecorder {
+
+    private long[] samples = new long[1 << 16];
+    private int size;
+
+    public synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public synchronized int count() {
+        return size;
+    }
+
+    public synchronized Map<String, Object> summary() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("count", size);
+        if (size == 0) {
+            return out;
+        }
+        out.put("minMs", millis(sorted[0]));
+        out.put("p50Ms", millis(percentile(sorted, 50)));
+        out.put("p90Ms", millis(percentile(sorted, 90)));
+        out.put("p95Ms", millis(percentile(sorted, 95)));
+        out.put("p99Ms", millis(percentile(sorted, 99)));
+        out.put("p999Ms", millis(percentile(sorted, 99.9)));
+        out.put("maxMs", millis(sorted[size - 1]));
+        out.put("meanMs", millis((long) Arrays.stream(sorted).average().orElse(0)));
+        return out;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
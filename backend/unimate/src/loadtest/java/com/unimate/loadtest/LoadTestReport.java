@@ -0,0 +1,43 @@
+package com.unimate.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * 벤치마크 결과를 JSON 으로 저장 (build/reports/loadtest/{name}-{시각}.json)
+ */
+public final class LoadTestReport {
+
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTestReport() {
+    }
+
+    public static Path write(String name, Map<String, Object> report) throws IOException {
+        Path dir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        Files.createDirectories(dir);
+        Path file = dir.resolve(name + "-" + LocalDateTime.now().format(STAMP) + ".json");
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(file.toFile(), report);
+
+        System.out.println(mapper.writeValueAsString(report));
+        System.out.println("report: " + file.toAbsolutePath());
+        return file;
+    }
+
+    public static int intProp(String key, int def) {
+        return Integer.parseInt(System.getProperty("loadtest." + key, String.valueOf(def)));
+    }
+
+    public static double doubleProp(String key, double def) {
+        return Double.parseDouble(System.getProperty("loadtest." + key, String.valueOf(def)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.unimate.loadtest;
+
+import com.unimate.UnimateApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 대상 서버
+ * - loadtest.base-url 이 있으면 이미 떠 있는 서버를 대상으로 함
+ * - 없으면 H2(MySQL 모드) + seed 프로필로 애플리케이션을 같은 JVM 에서 띄움 (SeedBatchConfig 사용자 user{i}@unimate.ac.kr / test1234)
+ * - 띄울 때마다 DB 이름을 새로 만듦 (loadtest-{name}-{nanoTime}) → 한 벤치마크 안의 모드끼리 이전 실행의 데이터를 공유하지 않음
+ */
+public final class LoadTestServer implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    private LoadTestServer(ConfigurableApplicationContext context, String baseUrl) {
+        this.context = context;
+        this.baseUrl = baseUrl;
+    }
+
+    public static LoadTestServer start(Map<String, Object> overrides) {
+        return start("run", overrides);
+    }
+
+    // name: DB 이름에 붙일 실행 구분자 (보통 벤치마크 모드)
+    public static LoadTestServer start(String name, Map<String, Object> overrides) {
+        String external = System.getProperty("loadtest.base-url");
+        if (external != null && !external.isBlank()) {
+            return new LoadTestServer(null, external.replaceAll("/$", ""));
+        }
+
+        Map<String, Object> props = new HashMap<>();
+        props.put("server.port", 0);
+        props.put("spring.datasource.url", "jdbc:h2:mem:loadtest-" + name + "-" + System.nanoTime()
+                + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE");
+        props.put("spring.datasource.username", "sa");
+        props.put("spring.datasource.password", "");
+        props.put("spring.jpa.hibernate.ddl-auto", "create");
+        props.put("spring.batch.jdbc.initialize-schema", "always");
+        props.put("spring.batch.job.enabled", false); // seed 프로필의 SeedJobLauncher 가 직접 실행
+        props.put("jwt.secret", "loadtest-secret-key-loadtest-secret-key-loadtest-secret-key");
+        props.put("jwt.access-token-expiration", 3_600_000L);
+        props.put("jwt.refresh-token-expiration", 604_800_000L);
+        props.put("cache.redis.enabled", false);
+        props.put("ws.broker.mode", "simple");
+        props.put("ratelimit.enabled", false); // 클라이언트 수가 적어 사용자별 버킷에 걸리면 측정이 왜곡됨
+        props.put("logging.level.root", "WARN");
+        props.putAll(overrides);
+
+        ConfigurableApplicationContext ctx = new SpringApplicationBuilder(UnimateApplication.class)
+                .profiles("seed")
+                .properties(props)
+                .run();
+        String port = ctx.getEnvironment().getProperty("local.server.port");
+        return new LoadTestServer(ctx, "http://localhost:" + port);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    // 같은 JVM 에서 띄운 경우에만 서버 내부 빈 조회 가능
+    public <T> T bean(Class<T> type) {
+        return context != null ? context.getBean(type) : null;
+    }
+
+    @Override
+    public void close() {
+        if (context != null) {
+            context.close();
+        }
+    }
+}
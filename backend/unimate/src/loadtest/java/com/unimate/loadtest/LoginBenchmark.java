@@ -0,0 +1,152 @@
+package com.unimate.loadtest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.unimate.loadtest.LoadTestReport.intProp;
+
+/**
+ * 로그인 폭주 시 처리량과 다른 API 간섭 측정
+ * - login-clients 개 클라이언트가 쉬지 않고 로그인, 동시에 probe-clients 개 클라이언트가 가벼운 API(읽지 않은 알림 수)를 호출
+ * - 모드: inline(요청 스레드에서 BCrypt) / pool(PasswordHasher 전용 풀) → 로그인 처리량·거절 수와 probe 지연 비교
+ *
+ * 예) ./gradlew loginBenchmark -Dloadtest.login-clients=64 -Dloadtest.pool-size=2 -Dloadtest.bcrypt-strength=12
+ */
+public final class LoginBenchmark {
+
+    private static final String PASSWORD = "test1234";
+
+    private final int users = intProp("users", 500);
+    private final int loginClients = intProp("login-clients", 64);
+    private final int probeClients = intProp("probe-clients", 8);
+    private final int poolSize = intProp("pool-size", 0);
+    private final int bcryptStrength = intProp("bcrypt-strength", 10);
+    private final int tomcatThreads = intProp("tomcat-threads", 100);
+    private final int warmupSeconds = intProp("warmup-seconds", 10);
+    private final int durationSeconds = intProp("duration-seconds", 60);
+    private final String[] modes = System.getProperty("loadtest.modes", "inline,pool").split(",");
+
+    public static void main(String[] args) throws Exception {
+        new LoginBenchmark().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("params", Map.of(
+                "users", users, "loginClients", loginClients, "probeClients", probeClients,
+                "poolSize", poolSize, "bcryptStrength", bcryptStrength, "tomcatThreads", tomcatThreads,
+                "warmupSeconds", warmupSeconds, "durationSeconds", durationSeconds));
+
+        for (String mode : modes) {
+            report.put(mode.trim(), runMode(mode.trim()));
+        }
+        LoadTestReport.write("login", report);
+    }
+
+    private Map<String, Object> runMode(String mode) throws Exception {
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put("seed.user-count", users);
+        overrides.put("seed.history.enabled", false);
+        overrides.put("auth.password.async.enabled", "pool".equals(mode));
+        overrides.put("auth.password.pool-size", poolSize);
+        overrides.put("auth.password.bcrypt-strength", bcryptStrength);
+        overrides.put("server.tomcat.threads.max", tomcatThreads);
+
+        try (LoadTestServer server = LoadTestServer.start(mode, overrides)) {
+            RestClient rest = RestClient.create(server.baseUrl());
+            String probeToken = (String) login(rest, 1).getBody().get("accessToken");
+
+            LatencyRecorder loginLatency = new LatencyRecorder();
+            LatencyRecorder probeLatency = new LatencyRecorder();
+            Map<Integer, LongAdder> loginStatuses = new ConcurrentHashMap<>();
+            LongAdder probeErrors = new LongAdder();
+            AtomicBoolean measuring = new AtomicBoolean();
+            AtomicBoolean running = new AtomicBoolean(true);
+
+            ExecutorService pool = Executors.newFixedThreadPool(loginClients + probeClients);
+            for (int i = 0; i < loginClients; i++) {
+                pool.submit(() -> {
+                    while (running.get()) {
+                        boolean measured = measuring.get();
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = login(rest, 1 + ThreadLocalRandom.current().nextInt(users)).getStatusCode().value();
+                        } catch (RestClientResponseException e) {
+                            status = e.getStatusCode().value();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        if (measured) {
+                            if (status == 200) loginLatency.record(System.nanoTime() - start);
+                            loginStatuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+                        }
+                    }
+                });
+            }
+            for (int i = 0; i < probeClients; i++) {
+                pool.submit(() -> {
+                    while (running.get()) {
+                        boolean measured = measuring.get();
+                        long start = System.nanoTime();
+                        try {
+                            rest.get().uri("/api/v1/notifications/unread-count")
+                                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + probeToken)
+                                    .retrieve()
+                                    .toBodilessEntity();
+                            if (measured) probeLatency.record(System.nanoTime() - start);
+                        } catch (Exception e) {
+                            if (measured) probeErrors.increment();
+                        }
+                    }
+                });
+            }
+
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            measuring.set(true);
+            long measureStart = System.nanoTime();
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            measuring.set(false);
+            double measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+            running.set(false);
+            pool.shutdown();
+            pool.awaitTermination(30, TimeUnit.SECONDS);
+
+            Map<String, Object> statuses = new LinkedHashMap<>();
+            loginStatuses.forEach((status, count) -> statuses.put(String.valueOf(status), count.sum()));
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("loginPerSec", Math.round(loginLatency.count() / measuredSeconds));
+            result.put("loginStatuses", statuses);
+            result.put("loginLatency", loginLatency.summary());
+            result.put("probePerSec", Math.round(probeLatency.count() / measuredSeconds));
+            result.put("probeErrors", probeErrors.sum());
+            result.put("probeLatency", probeLatency.summary());
+            return result;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static ResponseEntity<Map> login(RestClient rest, int userIndex) {
+        return rest.post().uri("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("email", "user" + userIndex + "@unimate.ac.kr", "password", PASSWORD))
+                .retrieve()
+                .toEntity(Map.class);
+    }
+}
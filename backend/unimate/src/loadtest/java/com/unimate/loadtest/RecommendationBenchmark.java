@@ -0,0 +1,227 @@
+package com.unimate.loadtest;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+import redis.embedded.RedisServer;
+
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.unimate.loadtest.LoadTestReport.intProp;
+
+/**
+ * 추천 API 지연 시간 벤치마크
+ * - seed 프로필로 users 명을 만든 서버에 clients 개 동시 클라이언트가 로그인 후
+ *   GET /api/v1/matches/recommendations → GET /api/v1/matches/candidates/{id} 를 반복 호출
+ * - cache.redis.enabled=true(임베디드 Redis) / false 두 모드를 차례로 실행해 한 리포트로 비교
+ * - 모드별 p50/p95/p99, 요청당 SQL 문 수(Hibernate 통계), 요청당 서버 스레드 힙 할당량 기록
+ *
+ * 예) ./gradlew recommendationBenchmark -Dloadtest.users=5000 -Dloadtest.clients=32 -Dloadtest.modes=redis,db
+ */
+public final class RecommendationBenchmark {
+
+    private static final String PASSWORD = "test1234";
+
+    private final int users = intProp("users", 2000);
+    private final int clients = intProp("clients", 16);
+    private final int warmupSeconds = intProp("warmup-seconds", 15);
+    private final int durationSeconds = intProp("duration-seconds", 60);
+    private final String[] modes = System.getProperty("loadtest.modes", "redis,db").split(",");
+
+    public static void main(String[] args) throws Exception {
+        new RecommendationBenchmark().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("params", Map.of(
+                "users", users, "clients", clients,
+                "warmupSeconds", warmupSeconds, "durationSeconds", durationSeconds));
+
+        for (String mode : modes) {
+            report.put(mode.trim(), runMode(mode.trim()));
+        }
+        LoadTestReport.write("recommendation", report);
+    }
+
+    private Map<String, Object> runMode(String mode) throws Exception {
+        boolean redis = "redis".equals(mode);
+        RedisServer redisServer = null;
+
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put("seed.user-count", users);
+        overrides.put("cache.redis.enabled", redis);
+        overrides.put("spring.jpa.properties.hibernate.generate_statistics", true);
+        if (redis) {
+            int port = freePort();
+            redisServer = new RedisServer(port);
+            redisServer.start();
+            overrides.put("spring.data.redis.host", "localhost");
+            overrides.put("spring.data.redis.port", port);
+        }
+
+        try (LoadTestServer server = LoadTestServer.start(mode, overrides)) {
+            RestClient rest = RestClient.create(server.baseUrl());
+            List<String> tokens = login(rest);
+
+            Workload workload = new Workload(rest, tokens);
+            workload.start();
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+
+            Statistics stats = statistics(server);
+            long statementsBefore = stats != null ? stats.getPrepareStatementCount() : 0;
+            long allocatedBefore = serverThreadAllocatedBytes();
+            long measureStart = System.nanoTime();
+            workload.measuring.set(true);
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            workload.measuring.set(false);
+            double measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+            long statements = stats != null ? stats.getPrepareStatementCount() - statementsBefore : -1;
+            long allocated = serverThreadAllocatedBytes() - allocatedBefore;
+            workload.stop();
+
+            long requests = workload.list.count() + workload.detail.count();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("throughputPerSec", Math.round(requests / measuredSeconds));
+            result.put("errors", workload.errors.sum());
+            result.put("recommendations", workload.list.summary());
+            result.put("candidateDetail", workload.detail.summary());
+            // 같은 JVM 에서 띄운 서버일 때만 측정 가능 (loadtest.base-url 사용 시 -1)
+            result.put("sqlStatementsPerRequest", statements < 0 || requests == 0 ? -1 : round((double) statements / requests));
+            result.put("allocatedBytesPerRequest", allocated < 0 || requests == 0 ? -1 : allocated / requests);
+            return result;
+        } finally {
+            if (redisServer != null) {
+                redisServer.stop();
+            }
+        }
+    }
+
+    /**
+     * 동시 클라이언트 반복 호출 (워밍업 동안에는 집계하지 않음)
+     */
+    private final class Workload {
+
+        private final RestClient rest;
+        private final List<String> tokens;
+        private final LatencyRecorder list = new LatencyRecorder();
+        private final LatencyRecorder detail = new LatencyRecorder();
+        private final LongAdder errors = new LongAdder();
+        private final AtomicBoolean measuring = new AtomicBoolean();
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final ExecutorService pool = Executors.newFixedThreadPool(clients);
+
+        private Workload(RestClient rest, List<String> tokens) {
+            this.rest = rest;
+            this.tokens = tokens;
+        }
+
+        private void start() {
+            for (int i = 0; i < clients; i++) {
+                String token = tokens.get(i % tokens.size());
+                pool.submit(() -> loop(token));
+            }
+        }
+
+        private void stop() throws InterruptedException {
+            running.set(false);
+            pool.shutdown();
+            pool.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        private void loop(String token) {
+            while (running.get()) {
+                boolean measured = measuring.get();
+                try {
+                    long start = System.nanoTime();
+                    Map<?, ?> res = rest.get().uri("/api/v1/matches/recommendations")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .retrieve()
+                            .body(Map.class);
+                    if (measured) list.record(System.nanoTime() - start);
+
+                    List<?> items = res != null ? (List<?>) res.get("recommendations") : List.of();
+                    if (items == null || items.isEmpty()) continue;
+                    Object receiverId = ((Map<?, ?>) items.get(ThreadLocalRandom.current().nextInt(items.size()))).get("receiverId");
+
+                    start = System.nanoTime();
+                    rest.get().uri("/api/v1/matches/candidates/{id}", receiverId)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .retrieve()
+                            .toBodilessEntity();
+                    if (measured) detail.record(System.nanoTime() - start);
+                } catch (Exception e) {
+                    if (measured) errors.increment();
+                }
+            }
+        }
+    }
+
+    private List<String> login(RestClient rest) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < Math.min(clients, users); i++) {
+                int idx = i;
+                futures.add(pool.submit(() -> {
+                    Map<?, ?> res = rest.post().uri("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(Map.of("email", "user" + (idx + 1) + "@unimate.ac.kr", "password", PASSWORD))
+                            .retrieve()
+                            .body(Map.class);
+                    return (String) res.get("accessToken");
+                }));
+            }
+            List<String> tokens = new ArrayList<>();
+            for (var f : futures) tokens.add(f.get());
+            return tokens;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Statistics statistics(LoadTestServer server) {
+        EntityManagerFactory emf = server.bean(EntityManagerFactory.class);
+        return emf != null ? emf.unwrap(SessionFactory.class).getStatistics() : null;
+    }
+
+    // 요청 처리 스레드(Tomcat http-nio-*)가 할당한 바이트 합계
+    private static long serverThreadAllocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.getName().startsWith("http-nio-")) {
+                long bytes = threads.getThreadAllocatedBytes(t.threadId());
+                if (bytes > 0) total += bytes;
+            }
+        }
+        return total;
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 100) / 100.0;
+    }
+}
@@ -75,6 +75,11 @@ public class Chatroom {
     @Column(name = "last_message_at")
     private LocalDateTime lastMessageAt;
 
+    // 이 ID 이하의 메시지는 message_archive_segment 로 옮겨짐
+    // 보관 작업의 전용 UPDATE 로만 바뀜 (엔티티 flush 가 동시에 갱신된 값을 이전 값으로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "archived_up_to_message_id", updatable = false)
+    private Long archivedUpToMessageId;
+
     @Column(name = "blocked_by")
     private Long blockedBy;
 
@@ -128,6 +133,11 @@ public class Chatroom {
         this.lastMessageAt = sentAt;
     }
 
+    // 해당 메시지가 보관 묶음으로 옮겨졌는지
+    public boolean isArchived(Long messageId) {
+        return archivedUpToMessageId != null && messageId != null && messageId <= archivedUpToMessageId;
+    }
+
     public static Chatroom create(Long user1Id, Long user2Id) {
         if (user1Id.equals(user2Id)) {
             throw new IllegalArgumentException("Self chat is not allowed.");
@@ -4,9 +4,11 @@ import com.unimate.domain.chatroom.entity.Chatroom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,19 @@ public interface ChatroomRepository
     // 목록(오프셋 페이징, 최신순) — MVP 용도
     Page<Chatroom> findByUser1IdOrUser2IdOrderByLastMessageAtDesc(Long user1Id, Long user2Id, Pageable pageable);
 
+    // 마지막 활동이 기준 시각 이전이고 아직 보관되지 않은 메시지가 있는 방
+    @Query("SELECT c.id FROM Chatroom c WHERE c.lastMessageId IS NOT NULL " +
+            "AND COALESCE(c.lastMessageAt, c.createdAt) < :inactiveBefore " +
+            "AND (c.archivedUpToMessageId IS NULL OR c.archivedUpToMessageId < c.lastMessageId) " +
+            "ORDER BY c.id")
+    List<Long> findArchivableRoomIds(@Param("inactiveBefore") LocalDateTime inactiveBefore, Pageable pageable);
+
+    // 보관 위치를 expected 일 때만 upTo 로 전진 (엔티티를 flush 하지 않는 단일 UPDATE, 0이면 다른 작업이 먼저 옮김)
+    @Modifying
+    @Query(value = "UPDATE chatroom SET archived_up_to_message_id = :upTo " +
+            "WHERE id = :id AND COALESCE(archived_up_to_message_id, 0) = :expected", nativeQuery = true)
+    int advanceArchivedUpTo(@Param("id") Long id, @Param("expected") Long expected, @Param("upTo") Long upTo);
+
     // 개별 사용자 상태에 따른 활성 채팅방 조회
     @Query("SELECT c FROM Chatroom c WHERE " +
             "(c.user1Id = :userId AND c.user1Status = 'ACTIVE') OR " +
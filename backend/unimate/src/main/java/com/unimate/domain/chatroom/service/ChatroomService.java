@@ -5,8 +5,10 @@ import com.unimate.domain.chatroom.entity.Chatroom;
 import com.unimate.domain.chatroom.entity.ChatroomStatus;
 import com.unimate.domain.chatroom.repository.ChatroomRepository;
 import com.unimate.domain.match.repository.MatchRepository;
+import com.unimate.domain.message.dto.ArchivedMessage;
 import com.unimate.domain.message.entity.Message;
 import com.unimate.domain.message.repository.MessageRepository;
+import com.unimate.domain.message.service.MessageArchiveService;
 import com.unimate.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -18,6 +20,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -30,6 +33,7 @@ public class ChatroomService {
     private final com.unimate.domain.user.user.repository.UserRepository userRepository;
     private final UserSessionService userSessionService;
     private final MatchRepository matchRepository;
+    private final MessageArchiveService messageArchiveService;
 
     private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
@@ -161,12 +165,21 @@ public class ChatroomService {
             ChatRoomListResponse.LastMessageSummary last = null;
             if (r.getLastMessageId() != null) {
                 Message m = messageRepository.findById(r.getLastMessageId()).orElse(null);
+                ArchivedMessage archived = (m == null && r.isArchived(r.getLastMessageId()))
+                        ? messageArchiveService.findMessage(r.getId(), r.getLastMessageId()).orElse(null)
+                        : null;
                 if (m != null && m.getCreatedAt() != null) {
                     last = new ChatRoomListResponse.LastMessageSummary(
                             m.getId(),
                             m.getContent(),
                             ISO.format(m.getCreatedAt())
                     );
+                } else if (archived != null && archived.createdAt() != null) {
+                    last = new ChatRoomListResponse.LastMessageSummary(
+                            archived.id(),
+                            archived.content(),
+                            ISO.format(archived.createdAt())
+                    );
                 } else if (r.getLastMessageAt() != null) {
                     last = new ChatRoomListResponse.LastMessageSummary(
                             r.getLastMessageId(),
@@ -226,13 +239,15 @@ public class ChatroomService {
         if (beforeMessageId == null) {
             messages = messageRepository.findByChatroom_IdOrderByIdDesc(chatroomId, pr);
         } else {
-            if (!messageRepository.existsByIdAndChatroom_Id(beforeMessageId, chatroomId)) {
+            // 보관 구간의 커서는 활성 테이블에 없으므로 존재 확인 생략
+            if (!room.isArchived(beforeMessageId)
+                    && !messageRepository.existsByIdAndChatroom_Id(beforeMessageId, chatroomId)) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid cursor");
             }
             messages = messageRepository.findByChatroom_IdAndIdLessThanOrderByIdDesc(chatroomId, beforeMessageId, pr);
         }
 
-        List<ChatHistoryResponse.ChatMessageItem> items = messages.stream()
+        List<ChatHistoryResponse.ChatMessageItem> items = new ArrayList<>(messages.stream()
                 .map(m -> new ChatHistoryResponse.ChatMessageItem(
                         m.getId(),
                         m.getChatroom().getId(),
@@ -240,9 +255,22 @@ public class ChatroomService {
                         m.getContent(),
                         ISO.format(m.getCreatedAt())
                 ))
-                .toList();
+                .toList());
+
+        // 활성 테이블에서 모자란 만큼 보관 묶음에서 이어서 읽음
+        if (items.size() < limit && room.getArchivedUpToMessageId() != null) {
+            Long archiveBefore = messages.isEmpty() ? beforeMessageId : messages.get(messages.size() - 1).getId();
+            messageArchiveService.findBefore(chatroomId, archiveBefore, limit - items.size())
+                    .forEach(a -> items.add(new ChatHistoryResponse.ChatMessageItem(
+                            a.id(),
+                            chatroomId,
+                            a.senderId(),
+                            a.content(),
+                            ISO.format(a.createdAt())
+                    )));
+        }
 
-        String next = messages.isEmpty() ? null : String.valueOf(messages.get(messages.size() - 1).getId());
+        String next = items.isEmpty() ? null : String.valueOf(items.get(items.size() - 1).getMessageId());
         return new ChatHistoryResponse(items, next);
     }
 
@@ -253,7 +281,7 @@ public class ChatroomService {
         assertMember(me, room);
 
         // lastReadMessageId가 해당 방의 메시지인지 체크
-        if (lastReadMessageId != null &&
+        if (lastReadMessageId != null && !room.isArchived(lastReadMessageId) &&
                 !messageRepository.existsByIdAndChatroom_Id(lastReadMessageId, chatroomId)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 메시지 ID입니다.");
         }
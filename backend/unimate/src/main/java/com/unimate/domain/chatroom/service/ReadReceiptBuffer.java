@@ -0,0 +1,171 @@
+package com.unimate.domain.chatroom.service;
+
+import com.unimate.domain.chatroom.dto.ChatReadResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WS 읽음 처리 버퍼
+ * - (사용자, 채팅방)별로 가장 큰 메시지 ID만 남기고 짧은 주기로 모아서 일괄 UPDATE
+ * - 반영된(저장된) 읽음 위치는 채팅방 읽음 토픽(/sub/chatroom.{id}.read)으로 한 번만 브로드캐스트
+ * - 일괄 반영이 실패하면 꺼낸 읽음 위치를 다시 합쳐(더 큰 ID 유지) 다음 주기에 재시도, 연속 max-retries 회 실패하면 버림
+ * - 종료 시 남은 읽음 위치를 마저 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReadReceiptBuffer {
+
+    // 방 참여자 검증 + 뒤로 가지 않는 읽음 위치 + 방의 마지막 메시지를 넘지 않는 ID 만 반영
+    private static final String UPDATE_SQL = """
+            UPDATE chatroom
+               SET last_read_message_id_user1 = CASE WHEN user1_id = ?
+                       THEN GREATEST(COALESCE(last_read_message_id_user1, 0), ?) ELSE last_read_message_id_user1 END,
+                   last_read_message_id_user2 = CASE WHEN user2_id = ?
+                       THEN GREATEST(COALESCE(last_read_message_id_user2, 0), ?) ELSE last_read_message_id_user2 END
+             WHERE id = ?
+               AND (user1_id = ? OR user2_id = ?)
+               AND last_message_id >= ?
+            """;
+
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    private final ConcurrentHashMap<ReadKey, Long> pending = new ConcurrentHashMap<>();
+
+    @Value("${chat.read.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.read.max-retries:5}")
+    private int maxRetries;
+
+    // 연속 실패 횟수 (성공하면 0 으로)
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public void submit(Long userId, Long chatroomId, Long lastReadMessageId) {
+        pending.merge(new ReadKey(userId, chatroomId), lastReadMessageId, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read.flush-interval-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        List<ReadMarker> batch = new ArrayList<>(pending.size());
+        for (ReadKey key : pending.keySet()) {
+            Long messageId = pending.remove(key);
+            if (messageId != null) {
+                batch.add(new ReadMarker(key.userId(), key.chatroomId(), messageId));
+            }
+        }
+        if (batch.isEmpty()) return;
+
+        List<ReadMarker> applied;
+        try {
+            applied = transactionTemplate.execute(status -> {
+                int[][] results = jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batchSize, (ps, m) -> {
+                    ps.setLong(1, m.userId());
+                    ps.setLong(2, m.messageId());
+                    ps.setLong(3, m.userId());
+                    ps.setLong(4, m.messageId());
+                    ps.setLong(5, m.chatroomId());
+                    ps.setLong(6, m.userId());
+                    ps.setLong(7, m.userId());
+                    ps.setLong(8, m.messageId());
+                });
+                List<ReadMarker> updated = new ArrayList<>();
+                int index = 0;
+                for (int[] chunk : results) {
+                    for (int rows : chunk) {
+                        ReadMarker m = batch.get(index++);
+                        if (rows != 0) updated.add(m); // 0: 참여자가 아니거나 잘못된 메시지 ID
+                    }
+                }
+                return storedMarkers(updated);
+            });
+        } catch (Exception e) {
+            int failed = failures.incrementAndGet();
+            if (failed > maxRetries) {
+                failures.set(0);
+                log.error("읽음 처리 일괄 반영이 {}회 연속 실패해 {}건을 버립니다: {}", failed, batch.size(), e.getMessage());
+                return;
+            }
+            // 그 사이 들어온 읽음 위치와 합쳐 다음 주기에 재시도 (읽음 위치는 앞으로만 가므로 큰 값 유지)
+            for (ReadMarker m : batch) {
+                pending.merge(new ReadKey(m.userId(), m.chatroomId()), m.messageId(), Math::max);
+            }
+            log.warn("읽음 처리 일괄 반영 실패 ({}건, {}회째), 다음 주기에 재시도: {}", batch.size(), failed, e.getMessage());
+            return;
+        }
+        failures.set(0);
+
+        String updatedAt = ISO.format(LocalDateTime.now());
+        for (ReadMarker m : applied) {
+            messagingTemplate.convertAndSend(
+                    "/sub/chatroom." + m.chatroomId() + ".read",
+                    new ChatReadResponse(m.chatroomId(), m.userId(), m.messageId(), updatedAt)
+            );
+        }
+        log.debug("읽음 처리 {}건 일괄 반영", batch.size());
+    }
+
+    // 종료 시 아직 모아 둔 읽음 위치 반영
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 반영 후 저장된 읽음 위치로 바꿔 돌려줌
+     * - GREATEST 로 더 큰 값이 이미 저장돼 있으면 제출한 값 대신 저장된 값을 브로드캐스트 (읽음 위치가 뒤로 가지 않음)
+     */
+    private List<ReadMarker> storedMarkers(List<ReadMarker> updated) {
+        if (updated.isEmpty()) return List.of();
+
+        // chatroomId -> {user1_id, user1 읽음 위치, user2 읽음 위치}
+        Map<Long, long[]> stored = new HashMap<>();
+        List<Long> roomIds = updated.stream().map(ReadMarker::chatroomId).distinct().toList();
+        for (int from = 0; from < roomIds.size(); from += batchSize) {
+            List<Long> ids = roomIds.subList(from, Math.min(from + batchSize, roomIds.size()));
+            String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+            jdbcTemplate.query("SELECT id, user1_id, COALESCE(last_read_message_id_user1, 0), COALESCE(last_read_message_id_user2, 0)"
+                            + " FROM chatroom WHERE id IN (" + placeholders + ")",
+                    rs -> {
+                        stored.put(rs.getLong(1), new long[]{rs.getLong(2), rs.getLong(3), rs.getLong(4)});
+                    },
+                    ids.toArray());
+        }
+
+        List<ReadMarker> markers = new ArrayList<>(updated.size());
+        for (ReadMarker m : updated) {
+            long[] row = stored.get(m.chatroomId());
+            if (row == null) continue;
+            long messageId = m.userId() == row[0] ? row[1] : row[2];
+            markers.add(new ReadMarker(m.userId(), m.chatroomId(), messageId));
+        }
+        return markers;
+    }
+
+    private record ReadKey(Long userId, Long chatroomId) {}
+
+    private record ReadMarker(Long userId, Long chatroomId, Long messageId) {}
+}
@@ -1,28 +1,156 @@
 package com.unimate.domain.chatroom.service;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 채팅방 접속 상태(presence) 레지스트리
+ * - 사용자당 여러 세션/기기를 (userId, chatroomId) 단위로 관리
+ * - 로컬 맵이 이 노드의 세션을, Redis 해시(presence:{userId}:{chatroomId})가 전체 노드의 세션을 보관
+ * - 모든 엔트리는 만료 시각을 가지며 heartbeat 로 연장 → 소켓이 끊기거나 노드가 죽어도 결국 사라짐
+ */
+@Slf4j
 @Service
 public class UserSessionService {
-    private final ConcurrentHashMap<Long, Long> userActiveChatrooms = new ConcurrentHashMap<>();
+
+    private static final String KEY_PREFIX = "presence:";
+    private static final String REST_SESSION = "rest"; // REST 입장/퇴장 알림으로 기록되는 가상 세션
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // (userId:chatroomId) -> (세션 키 -> 만료 시각 ms)
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Long>> localPresence = new ConcurrentHashMap<>();
+    // 다른 노드 세션 조회 결과 단기 캐시: (userId:chatroomId) -> [결과, 캐시 만료 시각 ms]
+    private final ConcurrentHashMap<String, long[]> remoteCache = new ConcurrentHashMap<>();
+
+    @Value("${presence.redis.enabled:${cache.redis.enabled:true}}")
+    private boolean redisEnabled;
+
+    @Value("${presence.ttl-seconds:90}")
+    private long ttlSeconds;
+
+    @Value("${presence.remote-cache-ms:1000}")
+    private long remoteCacheMs;
+
+    public UserSessionService(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
 
     public void enterChatroom(Long userId, Long chatroomId) {
-        userActiveChatrooms.put(userId, chatroomId);
+        enter(userId, chatroomId, REST_SESSION);
     }
 
-    // 특정 채팅방에서 나가기 (새로운 메서드)
+    // REST 퇴장: REST 가상 세션만 제거 (다른 기기의 STOMP 세션은 그대로 유지)
     public void leaveChatroom(Long userId, Long chatroomId) {
-        Long currentChatroomId = userActiveChatrooms.get(userId);
-        if (currentChatroomId != null && currentChatroomId.equals(chatroomId)) {
-            userActiveChatrooms.remove(userId);
+        exit(userId, chatroomId, REST_SESSION);
+    }
+
+    // STOMP 구독 등 세션 단위 입장
+    public void enter(Long userId, Long chatroomId, String sessionKey) {
+        String key = key(userId, chatroomId);
+        long expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+        localPresence.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(sessionKey, expiresAt);
+        remoteCache.remove(key);
+        writeRemote(key, sessionKey, expiresAt);
+    }
+
+    // 세션 단위 퇴장 (구독 해제, 연결 종료)
+    public void exit(Long userId, Long chatroomId, String sessionKey) {
+        String key = key(userId, chatroomId);
+        localPresence.computeIfPresent(key, (k, sessions) -> {
+            sessions.remove(sessionKey);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        remoteCache.remove(key);
+        if (redisEnabled) {
+            try {
+                redisTemplate.opsForHash().delete(KEY_PREFIX + key, field(sessionKey));
+            } catch (Exception e) {
+                log.debug("presence 세션 삭제 실패 key={}: {}", key, e.getMessage());
+            }
         }
     }
 
     // 사용자가 지정된 채팅방에 현재 활성화되어 있는지 확인
     public boolean isUserInChatroom(Long userId, Long chatroomId) {
-        Long currentChatroomId = userActiveChatrooms.get(userId);
-        boolean isInChatroom = chatroomId.equals(currentChatroomId);
-        return isInChatroom;
+        String key = key(userId, chatroomId);
+        long now = System.currentTimeMillis();
+
+        if (hasLive(localPresence.get(key), now)) return true;
+        if (!redisEnabled) return false;
+
+        long[] cached = remoteCache.get(key);
+        if (cached != null && cached[1] > now) return cached[0] == 1L;
+
+        boolean present = false;
+        try {
+            List<Object> expiries = redisTemplate.opsForHash().values(KEY_PREFIX + key);
+            for (Object v : expiries) {
+                if (Long.parseLong(v.toString()) > now) {
+                    present = true;
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.debug("presence 조회 실패 key={}: {}", key, e.getMessage());
+        }
+        remoteCache.put(key, new long[]{present ? 1L : 0L, now + remoteCacheMs});
+        return present;
+    }
+
+    /**
+     * heartbeat: 살아있는 STOMP 세션의 만료 시각을 연장하고, 만료된 로컬 엔트리(REST 가상 세션 등)를 정리
+     */
+    @Scheduled(fixedDelayString = "${presence.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlSeconds * 1000;
+
+        localPresence.forEach((key, sessions) -> {
+            sessions.replaceAll((sessionKey, exp) -> REST_SESSION.equals(sessionKey) ? exp : expiresAt);
+            sessions.entrySet().removeIf(e -> e.getValue() <= now);
+            if (sessions.isEmpty()) {
+                localPresence.remove(key, sessions);
+                return;
+            }
+            sessions.forEach((sessionKey, exp) -> writeRemote(key, sessionKey, exp));
+        });
+        remoteCache.entrySet().removeIf(e -> e.getValue()[1] <= now);
+    }
+
+    private void writeRemote(String key, String sessionKey, long expiresAt) {
+        if (!redisEnabled) return;
+        try {
+            redisTemplate.opsForHash().put(KEY_PREFIX + key, field(sessionKey), String.valueOf(expiresAt));
+            redisTemplate.expire(KEY_PREFIX + key, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.debug("presence 기록 실패 key={}: {}", key, e.getMessage());
+        }
+    }
+
+    private static boolean hasLive(Map<String, Long> sessions, long now) {
+        if (sessions == null) return false;
+        for (Long exp : sessions.values()) {
+            if (exp > now) return true;
+        }
+        return false;
+    }
+
+    private String field(String sessionKey) {
+        return nodeId + ":" + sessionKey;
+    }
+
+    private static String key(Long userId, Long chatroomId) {
+        return userId + ":" + chatroomId;
     }
 }
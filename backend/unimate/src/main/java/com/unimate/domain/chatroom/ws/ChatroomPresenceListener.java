@@ -0,0 +1,103 @@
+package com.unimate.domain.chatroom.ws;
+
+import com.unimate.domain.chatroom.service.UserSessionService;
+import com.unimate.global.jwt.CustomUserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 세션 이벤트로 채팅방 presence 갱신
+ * - /sub/chatroom.{id} 구독 = 입장, 구독 해제/연결 종료 = 퇴장
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatroomPresenceListener {
+
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/sub/chatroom\\.(\\d+)$");
+
+    private final UserSessionService userSessionService;
+
+    // sessionId -> 세션 상태 (사용자, 구독 ID별 채팅방)
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        Long userId = resolveUserId(event.getUser());
+        if (sessionId != null && userId != null) {
+            sessions.putIfAbsent(sessionId, new SessionState(userId));
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+        Long chatroomId = parseChatroomId(acc.getDestination());
+        Long userId = resolveUserId(event.getUser());
+        if (chatroomId == null || userId == null || acc.getSessionId() == null) return;
+
+        SessionState state = sessions.computeIfAbsent(acc.getSessionId(), id -> new SessionState(userId));
+        if (acc.getSubscriptionId() != null) {
+            state.rooms.put(acc.getSubscriptionId(), chatroomId);
+        }
+        userSessionService.enter(userId, chatroomId, acc.getSessionId());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+        SessionState state = acc.getSessionId() != null ? sessions.get(acc.getSessionId()) : null;
+        if (state == null || acc.getSubscriptionId() == null) return;
+
+        Long chatroomId = state.rooms.remove(acc.getSubscriptionId());
+        if (chatroomId != null && !state.rooms.containsValue(chatroomId)) {
+            userSessionService.exit(state.userId, chatroomId, acc.getSessionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionState state = sessions.remove(event.getSessionId());
+        if (state == null) return;
+        state.rooms.values().stream().distinct()
+                .forEach(chatroomId -> userSessionService.exit(state.userId, chatroomId, event.getSessionId()));
+    }
+
+    private static Long parseChatroomId(String destination) {
+        if (destination == null) return null;
+        Matcher m = ROOM_DESTINATION.matcher(destination);
+        return m.matches() ? Long.valueOf(m.group(1)) : null;
+    }
+
+    private static Long resolveUserId(Principal user) {
+        if (user instanceof Authentication a && a.getPrincipal() instanceof CustomUserPrincipal cup) {
+            return cup.getUserId();
+        }
+        if (user instanceof CustomUserPrincipal cup) {
+            return cup.getUserId();
+        }
+        return null;
+    }
+
+    private static final class SessionState {
+        private final Long userId;
+        private final Map<String, Long> rooms = new ConcurrentHashMap<>();
+
+        private SessionState(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.unimate.domain.match.repository;
 import com.unimate.domain.match.entity.Match;
 import com.unimate.domain.match.entity.MatchStatus;
 import com.unimate.domain.match.entity.MatchType;
-import com.unimate.domain.user.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -37,7 +36,5 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
         @Modifying
         @Query("DELETE FROM Match m WHERE (m.sender.id = :userId OR m.receiver.id = :userId) AND NOT (m.matchType = :requestType AND m.matchStatus = :acceptedStatus)")
         void deleteUnconfirmedMatchesByUserId(@Param("userId") Long userId, @Param("requestType") MatchType requestType, @Param("acceptedStatus") MatchStatus acceptedStatus);
-    
-        void deleteAllBySenderOrReceiver(User sender, User receiver);
     }
     
\ No newline at end of file
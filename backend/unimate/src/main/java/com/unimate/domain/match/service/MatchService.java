@@ -27,6 +27,9 @@ import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+
+import static com.unimate.domain.match.service.RecommendationMetrics.*;
 
 @Slf4j
 @Service
@@ -44,6 +47,13 @@ public class MatchService {
     private final NotificationService notificationService;
     private final UserMatchPreferenceRepository userMatchPreferenceRepository;
     private final MatchCacheService matchCacheService;
+    private final RecommendationMetrics recommendationMetrics;
+
+    private static final int RECOMMENDATION_LIMIT = 10;
+
+    // 점수 계산까지 끝난 후보 (상위 N명만 응답 아이템으로 조립)
+    private record ScoredCandidate<T>(T candidate, BigDecimal score) {
+    }
 
     @Value("${cache.redis.enabled:true}")
     private boolean redisCacheEnabled;
@@ -85,16 +95,25 @@ public class MatchService {
         UserMatchPreference senderPreference = userMatchPreferenceRepository.findByUserId(sender.getId())
                 .orElseThrow(() -> ServiceException.notFound("사용자의 매칭 선호도를 찾을 수 없습니다. 먼저 선호도를 등록해주세요."));
 
-        List<CachedUserProfile> cachedCandidates = matchCacheService.getAllCandidates();
-        log.info("Redis에서 {} 명의 후보 조회", cachedCandidates.size());
+        List<CachedUserProfile> cachedCandidates =
+                recommendationMetrics.time("cache", STAGE_LOAD, matchCacheService::getAllCandidates);
+        log.debug("Redis에서 {} 명의 후보 조회", cachedCandidates.size());
 
-        List<CachedUserProfile> filteredCandidates = filterCachedCandidates(
+        List<CachedUserProfile> filteredCandidates = recommendationMetrics.time("cache", STAGE_FILTER, () -> filterCachedCandidates(
                 cachedCandidates, sender.getId(), sender.getGender(), sender.getUniversity(),
                 sleepPatternFilter, ageRangeFilter, cleaningFrequencyFilter, startDate, endDate
-        );
+        ));
+        recommendationMetrics.candidates("cache", cachedCandidates.size(), filteredCandidates.size());
+
+        List<ScoredCandidate<CachedUserProfile>> top = recommendationMetrics.time("cache", STAGE_SCORE, () -> topScored(
+                filteredCandidates,
+                c -> BigDecimal.valueOf(similarityCalculator.calculateSimilarity(senderPreference, convertToUserProfile(c)))
+        ));
 
         List<MatchRecommendationResponse.MatchRecommendationItem> recommendations =
-                buildCachedRecommendations(filteredCandidates, senderPreference);
+                recommendationMetrics.time("cache", STAGE_ASSEMBLE, () -> top.stream()
+                        .map(s -> buildCachedRecommendationItem(s.candidate(), s.score(), senderPreference))
+                        .toList());
 
         return new MatchRecommendationResponse(recommendations);
     }
@@ -112,13 +131,23 @@ public class MatchService {
         UserMatchPreference senderPreference = userMatchPreferenceRepository.findByUserId(sender.getId())
                 .orElseThrow(() -> ServiceException.notFound("사용자의 매칭 선호도를 찾을 수 없습니다. 먼저 선호도를 등록해주세요."));
 
-        List<UserProfile> filteredCandidates = filterCandidates(
-                sender, sleepPatternFilter, ageRangeFilter,
+        List<UserProfile> allProfiles = recommendationMetrics.time("db", STAGE_LOAD, userProfileRepository::findAll);
+
+        List<UserProfile> filteredCandidates = recommendationMetrics.time("db", STAGE_FILTER, () -> filterCandidates(
+                allProfiles, sender, sleepPatternFilter, ageRangeFilter,
                 cleaningFrequencyFilter, startDate, endDate
-        );
+        ));
+        recommendationMetrics.candidates("db", allProfiles.size(), filteredCandidates.size());
+
+        List<ScoredCandidate<UserProfile>> top = recommendationMetrics.time("db", STAGE_SCORE, () -> topScored(
+                filteredCandidates,
+                c -> BigDecimal.valueOf(similarityCalculator.calculateSimilarity(senderPreference, c))
+        ));
 
         List<MatchRecommendationResponse.MatchRecommendationItem> recommendations =
-                buildRecommendations(filteredCandidates, senderPreference);
+                recommendationMetrics.time("db", STAGE_ASSEMBLE, () -> top.stream()
+                        .map(s -> buildRecommendationItem(s.candidate(), s.score(), senderPreference))
+                        .toList());
         
         return new MatchRecommendationResponse(recommendations);
     }
@@ -188,9 +217,9 @@ public class MatchService {
     }
 
     // DB 직접 조회 후보 필터링
-    private List<UserProfile> filterCandidates(User sender, String sleepPatternFilter, String ageRangeFilter, 
+    private List<UserProfile> filterCandidates(List<UserProfile> allProfiles, User sender, String sleepPatternFilter, String ageRangeFilter,
             String cleaningFrequencyFilter, LocalDate startDate, LocalDate endDate) {
-        return userProfileRepository.findAll()
+        return allProfiles
                 .stream()
                 .filter(p -> !p.getUser().getId().equals(sender.getId()))
                 // 자동 필터 (시스템에서 처리)
@@ -207,21 +236,18 @@ public class MatchService {
                 .toList();
     }
 
-    // 캐시된 데이터로 추천 아이템 생성
-    private List<MatchRecommendationResponse.MatchRecommendationItem> buildCachedRecommendations(
-            List<CachedUserProfile> candidates, UserMatchPreference senderPreference) {
+    // 유사도 점수 내림차순 상위 N명 (매칭 상태 조회 등 아이템 조립은 이 N명만)
+    private <T> List<ScoredCandidate<T>> topScored(List<T> candidates, Function<T, BigDecimal> scorer) {
         return candidates.stream()
-                .map(candidate -> buildCachedRecommendationItem(candidate, senderPreference))
-                .sorted(Comparator.comparing(MatchRecommendationResponse.MatchRecommendationItem::getPreferenceScore).reversed())
-                .limit(10)
+                .map(c -> new ScoredCandidate<>(c, scorer.apply(c)))
+                .sorted(Comparator.comparing((ScoredCandidate<T> s) -> s.score()).reversed())
+                .limit(RECOMMENDATION_LIMIT)
                 .toList();
     }
 
     // 캐시된 데이터로 개별 추천 아이템 생성
     private MatchRecommendationResponse.MatchRecommendationItem buildCachedRecommendationItem(
-            CachedUserProfile candidate, UserMatchPreference senderPreference) {
-        UserProfile candidateProfile = convertToUserProfile(candidate);
-        BigDecimal similarityScore = BigDecimal.valueOf(similarityCalculator.calculateSimilarity(senderPreference, candidateProfile));
+            CachedUserProfile candidate, BigDecimal similarityScore, UserMatchPreference senderPreference) {
 
         // 실제 매칭 상태 조회
         Optional<Match> existingMatch = matchRepository.findBySenderIdAndReceiverId(
@@ -273,24 +299,11 @@ public class MatchService {
         return iSentAccepted || theySentAccepted;
     }
 
-    /**
-     * 추천 아이템 생성
-     */
-    private List<MatchRecommendationResponse.MatchRecommendationItem> buildRecommendations(
-            List<UserProfile> candidates, UserMatchPreference senderPreference) {
-        return candidates.stream()
-                .map(candidate -> buildRecommendationItem(candidate, senderPreference))
-                .sorted(Comparator.comparing(MatchRecommendationResponse.MatchRecommendationItem::getPreferenceScore).reversed())
-                .limit(10) // 최대 10명으로 제한
-                .toList();
-    }
-
     /**
      * 개별 추천 아이템 생성
      */
     private MatchRecommendationResponse.MatchRecommendationItem buildRecommendationItem(
-            UserProfile candidate, UserMatchPreference senderPreference) {
-        BigDecimal similarityScore = BigDecimal.valueOf(similarityCalculator.calculateSimilarity(senderPreference, candidate));
+            UserProfile candidate, BigDecimal similarityScore, UserMatchPreference senderPreference) {
 
         // 실제 매칭 상태 조회
         Optional<Match> existingMatch = matchRepository.findBySenderIdAndReceiverId(
@@ -645,16 +658,14 @@ public class MatchService {
                     .build();
             matchRepository.save(newLike);
 
-            // (연타 방지) 이미 보낸 '좋아요' 알림이 없다면 새로 생성
-            if (!notificationService.notificationExistsBySender(receiverId, NotificationType.LIKE, senderId)) {
-                notificationService.createNotification(
-                        receiverId,
-                        NotificationType.LIKE,
-                        sender.getName() + " 님이 회원님을 좋아합니다.",
-                        sender.getName(),
-                        senderId
-                );
-            }
+            // (연타 방지) 같은 발신자의 '좋아요' 알림은 하나로 접힘
+            notificationService.createNotification(
+                    receiverId,
+                    NotificationType.LIKE,
+                    sender.getName() + " 님이 회원님을 좋아합니다.",
+                    sender.getName(),
+                    senderId
+            );
 
             return new LikeResponse(newLike.getId(), false); // 아직 상호 매칭(요청)은 아님
         }
@@ -677,16 +688,14 @@ public class MatchService {
         // 기존 '좋아요' 알림 삭제
         notificationService.deleteNotificationBySender(receiverId, NotificationType.LIKE, senderId);
 
-        // '좋아요 취소' 알림이 없다면 새로 생성
-        if (!notificationService.notificationExistsBySender(receiverId, NotificationType.LIKE_CANCELED, senderId)) {
-            notificationService.createNotification(
-                    receiverId,
-                    NotificationType.LIKE_CANCELED,
-                    sender.getName() + " 님이 좋아요를 취소했습니다.",
-                    sender.getName(),
-                    senderId
-            );
-        }
+        // '좋아요 취소' 알림 생성 (이미 있으면 하나로 접힘)
+        notificationService.createNotification(
+                receiverId,
+                NotificationType.LIKE_CANCELED,
+                sender.getName() + " 님이 좋아요를 취소했습니다.",
+                sender.getName(),
+                senderId
+        );
 
         matchRepository.delete(like);
     }
@@ -0,0 +1,47 @@
+package com.unimate.domain.match.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 추천 목록 단계별 지표
+ * - matching.recommendation.stage{mode=cache|db, stage=load|filter|score|assemble}: 단계별 소요 시간
+ * - matching.recommendation.candidates{mode, phase=loaded|filtered}: 후보 풀 크기
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationMetrics {
+
+    public static final String STAGE_LOAD = "load";
+    public static final String STAGE_FILTER = "filter";
+    public static final String STAGE_SCORE = "score";
+    public static final String STAGE_ASSEMBLE = "assemble";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T time(String mode, String stage, Supplier<T> work) {
+        return Timer.builder("matching.recommendation.stage")
+                .description("추천 목록 단계별 소요 시간")
+                .tags("mode", mode, "stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(work);
+    }
+
+    public void candidates(String mode, int loaded, int filtered) {
+        summary(mode, "loaded").record(loaded);
+        summary(mode, "filtered").record(filtered);
+    }
+
+    private DistributionSummary summary(String mode, String phase) {
+        return DistributionSummary.builder("matching.recommendation.candidates")
+                .description("추천 후보 풀 크기")
+                .tags("mode", mode, "phase", phase)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,13 @@
+package com.unimate.domain.message.dto;
+
+import java.time.LocalDateTime;
+
+// 보관 묶음(payload)에 저장되는 메시지 한 건
+public record ArchivedMessage(
+        Long id,
+        Long senderId,
+        String content,
+        String clientMessageId,
+        LocalDateTime createdAt
+) {
+}
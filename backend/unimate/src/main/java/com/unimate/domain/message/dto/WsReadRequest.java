@@ -0,0 +1,11 @@
+package com.unimate.domain.message.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+@Getter @NoArgsConstructor @AllArgsConstructor @Builder
+public class WsReadRequest {
+    @NotNull private Long chatroomId;
+    @NotNull @Positive private Long lastReadMessageId;
+}
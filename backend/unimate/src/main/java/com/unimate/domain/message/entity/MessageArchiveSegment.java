@@ -0,0 +1,51 @@
+package com.unimate.domain.message.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 채팅방 메시지 보관 묶음
+ * - 한 채팅방의 연속된 메시지(firstMessageId ~ lastMessageId)를 gzip JSON 으로 압축해 한 행에 저장
+ * - 원본 message 테이블에서는 삭제되어 활성 테이블과 idx_msg_room_id 인덱스를 작게 유지
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(
+        name = "message_archive_segment",
+        indexes = {
+                @Index(name = "idx_archive_room_first", columnList = "chatroom_id,first_message_id")
+        }
+)
+public class MessageArchiveSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chatroom_id", nullable = false)
+    private Long chatroomId;
+
+    @Column(name = "first_message_id", nullable = false)
+    private Long firstMessageId;
+
+    @Column(name = "last_message_id", nullable = false)
+    private Long lastMessageId;
+
+    @Column(name = "message_count", nullable = false)
+    private int messageCount;
+
+    // gzip 압축된 JSON 배열 (id 오름차순)
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
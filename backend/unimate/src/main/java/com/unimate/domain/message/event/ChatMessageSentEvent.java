@@ -0,0 +1,10 @@
+package com.unimate.domain.message.event;
+
+// 채팅 메시지 저장 완료 이벤트 (알림 등 부가 처리는 전송 경로 밖에서 수행)
+public record ChatMessageSentEvent(
+        Long chatroomId,
+        Long senderId,
+        Long receiverId,
+        Long messageId
+) {
+}
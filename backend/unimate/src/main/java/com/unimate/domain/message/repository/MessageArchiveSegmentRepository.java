@@ -0,0 +1,19 @@
+package com.unimate.domain.message.repository;
+
+import com.unimate.domain.message.entity.MessageArchiveSegment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MessageArchiveSegmentRepository extends JpaRepository<MessageArchiveSegment, Long> {
+
+    // 커서 이전 메시지를 담은 묶음 (최신 묶음부터)
+    List<MessageArchiveSegment> findByChatroomIdAndFirstMessageIdLessThanOrderByFirstMessageIdDesc(
+            Long chatroomId, Long beforeMessageId, Pageable pageable);
+
+    // 특정 메시지를 담은 묶음
+    Optional<MessageArchiveSegment> findFirstByChatroomIdAndFirstMessageIdLessThanEqualAndLastMessageIdGreaterThanEqual(
+            Long chatroomId, Long messageId, Long sameMessageId);
+}
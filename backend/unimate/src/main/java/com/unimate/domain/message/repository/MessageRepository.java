@@ -23,6 +23,9 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
 
     boolean existsByIdAndChatroom_Id(Long id, Long chatroomId);
 
+    // 보관 대상 메시지 (id 오름차순 묶음)
+    List<Message> findByChatroom_IdAndIdGreaterThanOrderByIdAsc(Long chatroomId, Long afterMessageId, Pageable pageable);
+
 
 
     Page<Message> findByChatroomId(Long chatroomId, Pageable pageable);
@@ -0,0 +1,180 @@
+package com.unimate.domain.message.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unimate.domain.chatroom.entity.Chatroom;
+import com.unimate.domain.chatroom.repository.ChatroomRepository;
+import com.unimate.domain.message.dto.ArchivedMessage;
+import com.unimate.domain.message.entity.Message;
+import com.unimate.domain.message.entity.MessageArchiveSegment;
+import com.unimate.domain.message.repository.MessageArchiveSegmentRepository;
+import com.unimate.domain.message.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 채팅방 메시지 보관(tiering)
+ * - 마지막 활동 후 일정 기간이 지난 방의 메시지를 묶음 단위로 압축해 message_archive_segment 로 이동
+ * - 묶음 하나 = 트랜잭션 하나 (방의 보관 위치 전진 → 저장 → 원본 삭제)
+ * - 보관 위치는 조회한 값일 때만 전진하는 단일 UPDATE → 동시에 도는 다른 인스턴스와 같은 묶음을 두 번 옮기지 않음
+ * - 히스토리 조회는 활성 테이블에서 모자란 만큼 보관 묶음에서 이어서 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageArchiveService {
+
+    private static final TypeReference<List<ArchivedMessage>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final ChatroomRepository chatroomRepository;
+    private final MessageRepository messageRepository;
+    private final MessageArchiveSegmentRepository segmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${message.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${message.archive.inactive-days:90}")
+    private int inactiveDays;
+
+    @Value("${message.archive.segment-size:500}")
+    private int segmentSize;
+
+    @Value("${message.archive.max-rooms-per-run:200}")
+    private int maxRoomsPerRun;
+
+    @Scheduled(cron = "${message.archive.cron:0 0 5 * * *}")
+    public void run() {
+        if (!enabled) return;
+        archiveInactiveRooms(LocalDateTime.now().minusDays(inactiveDays));
+    }
+
+    public int archiveInactiveRooms(LocalDateTime inactiveBefore) {
+        long start = System.currentTimeMillis();
+        List<Long> roomIds = chatroomRepository.findArchivableRoomIds(inactiveBefore, PageRequest.of(0, maxRoomsPerRun));
+
+        int archived = 0;
+        for (Long roomId : roomIds) {
+            try {
+                Integer moved;
+                do {
+                    moved = transactionTemplate.execute(status -> archiveNextSegment(roomId, inactiveBefore));
+                    archived += moved;
+                } while (moved == segmentSize);
+            } catch (Exception e) {
+                log.warn("메시지 보관 실패 chatroomId={}: {}", roomId, e.getMessage());
+            }
+        }
+
+        if (!roomIds.isEmpty()) {
+            log.info("메시지 보관 완료 - {}개 방, {}건 이동 ({}ms)",
+                    roomIds.size(), archived, System.currentTimeMillis() - start);
+        }
+        return archived;
+    }
+
+    // 보관 위치 이후의 메시지 한 묶음을 옮기고 옮긴 건수 반환
+    private int archiveNextSegment(Long roomId, LocalDateTime inactiveBefore) {
+        Chatroom room = chatroomRepository.findById(roomId).orElse(null);
+        if (room == null) return 0;
+        // 그 사이 대화가 재개된 방은 건너뜀
+        LocalDateTime lastAt = room.getLastMessageAt() != null ? room.getLastMessageAt() : room.getCreatedAt();
+        if (!lastAt.isBefore(inactiveBefore)) return 0;
+
+        long after = room.getArchivedUpToMessageId() != null ? room.getArchivedUpToMessageId() : 0L;
+        List<Message> messages = messageRepository.findByChatroom_IdAndIdGreaterThanOrderByIdAsc(
+                roomId, after, PageRequest.of(0, segmentSize));
+        if (messages.isEmpty()) return 0;
+
+        List<ArchivedMessage> rows = messages.stream()
+                .map(m -> new ArchivedMessage(m.getId(), m.getSenderId(), m.getContent(), m.getClientMessageId(), m.getCreatedAt()))
+                .toList();
+        Long lastId = rows.get(rows.size() - 1).id();
+
+        // 먼저 보관 위치를 선점 (행 잠금 → 같은 방을 옮기려는 다른 트랜잭션은 커밋을 기다린 뒤 0건)
+        if (chatroomRepository.advanceArchivedUpTo(roomId, after, lastId) == 0) {
+            return 0;
+        }
+
+        segmentRepository.save(MessageArchiveSegment.builder()
+                .chatroomId(roomId)
+                .firstMessageId(rows.get(0).id())
+                .lastMessageId(lastId)
+                .messageCount(rows.size())
+                .payload(encode(rows))
+                .build());
+        messageRepository.deleteAllByIdInBatch(rows.stream().map(ArchivedMessage::id).toList());
+
+        return rows.size();
+    }
+
+    /**
+     * 커서 이전의 보관 메시지 (id 내림차순, 최대 limit 건)
+     */
+    public List<ArchivedMessage> findBefore(Long chatroomId, Long beforeMessageId, int limit) {
+        List<ArchivedMessage> result = new ArrayList<>(limit);
+        long before = beforeMessageId != null ? beforeMessageId : Long.MAX_VALUE;
+
+        while (result.size() < limit) {
+            List<MessageArchiveSegment> segments = segmentRepository
+                    .findByChatroomIdAndFirstMessageIdLessThanOrderByFirstMessageIdDesc(chatroomId, before, PageRequest.of(0, 2));
+            if (segments.isEmpty()) break;
+
+            for (MessageArchiveSegment segment : segments) {
+                List<ArchivedMessage> rows = decode(segment.getPayload());
+                for (int i = rows.size() - 1; i >= 0 && result.size() < limit; i--) {
+                    if (rows.get(i).id() < before) {
+                        result.add(rows.get(i));
+                    }
+                }
+                before = segment.getFirstMessageId();
+                if (result.size() >= limit) break;
+            }
+        }
+        return result;
+    }
+
+    // 보관된 메시지 단건 (채팅방 목록의 마지막 메시지 요약용)
+    public Optional<ArchivedMessage> findMessage(Long chatroomId, Long messageId) {
+        return segmentRepository
+                .findFirstByChatroomIdAndFirstMessageIdLessThanEqualAndLastMessageIdGreaterThanEqual(chatroomId, messageId, messageId)
+                .flatMap(segment -> decode(segment.getPayload()).stream()
+                        .filter(m -> m.id().equals(messageId))
+                        .findFirst());
+    }
+
+    private byte[] encode(List<ArchivedMessage> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private List<ArchivedMessage> decode(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, PAYLOAD_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,20 +2,21 @@ package com.unimate.domain.message.ws;
 
 import com.unimate.domain.chatroom.entity.Chatroom;
 import com.unimate.domain.chatroom.service.ChatroomService;
-import com.unimate.domain.chatroom.service.UserSessionService;
+import com.unimate.domain.chatroom.service.ReadReceiptBuffer;
 import com.unimate.domain.message.dto.MessageType;
+import com.unimate.domain.message.dto.WsReadRequest;
 import com.unimate.domain.message.dto.WsMessagePush;
 import com.unimate.domain.message.dto.WsSendAckResponse;
 import com.unimate.domain.message.dto.WsSendMessageRequest;
 import com.unimate.domain.message.entity.Message;
+import com.unimate.domain.message.event.ChatMessageSentEvent;
 import com.unimate.domain.message.repository.MessageRepository;
-import com.unimate.domain.notification.entity.NotificationType;
-import com.unimate.domain.notification.service.NotificationService;
-import com.unimate.domain.user.user.entity.User;
-import com.unimate.domain.user.user.repository.UserRepository;
 import com.unimate.global.jwt.CustomUserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
@@ -34,9 +35,9 @@ public class ChatWsController {
     private final ChatroomService chatroomService;
     private final MessageRepository messageRepository;
     private final SimpMessageSendingOperations messagingTemplate;
-    private final NotificationService notificationService;
-    private final UserRepository userRepository;
-    private final UserSessionService userSessionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadReceiptBuffer readReceiptBuffer;
+    private final MeterRegistry meterRegistry;
 
     private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
@@ -46,25 +47,14 @@ public class ChatWsController {
             WsSendMessageRequest req,
             SimpMessageHeaderAccessor sha
     ) {
-        // Principal 해석
-        CustomUserPrincipal user = null;
-
-        if (principal instanceof Authentication a && a.getPrincipal() instanceof CustomUserPrincipal cup) {
-            user = cup;
-        }
-
-        if (user == null && sha != null && sha.getUser() instanceof Authentication a2
-                && a2.getPrincipal() instanceof CustomUserPrincipal cup2) {
-            user = cup2;
-        }
-
-        if (user == null) {
-            throw new org.springframework.security.access.AccessDeniedException("인증되지 않은 사용자입니다.");
-        }
+        CustomUserPrincipal user = resolveUser(principal, sha);
 
         final Long userId = user.getUserId();
         final String userNameKey = user.getName();
 
+        // 처리 시간/건수 (chat.message.send{result=ok|error}, 건수 = 초당 전송량)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "error";
         try {
             // 권한/방 상태 검증 (이미 CLOSED 상태도 검증함)
             Chatroom room = chatroomService.validateWritable(userId, req.getChatroomId());
@@ -116,28 +106,42 @@ public class ChatWsController {
                     .build();
             messagingTemplate.convertAndSendToUser(userNameKey, "/queue/chat.ack", ack);
 
-            // 상대방에게 채팅 알림 전송
+            // 상대방에게 채팅 알림 전송 (커밋 이후 비동기로 처리)
             Long partnerId = room.getUser1Id().equals(userId) ? room.getUser2Id() : room.getUser1Id();
-
-            // 상대방이 현재 채팅방에 있는지 확인
-            boolean isInChatroom = userSessionService.isUserInChatroom(partnerId, room.getId());
-
-            if (!isInChatroom) {
-                User sender = userRepository.findById(userId)
-                        .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-                notificationService.createChatNotification(
-                        partnerId,
-                        NotificationType.CHAT,
-                        sender.getName() + " 님에게 새로운 메시지가 도착했습니다.",
-                        sender.getName(),
-                        userId,
-                        room.getId()
-                );
-            }
+            eventPublisher.publishEvent(new ChatMessageSentEvent(room.getId(), userId, partnerId, msg.getId()));
+            result = "ok";
 
         } catch (Exception e) {
 
+        } finally {
+            sample.stop(meterRegistry.timer("chat.message.send", "result", result));
+        }
+    }
+
+    // 읽음 처리: 즉시 DB 반영하지 않고 버퍼에 모아 일괄 반영
+    @MessageMapping("/chat.read")
+    public void markRead(
+            Principal principal,
+            WsReadRequest req,
+            SimpMessageHeaderAccessor sha
+    ) {
+        CustomUserPrincipal user = resolveUser(principal, sha);
+        if (req == null || req.getChatroomId() == null || req.getLastReadMessageId() == null) return;
+
+        readReceiptBuffer.submit(user.getUserId(), req.getChatroomId(), req.getLastReadMessageId());
+    }
+
+    // Principal 해석
+    private CustomUserPrincipal resolveUser(Principal principal, SimpMessageHeaderAccessor sha) {
+        if (principal instanceof Authentication a && a.getPrincipal() instanceof CustomUserPrincipal cup) {
+            return cup;
+        }
+
+        if (sha != null && sha.getUser() instanceof Authentication a2
+                && a2.getPrincipal() instanceof CustomUserPrincipal cup2) {
+            return cup2;
         }
+
+        throw new org.springframework.security.access.AccessDeniedException("인증되지 않은 사용자입니다.");
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.unimate.domain.notification.controller;
 
+import com.unimate.domain.notification.dto.NotificationFeedResponse;
 import com.unimate.domain.notification.entity.Notification;
 import com.unimate.domain.notification.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,12 +15,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/v1/notifications")
 @RequiredArgsConstructor
 @Slf4j
+@Validated
 @Tag(name = "NotificationController", description = "알림 API")
 @SecurityRequirement(name = "BearerAuth")
 public class NotificationController {
@@ -37,6 +42,18 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    // 알림 피드 조회 (커서 페이지네이션)
+    @GetMapping("/feed")
+    @Operation(summary = "알림 피드 조회 (커서 페이지네이션)")
+    public ResponseEntity<NotificationFeedResponse> getFeed(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+
+        Long userId = Long.valueOf(authentication.getName());
+        return ResponseEntity.ok(notificationService.getFeed(userId, cursor, limit));
+    }
+
     // 읽지 않은 알림 개수 조회
     @GetMapping("/unread-count")
     @Operation(summary = "읽지 않은 알림 개수 조회")
@@ -60,6 +77,19 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    // 알림 일괄 읽음 처리 (upTo = 클라이언트가 받은 가장 최신 알림의 "lastActivityAt|id", 없으면 전체)
+    @PutMapping("/read-all")
+    @Operation(summary = "알림 일괄 읽음 처리")
+    public ResponseEntity<Void> markAllAsRead(
+            @RequestParam(required = false) String upTo,
+            Authentication authentication) {
+
+        Long userId = Long.valueOf(authentication.getName());
+        notificationService.markAllAsRead(userId, upTo);
+
+        return ResponseEntity.ok().build();
+    }
+
     // 알림 삭제
     @DeleteMapping("/{id}")
     @Operation(summary = "알림 삭제")
@@ -0,0 +1,10 @@
+package com.unimate.domain.notification.dto;
+
+// (수신자, 채팅방) 단위로 접힌 채팅 알림 생성 요청
+public record ChatNotificationDraft(
+        Long receiverId,
+        Long chatroomId,
+        Long senderId,
+        int messageCount
+) {
+}
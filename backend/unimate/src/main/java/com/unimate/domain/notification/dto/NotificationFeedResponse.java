@@ -0,0 +1,24 @@
+package com.unimate.domain.notification.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter @NoArgsConstructor @AllArgsConstructor
+public class NotificationFeedResponse {
+    private List<NotificationItem> items;
+    private String nextCursor; // "lastActivityAt|id" 커서(없으면 null)
+
+    @Getter @NoArgsConstructor @AllArgsConstructor
+    public static class NotificationItem {
+        private Long id;
+        private String type;
+        private String message;
+        private String senderName;
+        private Long senderId;
+        private Long chatroomId;
+        private Boolean isRead;     // JSON 키를 isRead 로 유지 (WS 페이로드와 동일)
+        private int count;          // 접힌 이벤트 수
+        private String createdAt;   // ISO_LOCAL_DATE_TIME
+        private String lastActivityAt; // 마지막으로 접히거나 되살아난 시각 (정렬 기준)
+    }
+}
@@ -6,12 +6,20 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_aggregation_key", columnNames = "aggregation_key"),
+        indexes = {
+                @Index(name = "idx_notification_user_activity", columnList = "user_id, last_activity_at, id"),
+                // 보관 기간 정리: 읽은 알림을 id 순으로 훑으며 경과 시각을 인덱스에서 바로 확인 (테이블 행을 읽지 않음)
+                @Index(name = "idx_notification_read_purge", columnList = "is_read, id, updated_at, created_at")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
@@ -43,19 +51,66 @@ public class Notification {
     @Column(name = "is_read", nullable = false)
     private boolean isRead = false;
 
+    // 같은 대상으로 접힌 이벤트 수 (예: 한 채팅방의 새 메시지 수)
+    @ColumnDefault("1")
+    @Column(name = "aggregate_count", nullable = false)
+    private int aggregateCount = 1;
+
+    // (수신자, 타입, 발신자 또는 채팅방)당 하나의 알림만 유지하기 위한 키
+    // 접을 대상이 없는 알림(발신자 없는 알림 등)은 자기 id 로 만든 키를 가짐 → 다른 알림과 합쳐지지 않음
+    @Column(name = "aggregation_key", length = 100)
+    private String aggregationKey;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 마지막으로 이벤트가 접히거나 되살아난 시각 (피드 정렬/커서 기준, 집계 upsert 가 함께 갱신)
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
     @Builder
     public Notification(User user, NotificationType type, String message,
-                        String senderName, Long senderId, Long chatroomId) {
+                        String senderName, Long senderId, Long chatroomId, Integer aggregateCount) {
         this.user = user;
         this.type = type;
         this.message = message;
         this.senderName = senderName;
         this.senderId = senderId;
         this.chatroomId = chatroomId;
+        this.aggregateCount = aggregateCount != null ? aggregateCount : 1;
+        this.aggregationKey = aggregationKey(type, user.getId(), senderId, chatroomId);
+    }
+
+    // 채팅은 채팅방 단위, 그 외는 발신자 단위로 접음 (접을 대상이 없으면 null → 저장 후 singleKey 부여)
+    public static String aggregationKey(NotificationType type, Long userId, Long senderId, Long chatroomId) {
+        if (type == NotificationType.CHAT) {
+            return chatroomId != null ? type + ":" + userId + ":R" + chatroomId : null;
+        }
+        return senderId != null ? type + ":" + userId + ":S" + senderId : null;
+    }
+
+    // 접지 않는 알림의 키 (알림 id 기준으로 유일)
+    public static String singleKey(NotificationType type, Long userId, Long notificationId) {
+        return type + ":" + userId + ":N" + notificationId;
+    }
+
+    @PrePersist
+    void initLastActivity() {
+        if (lastActivityAt == null) {
+            this.lastActivityAt = LocalDateTime.now();
+        }
+    }
+
+    @PostPersist
+    void assignSingleKey() {
+        if (aggregationKey == null) {
+            this.aggregationKey = singleKey(type, user.getId(), id);
+        }
     }
 
     // 읽음 처리
@@ -0,0 +1,58 @@
+package com.unimate.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 notifications 에서 옮겨진 읽은 알림
+ * - NotificationRetentionJob 이 묶음 단위 INSERT ... SELECT 로만 채움 (id 는 원본 알림 id 그대로 → 재실행해도 중복 없음)
+ * - 활성 테이블과 인덱스를 작게 유지하면서 지난 알림 조회/감사용 기록은 남김
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "notifications_archive",
+        indexes = @Index(name = "idx_notification_archive_user", columnList = "user_id, id")
+)
+public class NotificationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    @Column(name = "sender_name", length = 100)
+    private String senderName;
+
+    @Column(name = "sender_id")
+    private Long senderId;
+
+    @Column(name = "chatroom_id")
+    private Long chatroomId;
+
+    @Column(name = "aggregate_count", nullable = false)
+    private int aggregateCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 읽음 처리 시각 (원본의 updated_at)
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
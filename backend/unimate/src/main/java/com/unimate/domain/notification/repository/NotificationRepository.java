@@ -3,34 +3,56 @@ package com.unimate.domain.notification.repository;
 
 import com.unimate.domain.notification.entity.Notification;
 
-import com.unimate.domain.notification.entity.NotificationType;
 import com.unimate.domain.user.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    // 사용자의 모든 알림 조회 (최신순)
-    Page<Notification> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+    // 사용자의 모든 알림 조회 (최근 활동순)
+    Page<Notification> findByUserOrderByLastActivityAtDescIdDesc(User user, Pageable pageable);
+
+    // 알림 피드 첫 페이지 (user_id, last_activity_at, id 인덱스 순서로 읽음)
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.lastActivityAt DESC, n.id DESC")
+    List<Notification> findFeed(@Param("userId") Long userId, Pageable pageable);
+
+    // 알림 피드 다음 페이지 (커서 이후, COUNT/OFFSET 없음)
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+            "AND (n.lastActivityAt < :cursorAt OR (n.lastActivityAt = :cursorAt AND n.id < :cursorId)) " +
+            "ORDER BY n.lastActivityAt DESC, n.id DESC")
+    List<Notification> findFeedAfter(@Param("userId") Long userId,
+                                     @Param("cursorAt") LocalDateTime cursorAt,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
+
+    // 읽지 않은 알림 일괄 읽음 처리 (피드 커서 (lastActivityAt, id) 이하만, 커서가 없으면 전체)
+    // - id 가 아닌 피드 정렬 기준으로 자름 → 클라이언트가 본 뒤 되살아난(활동 시각이 갱신된) 알림은 남음
+    // - 활동 시각이 아직 없는 이전 알림은 커서보다 오래된 것으로 취급
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now " +
+            "WHERE n.user.id = :userId AND n.isRead = false " +
+            "AND (:upToAt IS NULL OR n.lastActivityAt IS NULL OR n.lastActivityAt < :upToAt " +
+            "OR (n.lastActivityAt = :upToAt AND n.id <= :upToId))")
+    int markAllAsRead(@Param("userId") Long userId,
+                      @Param("upToAt") LocalDateTime upToAt,
+                      @Param("upToId") Long upToId,
+                      @Param("now") LocalDateTime now);
 
     // 사용자의 읽지 않은 알림 개수
-    long countByUserAndIsReadFalse(User user);
+    long countByUser_IdAndIsReadFalse(Long userId);
 
     // 사용자의 읽지 않은 알림 조회
     List<Notification> findByUserAndIsReadFalseOrderByCreatedAtDesc(User user);
 
-    // 특정 사용자의 알림 삭제
-    void deleteByUser(User user);
-
-    // 사용자, 타입, 발신자 ID로 알림 조회
-    Optional<Notification> findByUserAndTypeAndSenderId(User user, NotificationType type, Long senderId);
-
-    // 사용자, 타입, 발신자 ID로 알림 삭제
-    @Transactional
-    void deleteByUserAndTypeAndSenderId(User user, NotificationType type, Long senderId);
+    // 집계 키로 알림 삭제 (조회 없이 단일 DELETE, 읽음 여부별로 나눠 삭제 건수로 개수 증감)
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.aggregationKey = :aggregationKey AND n.isRead = :isRead")
+    int deleteByAggregationKey(@Param("aggregationKey") String aggregationKey, @Param("isRead") boolean isRead);
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.chatroom.service.UserSessionService;
+import com.unimate.domain.message.event.ChatMessageSentEvent;
+import com.unimate.domain.notification.dto.ChatNotificationDraft;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 알림 비동기 발송
+ * - 메시지 저장(커밋) 후 이벤트를 받아 제한된 큐에 적재 (전송 스레드에서는 큐 적재만 수행)
+ * - 주기적으로 큐를 비우며 (수신자, 채팅방)별로 접고, 상대방이 채팅방에 없는 경우만 일괄 저장
+ * - 일괄 저장이 실패하면 건별로 나눠 다시 저장하고, 그래도 실패한 알림은 다음 주기에 재시도 (max-attempts 회 후 버림)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatNotificationDispatcher {
+
+    private final UserSessionService userSessionService;
+    private final NotificationService notificationService;
+
+    private final LongAdder dropped = new LongAdder();
+    private final Queue<Pending> retries = new ConcurrentLinkedQueue<>();
+    private BlockingQueue<ChatMessageSentEvent> queue;
+
+    @Value("${notification.chat.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${notification.chat.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${notification.chat.max-attempts:3}")
+    private int maxAttempts;
+
+    // 저장에 실패해 다음 주기에 다시 시도할 알림
+    private record Pending(ChatNotificationDraft draft, int attempts) {}
+
+    @PostConstruct
+    void init() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // WS 전송 경로는 트랜잭션이 없을 수 있으므로 fallbackExecution 허용
+    // 이 경우 STOMP 수신 스레드에서 바로 실행되므로 Redis 조회(접속 여부) 없이 큐에만 적재
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatMessageSent(ChatMessageSentEvent event) {
+        if (!queue.offer(event)) {
+            dropped.increment();
+            log.warn("채팅 알림 큐가 가득 차 알림을 버립니다. receiverId={}, chatroomId={}",
+                    event.receiverId(), event.chatroomId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.chat.flush-interval-ms:1000}")
+    public void flush() {
+        retryPending();
+
+        List<ChatMessageSentEvent> events = new ArrayList<>();
+        while (queue.drainTo(events, maxBatchSize) > 0) {
+            List<ChatNotificationDraft> drafts = collapse(events).stream()
+                    // 상대방이 현재 채팅방에 있으면 알림 생략 ((수신자, 채팅방)당 한 번만 조회)
+                    .filter(d -> !userSessionService.isUserInChatroom(d.receiverId(), d.chatroomId()))
+                    .toList();
+            if (!drafts.isEmpty()) {
+                save(drafts);
+            }
+            events.clear();
+        }
+    }
+
+    public int getRetryDepth() {
+        return retries.size();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // 일괄 저장 실패 시 건별로 나눠 문제 된 알림만 재시도 대상으로 남김 (나머지 알림까지 잃지 않도록)
+    private void save(List<ChatNotificationDraft> drafts) {
+        try {
+            notificationService.createChatNotifications(drafts);
+        } catch (Exception e) {
+            log.warn("채팅 알림 일괄 저장 실패, 건별로 다시 저장합니다. size={}: {}", drafts.size(), e.getMessage());
+            for (ChatNotificationDraft d : drafts) {
+                saveOne(new Pending(d, 0));
+            }
+        }
+    }
+
+    private void retryPending() {
+        for (int i = retries.size(); i > 0; i--) {
+            Pending p = retries.poll();
+            if (p == null) break;
+            saveOne(p);
+        }
+    }
+
+    private void saveOne(Pending p) {
+        try {
+            notificationService.createChatNotifications(List.of(p.draft()));
+        } catch (Exception e) {
+            int attempts = p.attempts() + 1;
+            ChatNotificationDraft d = p.draft();
+            if (attempts < maxAttempts) {
+                retries.add(new Pending(d, attempts));
+            } else {
+                dropped.add(d.messageCount());
+                log.warn("채팅 알림 저장이 {}회 실패해 버립니다. receiverId={}, chatroomId={}, messages={}: {}",
+                        attempts, d.receiverId(), d.chatroomId(), d.messageCount(), e.getMessage());
+            }
+        }
+    }
+
+    // 같은 (수신자, 채팅방)의 연속 메시지는 하나의 알림으로 접고 개수만 누적 (마지막 발신자 기준)
+    private static List<ChatNotificationDraft> collapse(List<ChatMessageSentEvent> events) {
+        Map<String, ChatNotificationDraft> collapsed = new LinkedHashMap<>();
+        for (ChatMessageSentEvent e : events) {
+            collapsed.merge(
+                    e.receiverId() + ":" + e.chatroomId(),
+                    new ChatNotificationDraft(e.receiverId(), e.chatroomId(), e.senderId(), 1),
+                    (prev, next) -> new ChatNotificationDraft(
+                            prev.receiverId(), prev.chatroomId(), next.senderId(),
+                            prev.messageCount() + next.messageCount())
+            );
+        }
+        return new ArrayList<>(collapsed.values());
+    }
+}
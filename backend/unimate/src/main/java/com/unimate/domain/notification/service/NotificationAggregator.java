@@ -0,0 +1,185 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.notification.entity.Notification;
+import com.unimate.domain.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 집계 upsert
+ * - aggregation_key(유니크)로 (수신자, 타입, 발신자/채팅방)당 한 행만 유지
+ * - 읽지 않은 행이면 개수 누적, 이미 읽은 행이면 다시 읽지 않음 상태로 되살림
+ * - 어느 경우든 last_activity_at(피드 정렬/커서 기준)을 갱신, created_at 은 바꾸지 않음
+ * - 존재 확인 없이 UPDATE 먼저 시도하고, 대상이 없을 때만 INSERT
+ * - 접을 대상이 없는 알림(키가 null)은 항상 새 행으로 저장하고 자기 id 로 만든 키를 부여
+ * - 결과에 푸시에 필요한 값(새 행 id, 활동 시각)을 담아 돌려줌 → 저장 후 다시 조회하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+class NotificationAggregator {
+
+    // 읽지 않은 행에 개수 누적
+    private static final String MERGE_SQL = """
+            UPDATE notifications
+               SET aggregate_count = aggregate_count + ?,
+                   message = ?,
+                   sender_name = ?,
+                   sender_id = ?,
+                   chatroom_id = ?,
+                   updated_at = ?,
+                   last_activity_at = ?
+             WHERE aggregation_key = ?
+               AND is_read = FALSE
+            """;
+
+    // 이미 읽은 행을 새 알림으로 되살림 (created_at 은 최초 생성 시각 그대로, 피드 정렬 기준인 last_activity_at 만 갱신)
+    private static final String REOPEN_SQL = """
+            UPDATE notifications
+               SET aggregate_count = ?,
+                   is_read = FALSE,
+                   message = ?,
+                   sender_name = ?,
+                   sender_id = ?,
+                   chatroom_id = ?,
+                   updated_at = ?,
+                   last_activity_at = ?
+             WHERE aggregation_key = ?
+               AND is_read = TRUE
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications
+                (user_id, type, message, sender_name, sender_id, chatroom_id,
+                 is_read, aggregate_count, aggregation_key, created_at, updated_at, last_activity_at)
+            VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SINGLE_KEY_SQL = "UPDATE notifications SET aggregation_key = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    record Draft(Long userId, NotificationType type, String message, String senderName,
+                 Long senderId, Long chatroomId, int count) {
+
+        // null 이면 다른 알림과 접지 않음 (insertSingle 로 저장)
+        String key() {
+            return Notification.aggregationKey(type, userId, senderId, chatroomId);
+        }
+    }
+
+    // 읽지 않은 알림 수가 바뀌는지(CREATED, REOPENED) 호출 측이 알 수 있도록 결과를 돌려줌
+    enum Outcome { CREATED, REOPENED, MERGED }
+
+    // id: 새로 INSERT 한 행만 (접히거나 되살아난 행은 null → 푸시는 집계 키로 식별), at: 기록한 last_activity_at
+    record Result(Outcome outcome, Long id, LocalDateTime at) {}
+
+    Result upsert(Draft draft) {
+        LocalDateTime now = LocalDateTime.now();
+        if (update(MERGE_SQL, draft, now) > 0) {
+            return new Result(Outcome.MERGED, null, now);
+        }
+        return reopenOrInsert(draft, now);
+    }
+
+    // 누적 UPDATE 는 한 번의 배치로, 대상 행이 없던 것만 개별 처리
+    List<Result> upsertAll(List<Draft> drafts) {
+        if (drafts.isEmpty()) return List.of();
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp ts = Timestamp.valueOf(now);
+        int[][] results = jdbcTemplate.batchUpdate(MERGE_SQL, drafts, drafts.size(),
+                (ps, d) -> bind(ps, d, ts));
+
+        List<Result> outcomes = new ArrayList<>(drafts.size());
+        int i = 0;
+        for (int[] chunk : results) {
+            for (int updated : chunk) {
+                Draft d = drafts.get(i++);
+                // 드라이버가 건별 결과를 주지 않으면(SUCCESS_NO_INFO) 단건으로 다시 확인
+                if (updated > 0 || (updated < 0 && update(MERGE_SQL, d, now) > 0)) {
+                    outcomes.add(new Result(Outcome.MERGED, null, now));
+                } else {
+                    outcomes.add(reopenOrInsert(d, now));
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * 접지 않는 알림 저장 → 생성된 id 로 키를 채움 (같은 트랜잭션 안에서 실행)
+     */
+    Result insertSingle(Draft d) {
+        LocalDateTime now = LocalDateTime.now();
+        Long id = insert(d, null, now);
+        jdbcTemplate.update(SINGLE_KEY_SQL, Notification.singleKey(d.type(), d.userId(), id), id);
+        return new Result(Outcome.CREATED, id, now);
+    }
+
+    private Result reopenOrInsert(Draft d, LocalDateTime now) {
+        if (update(REOPEN_SQL, d, now) > 0) {
+            return new Result(Outcome.REOPENED, null, now);
+        }
+        try {
+            return new Result(Outcome.CREATED, insert(d, d.key(), now), now);
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 키로 INSERT 가 일어나면 먼저 들어간 행에 합류
+            update(MERGE_SQL, d, now);
+            return new Result(Outcome.MERGED, null, now);
+        }
+    }
+
+    private Long insert(Draft d, String key, LocalDateTime now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL, new String[]{"id"});
+            bindInsert(ps, d, key, Timestamp.valueOf(now));
+            return ps;
+        }, keyHolder);
+        // MySQL 드라이버는 BigInteger 로 돌려주므로 Number 로 받음
+        return keyHolder.getKey().longValue();
+    }
+
+    private int update(String sql, Draft d, LocalDateTime now) {
+        Timestamp ts = Timestamp.valueOf(now);
+        return jdbcTemplate.update(sql, ps -> bind(ps, d, ts));
+    }
+
+    private static void bindInsert(PreparedStatement ps, Draft d, String key, Timestamp now) throws SQLException {
+        ps.setLong(1, d.userId());
+        ps.setString(2, d.type().name());
+        ps.setString(3, d.message());
+        ps.setString(4, d.senderName());
+        ps.setObject(5, d.senderId());
+        ps.setObject(6, d.chatroomId());
+        ps.setInt(7, d.count());
+        ps.setString(8, key);
+        ps.setTimestamp(9, now);
+        ps.setTimestamp(10, now);
+        ps.setTimestamp(11, now);
+    }
+
+    // 공통 컬럼 → 시각 컬럼(updated_at, last_activity_at) → 집계 키 순서로 바인딩
+    private static void bind(PreparedStatement ps, Draft d, Timestamp now) throws SQLException {
+        int idx = 1;
+        ps.setInt(idx++, d.count());
+        ps.setString(idx++, d.message());
+        ps.setString(idx++, d.senderName());
+        ps.setObject(idx++, d.senderId());
+        ps.setObject(idx++, d.chatroomId());
+        ps.setTimestamp(idx++, now);
+        ps.setTimestamp(idx++, now);
+        ps.setString(idx, d.key());
+    }
+}
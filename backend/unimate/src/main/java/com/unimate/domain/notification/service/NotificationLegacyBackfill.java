@@ -0,0 +1,108 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.notification.entity.Notification;
+import com.unimate.domain.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 집계 키/활동 시각 도입 전 알림 보정
+ * - last_activity_at 이 없는 행은 created_at 으로 채움 (묶음 단위 UPDATE)
+ * - aggregation_key 는 최신 행부터 처리해 (수신자, 타입, 발신자/채팅방)마다 가장 최근 알림이 집계 키를 가짐 → 이후 새 알림이 여기에 접힘
+ * - 같은 키를 이미 다른 행이 가졌거나 접을 대상이 없으면 자기 id 로 만든 키 부여
+ * - 행마다 key IS NULL 조건으로 갱신하므로 여러 인스턴스가 동시에 실행해도 안전
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class NotificationLegacyBackfill {
+
+    private static final String SELECT_SQL = """
+            SELECT id, user_id, type, sender_id, chatroom_id FROM notifications
+             WHERE aggregation_key IS NULL
+             ORDER BY id DESC
+             LIMIT ?
+            """;
+
+    private static final String ACTIVITY_SQL =
+            "UPDATE notifications SET last_activity_at = created_at WHERE last_activity_at IS NULL LIMIT ?";
+
+    private static final String ASSIGN_SQL =
+            "UPDATE notifications SET aggregation_key = ? WHERE id = ? AND aggregation_key IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${notification.legacy-backfill.chunk-size:500}")
+    private int chunkSize;
+
+    private record LegacyRow(Long id, Long userId, NotificationType type, Long senderId, Long chatroomId) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        backfillLastActivity();
+        backfillKeys();
+    }
+
+    private void backfillLastActivity() {
+        try {
+            long filled = 0;
+            int rows;
+            do {
+                rows = jdbcTemplate.update(ACTIVITY_SQL, chunkSize);
+                filled += rows;
+            } while (rows >= chunkSize);
+            if (filled > 0) {
+                log.info("[알림] 활동 시각 채우기 완료: {}건", filled);
+            }
+        } catch (Exception e) {
+            log.warn("[알림] 활동 시각 채우기 실패: {}", e.getMessage());
+        }
+    }
+
+    private void backfillKeys() {
+        try {
+            long assigned = 0;
+            while (true) {
+                List<LegacyRow> rows = jdbcTemplate.query(SELECT_SQL,
+                        (rs, i) -> new LegacyRow(
+                                rs.getLong(1),
+                                rs.getLong(2),
+                                NotificationType.valueOf(rs.getString(3)),
+                                rs.getObject(4, Long.class),
+                                rs.getObject(5, Long.class)),
+                        chunkSize);
+                if (rows.isEmpty()) break;
+
+                for (LegacyRow r : rows) {
+                    assigned += assign(r);
+                }
+                if (rows.size() < chunkSize) break;
+            }
+            if (assigned > 0) {
+                log.info("[알림] 집계 키 채우기 완료: {}건", assigned);
+            }
+        } catch (Exception e) {
+            log.warn("[알림] 집계 키 채우기 실패: {}", e.getMessage());
+        }
+    }
+
+    private int assign(LegacyRow r) {
+        String key = Notification.aggregationKey(r.type(), r.userId(), r.senderId(), r.chatroomId());
+        if (key != null) {
+            try {
+                return jdbcTemplate.update(ASSIGN_SQL, key, r.id());
+            } catch (DuplicateKeyException e) {
+                // 더 최근 알림이 이미 같은 키를 가짐 → 이 행은 따로 유지
+            }
+        }
+        return jdbcTemplate.update(ASSIGN_SQL, Notification.singleKey(r.type(), r.userId(), r.id()), r.id());
+    }
+}
@@ -0,0 +1,148 @@
+package com.unimate.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 알림 보관 기간 정리
+ * - 읽은 지 일정 기간이 지난 알림을 id 순으로 작은 묶음씩 삭제 (묶음마다 커밋 → 긴 잠금 없음)
+ * - archive.enabled 면 같은 트랜잭션에서 notifications_archive 로 먼저 복사한 뒤 삭제 (복사가 실패하면 삭제도 롤백)
+ * - 읽지 않은 알림은 보관 기간과 관계없이 유지
+ * - 조회는 idx_notification_read_purge (is_read, id, updated_at, created_at) 범위 스캔
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    // 읽은 시점은 updated_at(읽음 처리 시 갱신), 없으면 created_at 기준
+    private static final String SELECT_EXPIRED_SQL = """
+            SELECT id FROM notifications
+             WHERE is_read = TRUE
+               AND COALESCE(updated_at, created_at) < ?
+               AND id > ?
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    // 조회 후 처리 전에 되살아난(REOPEN) 알림은 제외하도록 조회 조건을 다시 확인하며 잠금 → 복사와 삭제 사이에 바뀌지 않음
+    private static final String LOCK_EXPIRED_SQL = """
+            SELECT id FROM notifications
+             WHERE id IN (%s)
+               AND is_read = TRUE
+               AND COALESCE(updated_at, created_at) < ?
+             FOR UPDATE
+            """;
+
+    private static final String ARCHIVE_SQL = """
+            INSERT INTO notifications_archive
+                (id, user_id, type, message, sender_name, sender_id, chatroom_id,
+                 aggregate_count, created_at, read_at, archived_at)
+            SELECT id, user_id, type, message, sender_name, sender_id, chatroom_id,
+                   aggregate_count, created_at, updated_at, ?
+              FROM notifications
+             WHERE id IN (%s)
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM notifications WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.retention.read-days:30}")
+    private int readRetentionDays;
+
+    // 삭제 전에 notifications_archive 로 옮겨 둘지 여부
+    @Value("${notification.retention.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${notification.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    // 한 번 실행에서 처리할 최대 묶음 수 (남은 건 다음 실행으로)
+    @Value("${notification.retention.max-chunks-per-run:500}")
+    private int maxChunksPerRun;
+
+    private volatile long lastPurged;
+    private volatile LocalDateTime lastRunAt;
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+    public void run() {
+        if (!enabled) return;
+        purgeReadOlderThan(LocalDateTime.now().minusDays(readRetentionDays));
+    }
+
+    public long purgeReadOlderThan(LocalDateTime cutoff) {
+        long start = System.currentTimeMillis();
+        Timestamp cutoffTs = Timestamp.valueOf(cutoff);
+        long purged = 0;
+        long lastId = 0;
+        int chunks = 0;
+
+        try {
+            while (chunks < maxChunksPerRun) {
+                List<Long> ids = jdbcTemplate.queryForList(SELECT_EXPIRED_SQL, Long.class, cutoffTs, lastId, chunkSize);
+                if (ids.isEmpty()) break;
+
+                Integer removed = transactionTemplate.execute(status -> purgeChunk(ids, cutoffTs));
+                purged += removed != null ? removed : 0;
+                lastId = ids.get(ids.size() - 1);
+                chunks++;
+
+                if (ids.size() < chunkSize) break;
+            }
+        } catch (Exception e) {
+            log.warn("알림 보관 기간 정리 중단 (삭제 {}건까지 반영): {}", purged, e.getMessage());
+        }
+
+        lastPurged = purged;
+        lastRunAt = LocalDateTime.now();
+        log.info("알림 보관 기간 정리 완료 - 기준 {} 이전 읽은 알림 {}건 삭제 ({}개 묶음, {}ms)",
+                cutoff, purged, chunks, System.currentTimeMillis() - start);
+        return purged;
+    }
+
+    // 한 묶음: 조건 재확인 + 잠금 → (보관) 복사 → 삭제, 한 트랜잭션
+    private int purgeChunk(List<Long> candidates, Timestamp cutoffTs) {
+        List<Object> lockArgs = new ArrayList<>(candidates);
+        lockArgs.add(cutoffTs);
+        List<Long> ids = jdbcTemplate.queryForList(
+                LOCK_EXPIRED_SQL.formatted(placeholders(candidates.size())), Long.class, lockArgs.toArray());
+        if (ids.isEmpty()) return 0;
+
+        String in = placeholders(ids.size());
+        if (archiveEnabled) {
+            List<Object> archiveArgs = new ArrayList<>();
+            archiveArgs.add(Timestamp.valueOf(LocalDateTime.now()));
+            archiveArgs.addAll(ids);
+            jdbcTemplate.update(ARCHIVE_SQL.formatted(in), archiveArgs.toArray());
+        }
+        return jdbcTemplate.update(DELETE_SQL.formatted(in), ids.toArray());
+    }
+
+    private static String placeholders(int n) {
+        return String.join(",", Collections.nCopies(n, "?"));
+    }
+
+    public long getLastPurged() {
+        return lastPurged;
+    }
+
+    public LocalDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+}
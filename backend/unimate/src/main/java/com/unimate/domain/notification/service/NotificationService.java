@@ -1,22 +1,31 @@
 package com.unimate.domain.notification.service;
 
 
+import com.unimate.domain.notification.dto.ChatNotificationDraft;
+import com.unimate.domain.notification.dto.NotificationFeedResponse;
 import com.unimate.domain.notification.entity.Notification;
 import com.unimate.domain.notification.entity.NotificationType;
 import com.unimate.domain.notification.repository.NotificationRepository;
 import com.unimate.domain.user.user.entity.User;
 import com.unimate.domain.user.user.repository.UserRepository;
 import com.unimate.global.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
-
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -25,67 +34,115 @@ import java.util.Map;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationAggregator notificationAggregator;
+    private final UnreadNotificationCounter unreadNotificationCounter;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
-    // 알림 생성
+    // 알림 생성 (같은 발신자의 같은 타입 알림이 있으면 하나로 접힘)
     @Transactional
     public void createNotification(Long userId, NotificationType type,
                                    String message, String senderName, Long senderId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> ServiceException.notFound("사용자를 찾을 수 없습니다."));
-
-        Notification notification = Notification.builder()
-                .user(user)
-                .type(type)
-                .message(message)
-                .senderName(senderName)
-                .senderId(senderId)
-                .build();
-
-        notificationRepository.save(notification);
-        sendWebSocketNotification(notification);
+        upsertNotification(new NotificationAggregator.Draft(userId, type, message, senderName, senderId, null, 1));
     }
 
     // 채팅방 관련 알림 생성
     @Transactional
     public void createChatNotification(Long userId, NotificationType type,
                                        String message, String senderName, Long senderId, Long chatroomId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> ServiceException.notFound("사용자를 찾을 수 없습니다."));
+        upsertNotification(new NotificationAggregator.Draft(userId, type, message, senderName, senderId, chatroomId, 1));
+    }
+
+    /**
+     * 접힌 채팅 알림 일괄 생성
+     * - (수신자, 채팅방)당 하나의 알림에 메시지 수를 누적
+     */
+    @Transactional
+    public void createChatNotifications(List<ChatNotificationDraft> drafts) {
+        if (drafts.isEmpty()) return;
+
+        Map<Long, String> senderNames = userRepository.findAllById(
+                        drafts.stream().map(ChatNotificationDraft::senderId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, User::getName));
+
+        List<NotificationAggregator.Draft> rows = drafts.stream()
+                .filter(d -> d.chatroomId() != null && senderNames.containsKey(d.senderId()))
+                .map(d -> new NotificationAggregator.Draft(
+                        d.receiverId(),
+                        NotificationType.CHAT,
+                        senderNames.get(d.senderId()) + " 님에게 새로운 메시지가 도착했습니다.",
+                        senderNames.get(d.senderId()),
+                        d.senderId(),
+                        d.chatroomId(),
+                        d.messageCount()))
+                .toList();
+
+        List<NotificationAggregator.Result> results = notificationAggregator.upsertAll(rows);
+
+        // 수신자별로 개수 증감과 알림 푸시를 커밋 이후 한 번에
+        Map<Long, Long> unreadDelta = new LinkedHashMap<>();
+        Map<Long, List<Runnable>> pushes = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            NotificationAggregator.Draft row = rows.get(i);
+            NotificationAggregator.Result result = results.get(i);
+            unreadDelta.merge(row.userId(), result.outcome() != NotificationAggregator.Outcome.MERGED ? 1L : 0L, Long::sum);
+            pushes.computeIfAbsent(row.userId(), k -> new ArrayList<>())
+                    .add(() -> sendWebSocketNotification(row, row.key(), result));
+        }
+        unreadDelta.forEach((userId, delta) ->
+                unreadNotificationCounter.adjust(userId, delta, () -> pushes.get(userId).forEach(Runnable::run)));
+    }
 
-        Notification notification = Notification.builder()
-                .user(user)
-                .type(type)
-                .message(message)
-                .senderName(senderName)
-                .senderId(senderId)
-                .chatroomId(chatroomId)
-                .build();
-
-        notificationRepository.save(notification);
-        sendWebSocketNotification(notification);
+    private void upsertNotification(NotificationAggregator.Draft draft) {
+        if (draft.key() == null) {
+            // 접을 대상(발신자/채팅방)이 없는 알림은 항상 새로 저장
+            NotificationAggregator.Result result = notificationAggregator.insertSingle(draft);
+            String key = Notification.singleKey(draft.type(), draft.userId(), result.id());
+            unreadNotificationCounter.adjust(draft.userId(), 1, () -> sendWebSocketNotification(draft, key, result));
+            return;
+        }
+        NotificationAggregator.Result result = notificationAggregator.upsert(draft);
+        long delta = result.outcome() != NotificationAggregator.Outcome.MERGED ? 1 : 0;
+        unreadNotificationCounter.adjust(draft.userId(), delta, () -> sendWebSocketNotification(draft, draft.key(), result));
     }
 
-    private void sendWebSocketNotification(Notification notification) {
+    /**
+     * 저장한 값으로 바로 푸시 (다시 조회하지 않음)
+     * - id 는 새로 만든 행만 포함, 접히거나 되살아난 알림은 aggregationKey 로 기존 항목을 찾아 갱신
+     * - added: 이번에 접힌 이벤트 수 (누적 개수는 피드 조회로 확인)
+     */
+    private void sendWebSocketNotification(NotificationAggregator.Draft draft, String key,
+                                           NotificationAggregator.Result result) {
         try {
             Map<String, Object> payload = new HashMap<>();
-            payload.put("id", notification.getId());
-            payload.put("type", notification.getType().toString());
-            payload.put("message", notification.getMessage());
-            payload.put("senderName", notification.getSenderName());
-            payload.put("senderId", notification.getSenderId());
-            payload.put("chatroomId", notification.getChatroomId());
-            payload.put("isRead", notification.isRead());
-            payload.put("createdAt", notification.getCreatedAt().toString());
+            payload.put("id", result.id());
+            payload.put("aggregationKey", key);
+            payload.put("type", draft.type().toString());
+            payload.put("message", draft.message());
+            payload.put("senderName", draft.senderName());
+            payload.put("senderId", draft.senderId());
+            payload.put("chatroomId", draft.chatroomId());
+            payload.put("isRead", false);
+            payload.put("added", draft.count());
+            payload.put("outcome", result.outcome().name());
+            if (result.outcome() == NotificationAggregator.Outcome.CREATED) {
+                payload.put("createdAt", result.at().toString());
+            }
+            payload.put("lastActivityAt", result.at().toString());
 
             messagingTemplate.convertAndSendToUser(
-                    notification.getUser().getId().toString(),
+                    draft.userId().toString(),
                     "/queue/notifications",
                     payload
             );
+            meterRegistry.counter("notification.push", "type", draft.type().name(), "result", "ok").increment();
         } catch (Exception e) {
             // WebSocket 실패해도 DB에는 저장되어 있으므로 무시
+            meterRegistry.counter("notification.push", "type", draft.type().name(), "result", "error").increment();
         }
     }
 
@@ -94,15 +151,71 @@ public class NotificationService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> ServiceException.notFound("사용자를 찾을 수 없습니다."));
 
-        return notificationRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+        return notificationRepository.findByUserOrderByLastActivityAtDescIdDesc(user, pageable);
     }
 
-    // 읽지 않은 알림 개수 조회
-    public long getUnreadCount(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> ServiceException.notFound("사용자를 찾을 수 없습니다."));
+    // 알림 피드 (키셋 페이지네이션, cursor = "lastActivityAt|id")
+    public NotificationFeedResponse getFeed(Long userId, String cursor, int limit) {
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        PageRequest pr = PageRequest.of(0, limit + 1);
+        List<Notification> rows;
+
+        FeedCursor after = FeedCursor.parse(cursor);
+        if (after == null) {
+            rows = notificationRepository.findFeed(userId, pr);
+        } else {
+            rows = notificationRepository.findFeedAfter(userId, after.at(), after.id(), pr);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<Notification> page = hasNext ? rows.subList(0, limit) : rows;
+
+        List<NotificationFeedResponse.NotificationItem> items = page.stream()
+                .map(n -> new NotificationFeedResponse.NotificationItem(
+                        n.getId(),
+                        n.getType().name(),
+                        n.getMessage(),
+                        n.getSenderName(),
+                        n.getSenderId(),
+                        n.getChatroomId(),
+                        n.isRead(),
+                        n.getAggregateCount(),
+                        ISO.format(n.getCreatedAt()),
+                        ISO.format(activityAt(n))
+                ))
+                .toList();
+
+        String next = null;
+        if (hasNext) {
+            Notification last = page.get(page.size() - 1);
+            next = ISO.format(activityAt(last)) + "|" + last.getId();
+        }
+        return new NotificationFeedResponse(items, next);
+    }
+
+    // 활동 시각이 아직 채워지지 않은 이전 알림은 생성 시각으로 대신함
+    private static LocalDateTime activityAt(Notification n) {
+        return n.getLastActivityAt() != null ? n.getLastActivityAt() : n.getCreatedAt();
+    }
+
+    // 피드 커서 "lastActivityAt|id" (비어 있으면 null)
+    private record FeedCursor(LocalDateTime at, Long id) {
+
+        static FeedCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            try {
+                int sep = cursor.lastIndexOf('|');
+                return new FeedCursor(LocalDateTime.parse(cursor.substring(0, sep), ISO),
+                        Long.valueOf(cursor.substring(sep + 1)));
+            } catch (Exception e) {
+                throw ServiceException.badRequest("잘못된 커서입니다.");
+            }
+        }
+    }
 
-        return notificationRepository.countByUserAndIsReadFalse(user);
+    // 읽지 않은 알림 개수 조회 (캐시된 카운터)
+    public long getUnreadCount(Long userId) {
+        return unreadNotificationCounter.get(userId);
     }
 
     // 알림 읽음 처리
@@ -115,7 +228,22 @@ public class NotificationService {
             throw ServiceException.forbidden("본인의 알림만 읽을 수 있습니다.");
         }
 
-        notification.markAsRead();
+        if (!notification.isRead()) {
+            notification.markAsRead();
+            unreadNotificationCounter.adjust(userId, -1);
+        }
+    }
+
+    // 알림 일괄 읽음 처리 (피드 커서 upTo 이하 전체, 없으면 모두) - 단일 UPDATE
+    @Transactional
+    public int markAllAsRead(Long userId, String upTo) {
+        FeedCursor bound = FeedCursor.parse(upTo);
+        int updated = notificationRepository.markAllAsRead(userId,
+                bound != null ? bound.at() : null,
+                bound != null ? bound.id() : null,
+                LocalDateTime.now());
+        unreadNotificationCounter.adjust(userId, -updated);
+        return updated;
     }
 
     // 알림 삭제
@@ -129,6 +257,9 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+        if (!notification.isRead()) {
+            unreadNotificationCounter.adjust(userId, -1);
+        }
     }
 
     /**
@@ -136,17 +267,10 @@ public class NotificationService {
      */
     @Transactional
     public void deleteNotificationBySender(Long receiverId, NotificationType type, Long senderId) {
-        User receiver = userRepository.findById(receiverId)
-                .orElseThrow(() -> ServiceException.notFound("알림 수신자를 찾을 수 없습니다."));
-        notificationRepository.deleteByUserAndTypeAndSenderId(receiver, type, senderId);
-    }
-
-    /**
-     * 발신자 ID를 기준으로 특정 알림이 존재하는지 확인하는 메서드
-     */
-    public boolean notificationExistsBySender(Long receiverId, NotificationType type, Long senderId) {
-        User receiver = userRepository.findById(receiverId)
-                .orElseThrow(() -> ServiceException.notFound("알림 수신자를 찾을 수 없습니다."));
-        return notificationRepository.findByUserAndTypeAndSenderId(receiver, type, senderId).isPresent();
+        String key = Notification.aggregationKey(type, receiverId, senderId, null);
+        if (key == null) return;
+        int unreadDeleted = notificationRepository.deleteByAggregationKey(key, false);
+        notificationRepository.deleteByAggregationKey(key, true);
+        unreadNotificationCounter.adjust(receiverId, -unreadDeleted);
     }
 }
\ No newline at end of file
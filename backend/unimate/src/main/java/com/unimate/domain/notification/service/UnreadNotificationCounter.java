@@ -0,0 +1,165 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 수 카운터
+ * - Redis(notif:unread:{userId})에 개수를 보관하고 생성/읽음/삭제 시 증감 → 조회는 O(1)
+ * - 키가 없으면 DB 에서 한 번 세어 적재 (TTL 로 자연 만료)
+ * - 변경된 사용자는 touched 세트에 모아 주기적으로 DB 와 다시 맞춤
+ * - 변경된 개수는 커밋 이후 /user/queue/notifications 로 푸시
+ */
+@Slf4j
+@Service
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notif:unread:";
+    private static final String TOUCHED_KEY = "notif:unread:touched";
+
+    // 키가 있을 때만 증감 (없으면 다음 조회 때 DB 에서 적재되므로 건드리지 않음), 음수로 내려가지 않게 보정
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return nil end
+            local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if v < 0 then redis.call('SET', KEYS[1], 0) v = 0 end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return v
+            """, Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.unread.redis.enabled:${cache.redis.enabled:true}}")
+    private boolean redisEnabled;
+
+    @Value("${notification.unread.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${notification.unread.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+                                     StringRedisTemplate redisTemplate,
+                                     SimpMessagingTemplate messagingTemplate,
+                                     MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public long get(Long userId) {
+        if (!redisEnabled) {
+            return countFromDb(userId);
+        }
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+            long count = countFromDb(userId);
+            redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + userId, String.valueOf(count), Duration.ofSeconds(ttlSeconds));
+            return count;
+        } catch (Exception e) {
+            log.debug("읽지 않은 알림 수 캐시 조회 실패 userId={}: {}", userId, e.getMessage());
+            return countFromDb(userId);
+        }
+    }
+
+    public void adjust(Long userId, long delta) {
+        adjust(userId, delta, null);
+    }
+
+    /**
+     * 개수 증감 후 새 값을 푸시하고 이어서 then 실행 (알림 본문 푸시 등)
+     * - 트랜잭션 안이면 커밋 이후 한 콜백에서 함께 반영 (롤백된 알림이 개수/푸시에 섞이지 않도록)
+     */
+    public void adjust(Long userId, long delta, Runnable then) {
+        if (delta == 0 && then == null) return;
+
+        Runnable work = () -> {
+            if (delta != 0) {
+                applyAndPush(userId, delta);
+            }
+            if (then != null) {
+                then.run();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    work.run();
+                }
+            });
+        } else {
+            work.run();
+        }
+    }
+
+    // 캐시와 DB 를 주기적으로 맞춤 (최근 변경된 사용자만)
+    @Scheduled(fixedDelayString = "${notification.unread.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!redisEnabled) return;
+
+        try {
+            List<String> userIds;
+            while (!(userIds = redisTemplate.opsForSet().pop(TOUCHED_KEY, reconcileBatchSize)).isEmpty()) {
+                for (String userId : userIds) {
+                    long count = countFromDb(Long.valueOf(userId));
+                    redisTemplate.opsForValue().set(KEY_PREFIX + userId, String.valueOf(count), Duration.ofSeconds(ttlSeconds));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    private void applyAndPush(Long userId, long delta) {
+        Long count = null;
+        if (redisEnabled) {
+            try {
+                count = redisTemplate.execute(ADJUST_SCRIPT, List.of(KEY_PREFIX + userId),
+                        String.valueOf(delta), String.valueOf(ttlSeconds));
+                redisTemplate.opsForSet().add(TOUCHED_KEY, userId.toString());
+            } catch (Exception e) {
+                log.debug("읽지 않은 알림 수 증감 실패 userId={}: {}", userId, e.getMessage());
+            }
+        }
+        push(userId, count != null ? count : get(userId));
+    }
+
+    private void push(Long userId, long count) {
+        try {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("type", "UNREAD_COUNT");
+            payload.put("unreadCount", count);
+            messagingTemplate.convertAndSendToUser(userId.toString(), "/queue/notifications", payload);
+            meterRegistry.counter("notification.push", "type", "UNREAD_COUNT", "result", "ok").increment();
+        } catch (Exception e) {
+            // 푸시 실패해도 다음 조회 때 정확한 값을 받을 수 있으므로 무시
+            meterRegistry.counter("notification.push", "type", "UNREAD_COUNT", "result", "error").increment();
+        }
+    }
+
+    private long countFromDb(Long userId) {
+        return notificationRepository.countByUser_IdAndIsReadFalse(userId);
+    }
+}
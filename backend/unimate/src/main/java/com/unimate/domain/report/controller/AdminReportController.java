@@ -3,9 +3,11 @@ package com.unimate.domain.report.controller;
 
 import com.unimate.domain.report.dto.AdminReportActionRequest;
 import com.unimate.domain.report.dto.AdminReportActionResponse;
+import com.unimate.domain.report.dto.ReportDashboardResponse;
 import com.unimate.domain.report.dto.ReportDetailResponse;
 import com.unimate.domain.report.dto.ReportListResponse;
 import com.unimate.domain.report.service.AdminReportService;
+import com.unimate.domain.user.user.dto.AccountDeactivationResponse;
 import com.unimate.global.jwt.CustomUserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -28,7 +30,7 @@ public class AdminReportController {
     private final AdminReportService adminReportService;
 
     @GetMapping
-    @Operation(summary = "신고 조회")
+    @Operation(summary = "신고 조회", description = "keyword 검색 시 sort=relevance 로 관련도순 정렬, 응답의 statusCounts 는 검색어 기준 상태별 건수")
     public ResponseEntity<ReportListResponse> getReports(
             @AuthenticationPrincipal CustomUserPrincipal user,
             @PageableDefault(size = 10, sort = "createdAt") Pageable pageable,
@@ -39,6 +41,16 @@ public class AdminReportController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/dashboard")
+    @Operation(summary = "신고 대시보드", description = "상태별 건수, 미처리 건수, 최근 days 일의 일별/분류별 건수, 많이 신고된 사용자 top 명 (집계 테이블 조회)")
+    public ResponseEntity<ReportDashboardResponse> getDashboard(
+            @AuthenticationPrincipal CustomUserPrincipal user,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "10") int top) {
+        ReportDashboardResponse response = adminReportService.getDashboard(user.getUserId(), days, top);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{reportId}")
     @Operation(summary = "신고 상세 조회")
     public ResponseEntity<ReportDetailResponse> getReportDetail(
@@ -49,7 +61,7 @@ public class AdminReportController {
     }
 
     @PatchMapping("/{reportId}/action")
-    @Operation(summary = "신고 상태 변경")
+    @Operation(summary = "신고 상태 변경", description = "DEACTIVATE 는 탈퇴 처리를 시작만 하고 바로 응답, 진행 상황은 탈퇴 처리 조회로 확인")
     public ResponseEntity<AdminReportActionResponse> handleReportAction(
             @AuthenticationPrincipal CustomUserPrincipal user,
             @PathVariable Long reportId,
@@ -58,4 +70,13 @@ public class AdminReportController {
         AdminReportActionResponse response = adminReportService.processReportAction(user.getUserId(), reportId, request);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/deactivations/{userId}")
+    @Operation(summary = "강제 탈퇴 처리 조회", description = "진행 단계, 처리한 행 수, 실패 사유")
+    public ResponseEntity<AccountDeactivationResponse> getDeactivation(
+            @AuthenticationPrincipal CustomUserPrincipal user,
+            @PathVariable Long userId) {
+        AccountDeactivationResponse response = adminReportService.getDeactivation(user.getUserId(), userId);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,39 @@
+package com.unimate.domain.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ReportDashboardResponse {
+    // 전체 기간 상태별 건수
+    private Map<String, Long> statusCounts;
+    // 미처리(RECEIVED + IN_PROGRESS) 건수
+    private long pendingBacklog;
+    private List<DailyCount> daily;
+    private List<TopReportedUser> topReported;
+
+    @Getter
+    @AllArgsConstructor
+    public static class DailyCount {
+        private LocalDate date;
+        private String status;
+        private String category;
+        private long count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TopReportedUser {
+        private Long userId;
+        private String name;
+        private long reportCount;
+        private long pendingCount;
+        private LocalDateTime lastReportedAt;
+    }
+}
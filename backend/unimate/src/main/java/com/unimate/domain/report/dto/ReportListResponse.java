@@ -1,10 +1,10 @@
 package com.unimate.domain.report.dto;
 
-import com.unimate.domain.report.entity.Report;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @AllArgsConstructor
@@ -14,4 +14,6 @@ public class ReportListResponse {
     private int size;
     private long totalElements;
     private int totalPages;
+    // 검색어 기준 상태별 건수 (상태 필터와 무관)
+    private Map<String, Long> statusCounts;
 }
@@ -28,6 +28,17 @@ public class Report extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ReportStatus reportStatus;
 
+    // 검색용 스냅샷: 신고 시점의 이름 (사용자가 탈퇴해 참조가 null 이 되어도 검색 가능)
+    @Column(name = "reporter_name", length = 100)
+    private String reporterName;
+
+    @Column(name = "reported_name", length = 100)
+    private String reportedName;
+
+    // 신고자/피신고자 이름 + 내용 (MySQL 에서는 ngram FULLTEXT 인덱스 대상, ReportSearchService 참고)
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
     @Builder
     private Report(User reporter,
                    User reported,
@@ -41,6 +52,16 @@ public class Report extends BaseEntity {
         this.reportStatus = (reportStatus != null)
                 ? reportStatus
                 : ReportStatus.RECEIVED;
+        this.reporterName = reporter != null ? reporter.getName() : null;
+        this.reportedName = reported != null ? reported.getName() : null;
+        this.searchText = buildSearchText(reporterName, reportedName, content);
+    }
+
+    public static String buildSearchText(String reporterName, String reportedName, String content) {
+        return String.join(" ",
+                reporterName != null ? reporterName : "",
+                reportedName != null ? reportedName : "",
+                content != null ? content : "");
     }
 
     public void updateStatus(ReportStatus status) {
@@ -0,0 +1,42 @@
+package com.unimate.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 신고 집계: 접수일 x 상태 x 분류별 건수
+ * - 신고 생성/상태 변경분(report_stat_delta)을 ReportStatsService 가 주기적으로 반영, 대시보드와 목록 헤더는 report 를 세지 않고 이 테이블만 읽음
+ * - 분류가 없는 신고는 빈 문자열로 집계
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "report_daily_stat",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_report_daily_stat", columnNames = {"stat_date", "report_status", "category"})
+        }
+)
+public class ReportDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_status", nullable = false, length = 20)
+    private ReportStatus reportStatus;
+
+    @Column(name = "category", nullable = false)
+    private String category;
+
+    @Column(name = "report_count", nullable = false)
+    private long reportCount;
+}
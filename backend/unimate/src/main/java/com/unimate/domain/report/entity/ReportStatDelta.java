@@ -0,0 +1,53 @@
+package com.unimate.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 신고 집계 변경분 (신고 생성/상태 변경 하나당 한 행)
+ * - 신고를 저장하는 트랜잭션 안에서 추가 → 집계 행을 잠그지 않음, 커밋되면 변경분도 함께 남음
+ * - ReportStatsService 가 주기적으로 버킷별로 합쳐 집계 테이블에 반영한 뒤 삭제
+ * - 재계산은 report 와 이 테이블을 같은 시점으로 읽어, 재계산에 이미 포함된 변경분을 지움 (이중 반영 없음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "report_stat_delta")
+public class ReportStatDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "category", nullable = false)
+    private String category;
+
+    // 생성이면 null
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20)
+    private ReportStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, length = 20)
+    private ReportStatus toStatus;
+
+    @Column(name = "reported_id")
+    private Long reportedId;
+
+    @Column(name = "report_delta", nullable = false)
+    private long reportDelta;
+
+    @Column(name = "pending_delta", nullable = false)
+    private long pendingDelta;
+
+    @Column(name = "reported_at")
+    private LocalDateTime reportedAt;
+}
@@ -0,0 +1,36 @@
+package com.unimate.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고 집계: 피신고자별 누적/미처리 건수 (많이 신고된 사용자 조회용)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "report_user_stat",
+        indexes = {
+                @Index(name = "idx_report_user_stat_count", columnList = "report_count DESC")
+        }
+)
+public class ReportedUserStat {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "report_count", nullable = false)
+    private long reportCount;
+
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+
+    @Column(name = "last_reported_at")
+    private LocalDateTime lastReportedAt;
+}
@@ -1,12 +1,38 @@
 package com.unimate.domain.report.repository;
 
 import com.unimate.domain.report.entity.Report;
-import com.unimate.domain.user.user.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReportRepository extends JpaRepository<Report, Long>, JpaSpecificationExecutor<Report> {
-    List<Report> findByReporterOrReported(User reporter, User reported);
+
+    // 검색 결과 페이지 조회 (목록에 신고자/피신고자 이름이 필요하므로 함께 로딩)
+    @EntityGraph(attributePaths = {"reporter", "reported"})
+    List<Report> findAllByIdIn(Collection<Long> ids);
+
+    // 이름 변경 시 검색 스냅샷 갱신
+    @Modifying
+    @Query("""
+            update Report r
+               set r.reporterName = :name,
+                   r.searchText = concat(:name, ' ', coalesce(r.reportedName, ''), ' ', coalesce(r.content, ''))
+             where r.reporter.id = :userId
+            """)
+    int renameReporter(@Param("userId") Long userId, @Param("name") String name);
+
+    @Modifying
+    @Query("""
+            update Report r
+               set r.reportedName = :name,
+                   r.searchText = concat(coalesce(r.reporterName, ''), ' ', :name, ' ', coalesce(r.content, ''))
+             where r.reported.id = :userId
+            """)
+    int renameReported(@Param("userId") Long userId, @Param("name") String name);
 }
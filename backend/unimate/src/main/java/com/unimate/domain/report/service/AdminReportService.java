@@ -1,31 +1,29 @@
 package com.unimate.domain.report.service;
 
-import com.unimate.domain.match.repository.MatchRepository;
-import com.unimate.domain.notification.repository.NotificationRepository;
 import com.unimate.domain.report.dto.AdminReportActionRequest;
 import com.unimate.domain.report.dto.AdminReportActionResponse;
+import com.unimate.domain.report.dto.ReportDashboardResponse;
 import com.unimate.domain.report.dto.ReportDetailResponse;
 import com.unimate.domain.report.dto.ReportListResponse;
 import com.unimate.domain.report.dto.ReportSummary;
 import com.unimate.domain.report.entity.Report;
 import com.unimate.domain.report.entity.ReportStatus;
 import com.unimate.domain.report.repository.ReportRepository;
-import com.unimate.domain.report.repository.ReportSpecification;
 import com.unimate.domain.user.admin.repository.AdminRepository;
+import com.unimate.domain.user.user.dto.AccountDeactivationResponse;
 import com.unimate.domain.user.user.entity.User;
-import com.unimate.domain.user.user.repository.UserRepository;
-import com.unimate.domain.userMatchPreference.repository.UserMatchPreferenceRepository;
-import com.unimate.domain.userProfile.repository.UserProfileRepository;
+import com.unimate.domain.user.user.service.AccountDeactivationService;
 import com.unimate.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -33,12 +31,10 @@ import java.util.List;
 public class AdminReportService {
 
     private final ReportRepository reportRepository;
-    private final UserRepository userRepository;
     private final AdminRepository adminRepository;
-    private final MatchRepository matchRepository;
-    private final UserProfileRepository userProfileRepository;
-    private final UserMatchPreferenceRepository userMatchPreferenceRepository;
-    private final NotificationRepository notificationRepository;
+    private final ReportSearchService reportSearchService;
+    private final AccountDeactivationService accountDeactivationService;
+    private final ReportStatsService reportStatsService;
 
     private void checkIsAdmin(Long adminId) {
         adminRepository.findById(adminId)
@@ -47,32 +43,30 @@ public class AdminReportService {
 
     public ReportListResponse getReports(Long adminId, Pageable pageable, String status, String keyword) {
         checkIsAdmin(adminId);
-        // Specification 생성
-        Specification<Report> spec = Specification.unrestricted();
-        if (StringUtils.hasText(status)) {
-            spec = spec.and(ReportSpecification.withStatus(ReportStatus.valueOf(status.toUpperCase())));
-        }
-        if (StringUtils.hasText(keyword)) {
-            spec = spec.and(ReportSpecification.withKeyword(keyword));
-        }
-
-        Page<Report> reportPage = reportRepository.findAll(spec, pageable);
-
-        Page<ReportSummary> dtoPage = reportPage.map(report -> new ReportSummary(
-                report.getId(),
-                report.getReporter() != null ? report.getReporter().getName() : "탈퇴한 사용자",
-                report.getReported() != null ? report.getReported().getName() : "탈퇴한 사용자",
-                report.getCategory(),
-                report.getReportStatus().name(),
-                report.getCreatedAt()
-        ));
+        ReportStatus statusFilter = StringUtils.hasText(status) ? ReportStatus.valueOf(status.toUpperCase()) : null;
+        ReportSearchService.SearchResult result = reportSearchService.search(statusFilter, keyword, pageable);
+
+        List<ReportSummary> content = result.reports().stream()
+                .map(report -> new ReportSummary(
+                        report.getId(),
+                        report.getReporter() != null ? report.getReporter().getName() : "탈퇴한 사용자",
+                        report.getReported() != null ? report.getReported().getName() : "탈퇴한 사용자",
+                        report.getCategory(),
+                        report.getReportStatus().name(),
+                        report.getCreatedAt()
+                ))
+                .toList();
+
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        result.statusCounts().forEach((s, count) -> statusCounts.put(s.name(), count));
 
         return new ReportListResponse(
-                dtoPage.getContent(),
-                dtoPage.getNumber(),
-                dtoPage.getSize(),
-                dtoPage.getTotalElements(),
-                dtoPage.getTotalPages()
+                content,
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                result.total(),
+                (int) Math.ceil((double) result.total() / pageable.getPageSize()),
+                statusCounts
         );
     }
 
@@ -83,6 +77,27 @@ public class AdminReportService {
         return new ReportDetailResponse(report);
     }
 
+    public AccountDeactivationResponse getDeactivation(Long adminId, Long userId) {
+        checkIsAdmin(adminId);
+        return accountDeactivationService.findByUserId(userId)
+                .map(AccountDeactivationResponse::new)
+                .orElseThrow(() -> ServiceException.notFound("해당 사용자의 탈퇴 처리 내역이 없습니다: " + userId));
+    }
+
+    public ReportDashboardResponse getDashboard(Long adminId, int days, int top) {
+        checkIsAdmin(adminId);
+        Map<ReportStatus, Long> counts = reportStatsService.statusCounts();
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        counts.forEach((s, count) -> statusCounts.put(s.name(), count));
+
+        return new ReportDashboardResponse(
+                statusCounts,
+                reportStatsService.pendingBacklog(counts),
+                reportStatsService.dailyCounts(LocalDate.now().minusDays(Math.max(1, Math.min(days, 365)) - 1L)),
+                reportStatsService.topReportedUsers(Math.max(1, Math.min(top, 100)))
+        );
+    }
+
     @Transactional
     public AdminReportActionResponse processReportAction(Long adminId, Long reportId, AdminReportActionRequest request) {
         checkIsAdmin(adminId);
@@ -95,47 +110,31 @@ public class AdminReportService {
 
         User reportedUser = report.getReported();
         if (reportedUser == null) {
-            report.updateStatus(ReportStatus.RESOLVED);
-            reportRepository.save(report);
+            changeStatus(report, ReportStatus.RESOLVED);
             return new AdminReportActionResponse(report.getId(), ReportStatus.RESOLVED.name(), "신고 대상자를 찾을 수 없어 신고만 처리되었습니다.");
         }
 
         switch (request.getAction()) {
             case REJECT:
-                report.updateStatus(ReportStatus.REJECTED);
-                reportRepository.save(report);
+                changeStatus(report, ReportStatus.REJECTED);
                 return new AdminReportActionResponse(report.getId(), ReportStatus.REJECTED.name(), "신고가 반려 처리되었습니다.");
 
             case DEACTIVATE:
-                // 1. (Update report) 탈퇴할 유저와 관련된 모든 report 레코드에서 user 참조를 null로 변경
-                List<Report> relatedReports = reportRepository.findByReporterOrReported(reportedUser, reportedUser);
-                for (Report r : relatedReports) {
-                    if (r.getReporter() != null && r.getReporter().getId().equals(reportedUser.getId())) {
-                        r.setReporter(null);
-                    }
-                    if (r.getReported() != null && r.getReported().getId().equals(reportedUser.getId())) {
-                        r.setReported(null);
-                    }
-                    reportRepository.save(r);
-                }
-
-                // 2. (Delete Children) 관련된 자식 테이블 데이터 삭제
-                matchRepository.deleteAllBySenderOrReceiver(reportedUser, reportedUser);
-                userProfileRepository.deleteByUserId(reportedUser.getId());
-                userMatchPreferenceRepository.deleteByUserId(reportedUser.getId());
-                notificationRepository.deleteByUser(reportedUser);
-
-                // 3. (Update Current Report) 현재 신고 건 상태 변경
-                report.updateStatus(ReportStatus.RESOLVED);
-                reportRepository.save(report);
-
-                // 4. (Delete user) 최종적으로 유저 삭제
-                userRepository.delete(reportedUser);
-
-                return new AdminReportActionResponse(report.getId(), ReportStatus.RESOLVED.name(), "신고 대상자 계정이 강제 탈퇴 처리되었습니다.");
+                // 커밋 즉시 로그인 거부, 연관 데이터 정리와 사용자 삭제는 커밋 이후 묶음 단위로 비동기 처리 (진행 상황은 탈퇴 처리 조회 API)
+                changeStatus(report, ReportStatus.RESOLVED);
+                accountDeactivationService.request(reportedUser.getId(), report.getId());
+
+                return new AdminReportActionResponse(report.getId(), ReportStatus.RESOLVED.name(), "신고 대상자 계정의 강제 탈퇴 처리가 시작되었습니다.");
 
             default:
                 throw ServiceException.badRequest("유효하지 않은 요청입니다.");
         }
     }
+
+    private void changeStatus(Report report, ReportStatus status) {
+        ReportStatus before = report.getReportStatus();
+        report.updateStatus(status);
+        reportRepository.save(report);
+        reportStatsService.recordStatusChange(report, before);
+    }
 }
@@ -0,0 +1,253 @@
+package com.unimate.domain.report.service;
+
+import com.unimate.domain.report.entity.Report;
+import com.unimate.domain.report.entity.ReportStatus;
+import com.unimate.domain.report.repository.ReportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 신고 검색
+ * - 신고자/피신고자 이름 + 내용을 report.search_text 한 컬럼에 모아 두고 검색 (사용자 테이블 조인 없음 → 탈퇴한 사용자의 신고도 검색됨)
+ * - MySQL: search_text 에 ngram FULLTEXT 인덱스(한글 부분 일치) → MATCH ... AGAINST 로 인덱스 검색, sort=relevance 로 관련도 정렬
+ * - 그 외(H2)나 ngram 토큰보다 짧은 검색어: search_text 단일 컬럼 LIKE
+ * - 상태별 건수(facet)를 같은 조건으로 한 번에 집계 → 전체 건수도 여기서 계산 (별도 count 쿼리 없음)
+ * - 검색어가 없으면 상태별 건수는 집계 테이블(ReportStatsService)에서 읽음 → 헤더 건수에만 쓰고 페이지는 항상 report 에서 조회
+ */
+@Slf4j
+@Service
+public class ReportSearchService {
+
+    private static final String FULLTEXT_INDEX = "ft_report_search";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "r.created_at",
+            "id", "r.id",
+            "status", "r.report_status",
+            "reportStatus", "r.report_status"
+    );
+
+    public record SearchResult(List<Report> reports, long total, Map<ReportStatus, Long> statusCounts) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReportRepository reportRepository;
+    private final DataSource dataSource;
+    private final ReportStatsService reportStatsService;
+
+    @Value("${report.search.fulltext.enabled:true}")
+    private boolean fulltextEnabled;
+
+    // MySQL ngram_token_size (기본 2) 보다 짧은 검색어는 FULLTEXT 로 찾을 수 없음
+    @Value("${report.search.fulltext.min-token-length:2}")
+    private int minTokenLength;
+
+    private volatile boolean fulltextReady;
+
+    public ReportSearchService(JdbcTemplate jdbcTemplate, ReportRepository reportRepository, DataSource dataSource,
+                               ReportStatsService reportStatsService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reportRepository = reportRepository;
+        this.dataSource = dataSource;
+        this.reportStatsService = reportStatsService;
+    }
+
+    /**
+     * 기동 시: 비어 있는 검색 스냅샷 채우기(기존 행), MySQL 이면 FULLTEXT 인덱스 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        try {
+            int filled = backfill();
+            if (filled > 0) {
+                log.info("[신고 검색] search_text 채움 {}건", filled);
+            }
+        } catch (Exception e) {
+            log.warn("[신고 검색] search_text 채우기 실패: {}", e.getMessage());
+        }
+
+        try {
+            if (!fulltextEnabled || !isMySql()) return;
+            if (!fulltextIndexExists()) {
+                createFulltextIndex();
+            }
+            fulltextReady = true;
+        } catch (Exception e) {
+            log.warn("[신고 검색] FULLTEXT 준비 실패, LIKE 검색으로 동작 (주기적으로 다시 확인): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 시 준비하지 못한 경우(다른 인스턴스가 아직 인덱스를 만드는 중 등) 인덱스가 생겼는지 다시 확인
+     */
+    @Scheduled(fixedDelayString = "${report.search.fulltext.recheck-interval-ms:300000}",
+            initialDelayString = "${report.search.fulltext.recheck-interval-ms:300000}")
+    public void recheckFulltext() {
+        if (fulltextReady || !fulltextEnabled) return;
+        try {
+            if (isMySql() && fulltextIndexExists()) {
+                fulltextReady = true;
+                log.info("[신고 검색] FULLTEXT 인덱스 확인, 전문 검색으로 전환 {}", FULLTEXT_INDEX);
+            }
+        } catch (Exception e) {
+            log.debug("[신고 검색] FULLTEXT 인덱스 재확인 실패: {}", e.getMessage());
+        }
+    }
+
+    // 여러 인스턴스가 동시에 기동하면 한 곳만 생성에 성공 → 실패한 쪽은 이미 생긴 인덱스가 있는지 보고 판단
+    private void createFulltextIndex() {
+        try {
+            jdbcTemplate.execute("ALTER TABLE report ADD FULLTEXT INDEX " + FULLTEXT_INDEX + " (search_text) WITH PARSER ngram");
+            log.info("[신고 검색] FULLTEXT 인덱스 생성 {}", FULLTEXT_INDEX);
+        } catch (DataAccessException e) {
+            if (!fulltextIndexExists()) throw e;
+            log.info("[신고 검색] FULLTEXT 인덱스를 다른 인스턴스가 먼저 생성 {}", FULLTEXT_INDEX);
+        }
+    }
+
+    private boolean fulltextIndexExists() {
+        Integer exists = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                 WHERE table_schema = DATABASE() AND table_name = 'report' AND index_name = ?
+                """, Integer.class, FULLTEXT_INDEX);
+        return exists != null && exists > 0;
+    }
+
+    public SearchResult search(ReportStatus status, String keyword, Pageable pageable) {
+        List<Object> args = new ArrayList<>();
+        String keywordPredicate = "1 = 1";
+        String scoreColumn = "0";
+        if (StringUtils.hasText(keyword)) {
+            String trimmed = keyword.trim();
+            if (fulltextReady && trimmed.length() >= minTokenLength) {
+                // 큰따옴표로 감싼 구문 검색 → ngram 토큰이 연속으로 일치해야 함 (기존 %keyword% 와 같은 의미)
+                String phrase = "\"" + trimmed.replace("\"", " ") + "\"";
+                keywordPredicate = "MATCH(r.search_text) AGAINST (? IN BOOLEAN MODE)";
+                scoreColumn = keywordPredicate;
+                args.add(phrase);
+            } else {
+                keywordPredicate = "LOWER(r.search_text) LIKE ? ESCAPE '!'";
+                args.add("%" + escapeLike(trimmed.toLowerCase()) + "%");
+            }
+        }
+
+        // 검색어가 없으면 집계 테이블에서 (report 전체를 세지 않음)
+        boolean fromStats = args.isEmpty();
+        Map<ReportStatus, Long> statusCounts = fromStats
+                ? reportStatsService.statusCounts()
+                : statusCounts(keywordPredicate, args);
+        long total = status != null
+                ? statusCounts.getOrDefault(status, 0L)
+                : statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        if (!fromStats && (total == 0 || pageable.getOffset() >= total)) {
+            return new SearchResult(List.of(), total, statusCounts);
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT r.id FROM report r WHERE ").append(keywordPredicate);
+        List<Object> pageArgs = new ArrayList<>(args);
+        if (status != null) {
+            sql.append(" AND r.report_status = ?");
+            pageArgs.add(status.name());
+        }
+        String orderBy = orderBy(pageable.getSort(), scoreColumn);
+        sql.append(" ORDER BY ").append(orderBy);
+        // 관련도 정렬의 MATCH 인자
+        orderBy.chars().filter(c -> c == '?').forEach(c -> pageArgs.add(args.get(0)));
+        sql.append(" LIMIT ? OFFSET ?");
+        pageArgs.add(pageable.getPageSize());
+        pageArgs.add(pageable.getOffset());
+
+        List<Long> ids = jdbcTemplate.queryForList(sql.toString(), Long.class, pageArgs.toArray());
+        if (fromStats) {
+            total = correctTotal(total, pageable, ids.size());
+        }
+        Map<Long, Report> byId = reportRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(Report::getId, Function.identity()));
+        List<Report> reports = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new SearchResult(reports, total, statusCounts);
+    }
+
+    /**
+     * 집계 테이블은 반영이 늦거나 유실되어 잠시 어긋날 수 있으므로 페이지는 항상 조회하고,
+     * 조회 결과로 확정되는 범위만큼 전체 건수를 맞춤 (마지막 페이지면 정확한 값, 그 외에는 최소 offset + 조회 건수)
+     */
+    private static long correctTotal(long total, Pageable pageable, int fetched) {
+        long seen = pageable.getOffset() + fetched;
+        if (fetched < pageable.getPageSize() && (fetched > 0 || pageable.getOffset() == 0)) {
+            return seen;
+        }
+        return Math.max(total, seen);
+    }
+
+    private Map<ReportStatus, Long> statusCounts(String keywordPredicate, List<Object> args) {
+        Map<ReportStatus, Long> counts = new EnumMap<>(ReportStatus.class);
+        for (ReportStatus s : ReportStatus.values()) counts.put(s, 0L);
+        jdbcTemplate.query(
+                "SELECT r.report_status, COUNT(*) FROM report r WHERE " + keywordPredicate + " GROUP BY r.report_status",
+                rs -> {
+                    String value = rs.getString(1);
+                    if (value != null) counts.put(ReportStatus.valueOf(value), rs.getLong(2));
+                },
+                args.toArray());
+        return counts;
+    }
+
+    // 허용된 정렬 키만 컬럼으로 변환, relevance 는 검색어가 있을 때만 의미 있음
+    private String orderBy(Sort sort, String scoreColumn) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String direction = order.isAscending() ? "ASC" : "DESC";
+            if ("relevance".equals(order.getProperty())) {
+                if (!"0".equals(scoreColumn)) orders.add(scoreColumn + " DESC");
+                continue;
+            }
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column != null) orders.add(column + " " + direction);
+        }
+        orders.add("r.id DESC");
+        return String.join(", ", orders);
+    }
+
+    private int backfill() {
+        jdbcTemplate.update("""
+                UPDATE report r
+                   SET reporter_name = (SELECT u.name FROM users u WHERE u.id = r.reporter_id),
+                       reported_name = (SELECT u.name FROM users u WHERE u.id = r.reported_id)
+                 WHERE r.search_text IS NULL
+                """);
+        return jdbcTemplate.update("""
+                UPDATE report
+                   SET search_text = CONCAT(COALESCE(reporter_name, ''), ' ', COALESCE(reported_name, ''), ' ', COALESCE(content, ''))
+                 WHERE search_text IS NULL
+                """);
+    }
+
+    private boolean isMySql() throws Exception {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
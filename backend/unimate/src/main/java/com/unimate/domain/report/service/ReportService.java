@@ -18,6 +18,7 @@ public class ReportService {
 
     private final ReportRepository reportRepository;
     private final UserRepository   userRepository;
+    private final ReportStatsService reportStatsService;
 
     @Transactional
     public ReportResponse create(String reporterEmail, ReportCreateRequest rq)
@@ -40,6 +41,7 @@ public class ReportService {
                         .reportStatus(ReportStatus.RECEIVED)
                         .build()
         );
+        reportStatsService.recordCreated(saved);
 
         return ReportResponse.builder()
                 .reportId(saved.getId())
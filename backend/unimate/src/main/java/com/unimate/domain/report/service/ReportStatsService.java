@@ -0,0 +1,364 @@
+package com.unimate.domain.report.service;
+
+import com.unimate.domain.report.dto.ReportDashboardResponse;
+import com.unimate.domain.report.entity.Report;
+import com.unimate.domain.report.entity.ReportStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 신고 집계 (대시보드/목록 헤더용 읽기 모델)
+ * - report_daily_stat: 접수일 x 상태 x 분류별 건수, report_user_stat: 피신고자별 누적/미처리 건수
+ * - 신고 생성/상태 변경은 같은 트랜잭션에서 변경분(report_stat_delta)만 추가, 주기적으로 버킷별로 합쳐 반영 (조회 없이 UPDATE, 버킷이 없으면 INSERT)
+ * - 재계산은 report 와 변경분을 한 문장으로 읽어(같은 시점) 집계를 교체하고, 재계산에 포함된 변경분은 지움
+ *   → 반영 중이던 변경분과 겹쳐 두 번 세지 않음 (반영과 재계산은 변경분 행 잠금으로 순서가 정해짐)
+ */
+@Slf4j
+@Service
+public class ReportStatsService {
+
+    private static final Set<ReportStatus> PENDING = EnumSet.of(ReportStatus.RECEIVED, ReportStatus.IN_PROGRESS);
+
+    private static final String UPDATE_DAILY_SQL = """
+            UPDATE report_daily_stat SET report_count = report_count + ?
+             WHERE stat_date = ? AND report_status = ? AND category = ?
+            """;
+
+    private static final String INSERT_DELTA_SQL = """
+            INSERT INTO report_stat_delta
+                   (stat_date, category, from_status, to_status, reported_id, report_delta, pending_delta, reported_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 재계산 결과(D: 일별, U: 피신고자별)와 그 시점에 보이는 변경분 id(J)를 한 문장으로 읽음
+    private static final String SNAPSHOT_SQL = """
+            SELECT 'D', CAST(created_at AS DATE), report_status, COALESCE(category, ''), NULL, COUNT(*), 0, NULL
+              FROM report
+             WHERE created_at IS NOT NULL AND report_status IS NOT NULL
+             GROUP BY CAST(created_at AS DATE), report_status, COALESCE(category, '')
+            UNION ALL
+            SELECT 'U', NULL, NULL, NULL, reported_id, COUNT(*),
+                   SUM(CASE WHEN report_status IN ('RECEIVED', 'IN_PROGRESS') THEN 1 ELSE 0 END),
+                   MAX(created_at)
+              FROM report
+             WHERE reported_id IS NOT NULL
+             GROUP BY reported_id
+            UNION ALL
+            SELECT 'J', NULL, NULL, NULL, id, 0, 0, NULL
+              FROM report_stat_delta
+            """;
+
+    private record Delta(Long id, LocalDate day, String category, ReportStatus from, ReportStatus to,
+                         Long reportedId, long reportDelta, long pendingDelta, LocalDateTime reportedAt) {
+    }
+
+    private record DailyKey(LocalDate day, ReportStatus status, String category) {
+    }
+
+    private record DailyRow(LocalDate day, String status, String category, long count) {
+    }
+
+    private record UserRow(Long userId, long reportCount, long pendingCount, Timestamp lastReportedAt) {
+    }
+
+    // 같은 순서로 잠가 반영끼리 교착되지 않게 함
+    private static final Comparator<DailyKey> DAILY_ORDER = Comparator.comparing(DailyKey::day)
+            .thenComparing(DailyKey::status)
+            .thenComparing(DailyKey::category);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${report.stats.fold-batch-size:500}")
+    private int foldBatchSize;
+
+    public ReportStatsService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void recordCreated(Report report) {
+        ReportStatus status = report.getReportStatus();
+        Long reportedId = report.getReported() != null ? report.getReported().getId() : null;
+        LocalDateTime reportedAt = report.getCreatedAt() != null ? report.getCreatedAt() : LocalDateTime.now();
+        appendDelta(statDate(report), category(report), null, status, reportedId,
+                1, PENDING.contains(status) ? 1 : 0, reportedAt);
+    }
+
+    public void recordStatusChange(Report report, ReportStatus from) {
+        ReportStatus to = report.getReportStatus();
+        if (from == to) return;
+
+        Long reportedId = report.getReported() != null ? report.getReported().getId() : null;
+        int pendingDelta = (PENDING.contains(to) ? 1 : 0) - (PENDING.contains(from) ? 1 : 0);
+        appendDelta(statDate(report), category(report), from, to, reportedId, 0, pendingDelta, null);
+    }
+
+    /**
+     * 전체 기간 상태별 건수 (집계 테이블 합계, 상태 x 분류 x 일 수만큼의 작은 범위)
+     */
+    public Map<ReportStatus, Long> statusCounts() {
+        Map<ReportStatus, Long> counts = new EnumMap<>(ReportStatus.class);
+        for (ReportStatus s : ReportStatus.values()) counts.put(s, 0L);
+        jdbcTemplate.query("SELECT report_status, SUM(report_count) FROM report_daily_stat GROUP BY report_status",
+                rs -> {
+                    counts.put(ReportStatus.valueOf(rs.getString(1)), Math.max(0, rs.getLong(2)));
+                });
+        return counts;
+    }
+
+    public long pendingBacklog(Map<ReportStatus, Long> statusCounts) {
+        return PENDING.stream().mapToLong(s -> statusCounts.getOrDefault(s, 0L)).sum();
+    }
+
+    public List<ReportDashboardResponse.DailyCount> dailyCounts(LocalDate from) {
+        return jdbcTemplate.query("""
+                        SELECT stat_date, report_status, category, report_count FROM report_daily_stat
+                         WHERE stat_date >= ? AND report_count > 0
+                         ORDER BY stat_date, report_status, category
+                        """,
+                (rs, i) -> new ReportDashboardResponse.DailyCount(
+                        rs.getDate(1).toLocalDate(), rs.getString(2), rs.getString(3), rs.getLong(4)),
+                Date.valueOf(from));
+    }
+
+    public List<ReportDashboardResponse.TopReportedUser> topReportedUsers(int limit) {
+        return jdbcTemplate.query("""
+                        SELECT s.user_id, u.name, s.report_count, s.pending_count, s.last_reported_at
+                          FROM report_user_stat s
+                          LEFT JOIN users u ON u.id = s.user_id
+                         WHERE s.report_count > 0
+                         ORDER BY s.report_count DESC, s.user_id
+                         LIMIT ?
+                        """,
+                (rs, i) -> {
+                    Timestamp last = rs.getTimestamp(5);
+                    return new ReportDashboardResponse.TopReportedUser(
+                            rs.getLong(1),
+                            rs.getString(2) != null ? rs.getString(2) : "탈퇴한 사용자",
+                            rs.getLong(3),
+                            Math.max(0, rs.getLong(4)),
+                            last != null ? last.toLocalDateTime() : null);
+                },
+                limit);
+    }
+
+    /**
+     * 기동 시 집계 테이블이 비어 있고 신고가 있으면 처음 한 번 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            Integer stats = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM report_daily_stat", Integer.class);
+            if (stats != null && stats > 0) return;
+            List<Long> any = jdbcTemplate.queryForList("SELECT id FROM report LIMIT 1", Long.class);
+            if (!any.isEmpty()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("[신고 집계] 초기 계산 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${report.stats.reconcile-cron:0 40 4 * * *}")
+    public void reconcile() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("[신고 집계] 재계산 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 쌓인 변경분을 묶음 단위로 반영
+     */
+    @Scheduled(fixedDelayString = "${report.stats.fold-interval-ms:1000}")
+    public void fold() {
+        try {
+            while (foldBatch() >= foldBatchSize) {
+                // 밀린 변경분은 이어서 반영
+            }
+        } catch (Exception e) {
+            log.warn("[신고 집계] 변경분 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    // 변경분을 잠그고 버킷별로 합쳐 반영한 뒤 삭제 (한 트랜잭션 → 반영과 삭제가 함께 커밋)
+    private int foldBatch() {
+        Integer folded = transactionTemplate.execute(status -> {
+            List<Delta> deltas = jdbcTemplate.query("""
+                            SELECT id, stat_date, category, from_status, to_status, reported_id, report_delta, pending_delta, reported_at
+                              FROM report_stat_delta
+                             ORDER BY id
+                             LIMIT ?
+                               FOR UPDATE
+                            """,
+                    (rs, i) -> {
+                        String from = rs.getString(4);
+                        Timestamp reportedAt = rs.getTimestamp(9);
+                        return new Delta(rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getString(3),
+                                from != null ? ReportStatus.valueOf(from) : null, ReportStatus.valueOf(rs.getString(5)),
+                                rs.getObject(6, Long.class), rs.getLong(7), rs.getLong(8),
+                                reportedAt != null ? reportedAt.toLocalDateTime() : null);
+                    },
+                    foldBatchSize);
+            if (deltas.isEmpty()) return 0;
+
+            Map<DailyKey, Long> daily = new TreeMap<>(DAILY_ORDER);
+            Map<Long, Delta> users = new TreeMap<>();
+            for (Delta d : deltas) {
+                if (d.from() != null) daily.merge(new DailyKey(d.day(), d.from(), d.category()), -1L, Long::sum);
+                daily.merge(new DailyKey(d.day(), d.to(), d.category()), 1L, Long::sum);
+                if (d.reportedId() != null) users.merge(d.reportedId(), d, ReportStatsService::sumUser);
+            }
+            daily.forEach((key, delta) -> {
+                if (delta != 0) adjustDaily(key.day(), key.status(), key.category(), delta);
+            });
+            users.forEach((userId, d) -> {
+                if (d.reportDelta() != 0 || d.pendingDelta() != 0) {
+                    adjustUser(userId, d.reportDelta(), d.pendingDelta(), d.reportedAt());
+                }
+            });
+
+            deleteDeltas(deltas.stream().map(Delta::id).toList());
+            return deltas.size();
+        });
+        return folded != null ? folded : 0;
+    }
+
+    /**
+     * report 전체를 한 번 집계해 교체 (한 트랜잭션 → 조회 쪽은 교체 전/후 중 하나만 봄)
+     * - 집계와 같은 시점에 보이는 변경분 = 집계에 이미 포함된 신고 변경 → 먼저 지워 이후 반영에서 빠지게 함
+     *   (반영 중인 변경분이면 그 반영이 끝날 때까지 대기, 반영된 값은 아래 교체로 덮임)
+     * - 집계 이후에 커밋된 변경분은 남아 다음 반영에서 더해짐
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<DailyRow> daily = new ArrayList<>();
+            List<UserRow> users = new ArrayList<>();
+            List<Long> deltaIds = new ArrayList<>();
+            jdbcTemplate.query(SNAPSHOT_SQL, rs -> {
+                switch (rs.getString(1)) {
+                    case "D" -> daily.add(new DailyRow(rs.getDate(2).toLocalDate(), rs.getString(3), rs.getString(4), rs.getLong(6)));
+                    case "U" -> users.add(new UserRow(rs.getLong(5), rs.getLong(6), rs.getLong(7), rs.getTimestamp(8)));
+                    default -> deltaIds.add(rs.getLong(5));
+                }
+            });
+
+            deleteDeltas(deltaIds);
+            jdbcTemplate.update("DELETE FROM report_daily_stat");
+            jdbcTemplate.batchUpdate("""
+                            INSERT INTO report_daily_stat (stat_date, report_status, category, report_count)
+                            VALUES (?, ?, ?, ?)
+                            """,
+                    daily, 500, (ps, row) -> {
+                        ps.setDate(1, Date.valueOf(row.day()));
+                        ps.setString(2, row.status());
+                        ps.setString(3, row.category());
+                        ps.setLong(4, row.count());
+                    });
+            jdbcTemplate.update("DELETE FROM report_user_stat");
+            jdbcTemplate.batchUpdate("""
+                            INSERT INTO report_user_stat (user_id, report_count, pending_count, last_reported_at)
+                            VALUES (?, ?, ?, ?)
+                            """,
+                    users, 500, (ps, row) -> {
+                        ps.setLong(1, row.userId());
+                        ps.setLong(2, row.reportCount());
+                        ps.setLong(3, row.pendingCount());
+                        ps.setTimestamp(4, row.lastReportedAt());
+                    });
+        });
+        log.info("[신고 집계] 재계산 완료 ({}ms)", System.currentTimeMillis() - start);
+    }
+
+    private void adjustDaily(LocalDate day, ReportStatus status, String category, long delta) {
+        Date date = Date.valueOf(day);
+        if (jdbcTemplate.update(UPDATE_DAILY_SQL, delta, date, status.name(), category) > 0 || delta < 0) return;
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO report_daily_stat (stat_date, report_status, category, report_count)
+                    VALUES (?, ?, ?, ?)
+                    """, date, status.name(), category, delta);
+        } catch (DuplicateKeyException e) {
+            // 같은 버킷을 동시에 처음 만든 경우 → 먼저 만든 행에 더함
+            jdbcTemplate.update(UPDATE_DAILY_SQL, delta, date, status.name(), category);
+        }
+    }
+
+    private void adjustUser(Long userId, long reportDelta, long pendingDelta, LocalDateTime reportedAt) {
+        String update = reportedAt != null
+                ? "UPDATE report_user_stat SET report_count = report_count + ?, pending_count = pending_count + ?, last_reported_at = ? WHERE user_id = ?"
+                : "UPDATE report_user_stat SET report_count = report_count + ?, pending_count = pending_count + ? WHERE user_id = ?";
+        Object[] args = reportedAt != null
+                ? new Object[]{reportDelta, pendingDelta, Timestamp.valueOf(reportedAt), userId}
+                : new Object[]{reportDelta, pendingDelta, userId};
+        if (jdbcTemplate.update(update, args) > 0 || reportDelta <= 0) return;
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO report_user_stat (user_id, report_count, pending_count, last_reported_at)
+                    VALUES (?, ?, ?, ?)
+                    """, userId, reportDelta, pendingDelta, reportedAt != null ? Timestamp.valueOf(reportedAt) : null);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(update, args);
+        }
+    }
+
+    // 호출한(신고 저장) 트랜잭션 안에서 변경분만 추가, 기록 실패가 신고 요청을 실패로 만들지 않음
+    private void appendDelta(LocalDate day, String category, ReportStatus from, ReportStatus to, Long reportedId,
+                             long reportDelta, long pendingDelta, LocalDateTime reportedAt) {
+        try {
+            jdbcTemplate.update(INSERT_DELTA_SQL, Date.valueOf(day), category, from != null ? from.name() : null, to.name(),
+                    reportedId, reportDelta, pendingDelta, reportedAt != null ? Timestamp.valueOf(reportedAt) : null);
+        } catch (DataAccessException e) {
+            log.warn("[신고 집계] 변경분 기록 실패 (다음 재계산에서 보정): {}", e.getMessage());
+        }
+    }
+
+    private void deleteDeltas(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += 1000) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + 1000));
+            jdbcTemplate.update("DELETE FROM report_stat_delta WHERE id IN ("
+                    + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")", chunk.toArray());
+        }
+    }
+
+    private static Delta sumUser(Delta a, Delta b) {
+        LocalDateTime last = a.reportedAt() == null ? b.reportedAt()
+                : b.reportedAt() == null || a.reportedAt().isAfter(b.reportedAt()) ? a.reportedAt() : b.reportedAt();
+        return new Delta(null, null, null, null, null, a.reportedId(),
+                a.reportDelta() + b.reportDelta(), a.pendingDelta() + b.pendingDelta(), last);
+    }
+
+    private static LocalDate statDate(Report report) {
+        return report.getCreatedAt() != null ? report.getCreatedAt().toLocalDate() : LocalDate.now();
+    }
+
+    private static String category(Report report) {
+        return report.getCategory() != null ? report.getCategory() : "";
+    }
+}
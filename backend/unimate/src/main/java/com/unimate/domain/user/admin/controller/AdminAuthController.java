@@ -64,8 +64,20 @@ public class AdminAuthController {
     public ResponseEntity<AccessTokenResponse> refreshToken(
             @CookieValue(name = "adminRefreshToken", required = false) String refreshToken
     ) {
-        String newAccessToken = adminAuthService.reissueAccessToken(refreshToken);
-        return ResponseEntity.ok(new AccessTokenResponse(newAccessToken));
+        var tokens = adminAuthService.reissueTokens(refreshToken);
+
+        // 리프레시 토큰도 회전되므로 쿠키 교체
+        ResponseCookie cookie = CookieUtils.httpOnlyCookie(
+                "adminRefreshToken",
+                tokens.getRefreshToken(),
+                7L * 24 * 60 * 60,
+                cookieSecure,
+                cookieSameSite
+        );
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .body(new AccessTokenResponse(tokens.getAccessToken()));
     }
 
     @PostMapping("/logout")
@@ -2,10 +2,20 @@ package com.unimate.domain.user.admin.repository;
 
 import com.unimate.domain.user.admin.entity.AdminUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface AdminRepository extends JpaRepository<AdminUser, Long> {
     Optional<AdminUser> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 재해시 저장: 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminUser a SET a.password = :newHash WHERE a.id = :id AND a.password = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
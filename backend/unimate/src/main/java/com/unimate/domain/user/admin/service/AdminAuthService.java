@@ -7,10 +7,10 @@ import com.unimate.domain.user.admin.entity.AdminUser;
 import com.unimate.domain.user.admin.repository.AdminRepository;
 import com.unimate.global.auth.dto.Tokens;
 import com.unimate.global.auth.model.SubjectType;
+import com.unimate.global.auth.service.PasswordHasher;
 import com.unimate.global.auth.service.TokenService;
 import com.unimate.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminAuthService {
 
     private final AdminRepository adminUserRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final TokenService tokenService;
 
     @Transactional
@@ -30,7 +30,7 @@ public class AdminAuthService {
 
         AdminUser admin = new AdminUser(
                 req.getEmail(),
-                passwordEncoder.encode(req.getPassword()),
+                passwordHasher.encode(req.getPassword()),
                 req.getName()
         );
 
@@ -38,24 +38,28 @@ public class AdminAuthService {
         return new AdminSignupResponse(admin.getId(), admin.getEmail(), admin.getName());
     }
 
-    @Transactional
+    // 비밀번호 검증(BCrypt) 동안 DB 트랜잭션/커넥션을 잡지 않도록 트랜잭션 없이 조회 → 검증 → 토큰 발급
     public Tokens login(AdminLoginRequest req) {
         AdminUser admin = adminUserRepository.findByEmail(req.getEmail())
                 .orElseThrow(() -> ServiceException.notFound("관리자를 찾을 수 없습니다."));
 
-        if (!passwordEncoder.matches(req.getPassword(), admin.getPassword())) {
+        if (!passwordHasher.matches(req.getPassword(), admin.getPassword())) {
             throw ServiceException.unauthorized("비밀번호가 일치하지 않습니다.");
         }
 
+        Long id = admin.getId();
+        String oldHash = admin.getPassword();
+        passwordHasher.rehashIfNeeded(req.getPassword(), oldHash,
+                newHash -> adminUserRepository.updatePasswordHash(id, oldHash, newHash));
+
         return tokenService.issueTokens(SubjectType.ADMIN, admin.getId(), admin.getEmail());
     }
 
-    @Transactional(readOnly = true)
-    public String reissueAccessToken(String refreshToken) {
-        return tokenService.reissueAccessToken(refreshToken);
+    // 트랜잭션은 TokenService 가 관리 (재사용 탐지 시 폐기 내용을 커밋해야 함)
+    public Tokens reissueTokens(String refreshToken) {
+        return tokenService.reissueTokens(refreshToken);
     }
 
-    @Transactional
     public void logout(String refreshToken) {
         tokenService.logout(refreshToken);
     }
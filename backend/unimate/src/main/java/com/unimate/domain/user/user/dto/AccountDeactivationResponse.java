@@ -0,0 +1,40 @@
+package com.unimate.domain.user.user.dto;
+
+import com.unimate.domain.user.user.entity.AccountDeactivation;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AccountDeactivationResponse {
+    private final Long userId;
+    private final Long reportId;
+    private final String status;
+    private final String step;
+    private final int completedSteps;
+    private final int totalSteps;
+    private final long affectedRows;
+    private final int attempts;
+    private final String lastError;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime finishedAt;
+
+    public AccountDeactivationResponse(AccountDeactivation deactivation) {
+        AccountDeactivation.Step[] steps = AccountDeactivation.Step.values();
+        boolean completed = deactivation.getStatus() == AccountDeactivation.Status.COMPLETED;
+
+        this.userId = deactivation.getUserId();
+        this.reportId = deactivation.getReportId();
+        this.status = deactivation.getStatus().name();
+        this.step = deactivation.getStep() != null ? deactivation.getStep().name() : null;
+        // 진행 중인 단계는 완료로 세지 않음
+        this.completedSteps = completed ? steps.length
+                : deactivation.getStep() != null ? deactivation.getStep().ordinal() : 0;
+        this.totalSteps = steps.length;
+        this.affectedRows = deactivation.getAffectedRows();
+        this.attempts = deactivation.getAttempts();
+        this.lastError = deactivation.getLastError();
+        this.requestedAt = deactivation.getCreatedAt();
+        this.finishedAt = deactivation.getFinishedAt();
+    }
+}
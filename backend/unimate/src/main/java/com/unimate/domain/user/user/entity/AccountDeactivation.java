@@ -0,0 +1,76 @@
+package com.unimate.domain.user.user.entity;
+
+import com.unimate.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계정 강제 탈퇴 작업
+ * - 관리자 요청 트랜잭션은 이 행만 저장하고, 연관 데이터 정리는 AccountDeactivationService 가 묶음 단위로 비동기 처리
+ * - step/affected_rows 로 진행 상황 조회, updated_at 이 오래 갱신되지 않은 RUNNING 작업은 다른 인스턴스가 이어서 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "account_deactivation",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_account_deactivation_user", columnNames = "user_id")
+        },
+        indexes = {
+                @Index(name = "idx_account_deactivation_status", columnList = "status, updated_at")
+        }
+)
+public class AccountDeactivation extends BaseEntity {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    // 실행 순서대로 정의 (사용자 행 삭제가 마지막)
+    public enum Step { REFRESH_TOKENS, REPORTS, MATCHES, NOTIFICATIONS, CHATROOMS, PROFILE, USER }
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "report_id")
+    private Long reportId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "step", length = 16)
+    private Step step;
+
+    @Column(name = "affected_rows", nullable = false)
+    private long affectedRows;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public AccountDeactivation(Long userId, Long reportId) {
+        this.userId = userId;
+        this.reportId = reportId;
+        this.status = Status.PENDING;
+    }
+
+    // 실패로 끝난 작업을 다시 요청받은 경우 처음 단계부터 재시작
+    public void restart(Long reportId) {
+        this.reportId = reportId;
+        this.status = Status.PENDING;
+        this.step = null;
+        this.attempts = 0;
+        this.lastError = null;
+        this.finishedAt = null;
+    }
+}
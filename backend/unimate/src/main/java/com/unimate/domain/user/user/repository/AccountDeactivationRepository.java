@@ -0,0 +1,74 @@
+package com.unimate.domain.user.user.repository;
+
+import com.unimate.domain.user.user.entity.AccountDeactivation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountDeactivationRepository extends JpaRepository<AccountDeactivation, Long> {
+
+    Optional<AccountDeactivation> findByUserId(Long userId);
+
+    boolean existsByUserId(Long userId);
+
+    // 커밋 후 실행 요청이 유실된 대기 작업 + 진행 갱신이 끊긴(실행하던 인스턴스가 죽은) 작업
+    @Query("""
+            select d.id from AccountDeactivation d
+             where (d.status = :pending and d.updatedAt < :pendingBefore)
+                or (d.status = :running and d.updatedAt < :staleBefore)
+             order by d.id
+            """)
+    List<Long> findResumableIds(@Param("pending") AccountDeactivation.Status pending,
+                                @Param("running") AccountDeactivation.Status running,
+                                @Param("pendingBefore") LocalDateTime pendingBefore,
+                                @Param("staleBefore") LocalDateTime staleBefore,
+                                Pageable pageable);
+
+    // 대기 중이거나 멈춘 작업만 RUNNING 으로 전환 (여러 인스턴스가 같은 작업을 봐도 한 곳만 성공)
+    @Transactional
+    @Modifying
+    @Query("""
+            update AccountDeactivation d
+               set d.status = :running, d.attempts = d.attempts + 1, d.updatedAt = :now
+             where d.id = :id
+               and (d.status = :pending or (d.status = :running and d.updatedAt < :staleBefore))
+            """)
+    int claim(@Param("id") Long id,
+              @Param("pending") AccountDeactivation.Status pending,
+              @Param("running") AccountDeactivation.Status running,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 묶음 하나를 처리할 때마다 진행 단계/누적 건수 갱신 (updated_at 이 실행 중 표시 역할)
+    @Transactional
+    @Modifying
+    @Query("""
+            update AccountDeactivation d
+               set d.step = :step, d.affectedRows = d.affectedRows + :rows, d.updatedAt = :now
+             where d.id = :id
+            """)
+    int recordProgress(@Param("id") Long id,
+                       @Param("step") AccountDeactivation.Step step,
+                       @Param("rows") long rows,
+                       @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update AccountDeactivation d
+               set d.status = :status, d.lastError = :error, d.finishedAt = :finishedAt, d.updatedAt = :now
+             where d.id = :id
+            """)
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") AccountDeactivation.Status status,
+                     @Param("error") String error,
+                     @Param("finishedAt") LocalDateTime finishedAt,
+                     @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,259 @@
+package com.unimate.domain.user.user.service;
+
+import com.unimate.domain.match.service.MatchCacheService;
+import com.unimate.domain.user.user.entity.AccountDeactivation;
+import com.unimate.domain.user.user.repository.AccountDeactivationRepository;
+import com.unimate.global.auth.model.SubjectType;
+import com.unimate.global.auth.service.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계정 강제 탈퇴 처리
+ * - 요청 트랜잭션은 작업 행만 저장, 커밋 이후 워커 스레드가 연관 데이터를 정리하고 마지막에 사용자 행 삭제
+ * - 엔티티를 하나씩 읽어 지우지 않고 id 묶음 단위 UPDATE/DELETE (묶음마다 자동 커밋 → 잠금은 묶음 하나만큼만 유지)
+ * - 모든 단계는 다시 실행해도 결과가 같음 → 실패/중단 시 처음 단계부터 재시도 (정리 도중 새로 생긴 행까지 함께 정리)
+ * - 작업 행이 저장(관리자 요청 커밋)된 순간부터 로그인 거부, 그 직전에 시작된 로그인이 받은 토큰은 사용자 삭제 후 한 번 더 폐기
+ */
+@Slf4j
+@Service
+public class AccountDeactivationService {
+
+    private final AccountDeactivationRepository deactivationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenService tokenService;
+    private final MatchCacheService matchCacheService;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    @Value("${account.deactivation.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${account.deactivation.max-attempts:5}")
+    private int maxAttempts;
+
+    // 진행 갱신이 이 시간 넘게 없으면 실행하던 인스턴스가 죽은 것으로 보고 다시 집어감
+    @Value("${account.deactivation.stale-ms:120000}")
+    private long staleMs;
+
+    // 실패한 작업 / 커밋 후 실행 요청이 유실된 작업을 다시 집어가기까지의 대기 시간
+    @Value("${account.deactivation.retry-delay-ms:30000}")
+    private long retryDelayMs;
+
+    public AccountDeactivationService(AccountDeactivationRepository deactivationRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      TokenService tokenService,
+                                      MatchCacheService matchCacheService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${account.deactivation.workers:1}") int workers) {
+        this.deactivationRepository = deactivationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tokenService = tokenService;
+        this.matchCacheService = matchCacheService;
+        this.meterRegistry = meterRegistry;
+        int size = Math.max(1, workers);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "account-deactivation-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * 탈퇴 작업 등록, 호출한 트랜잭션이 커밋된 뒤 실행
+     * - 이미 진행 중이거나 끝난 작업이 있으면 그대로 반환, 실패로 끝난 작업은 다시 시작
+     */
+    @Transactional
+    public AccountDeactivation request(Long userId, Long reportId) {
+        Optional<AccountDeactivation> existing = deactivationRepository.findByUserId(userId);
+        if (existing.isPresent() && existing.get().getStatus() != AccountDeactivation.Status.FAILED) {
+            return existing.get();
+        }
+
+        AccountDeactivation job = existing.map(d -> {
+            d.restart(reportId);
+            return d;
+        }).orElseGet(() -> deactivationRepository.save(new AccountDeactivation(userId, reportId)));
+
+        Long jobId = job.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(jobId);
+                }
+            });
+        } else {
+            submit(jobId);
+        }
+        return job;
+    }
+
+    // 작업 상태와 관계없이 등록만 되어 있으면 탈퇴 처리된 계정 (실패로 끝나도 관리자 조치는 유지)
+    public boolean isDeactivated(Long userId) {
+        return deactivationRepository.existsByUserId(userId);
+    }
+
+    public Optional<AccountDeactivation> findByUserId(Long userId) {
+        return deactivationRepository.findByUserId(userId);
+    }
+
+    /**
+     * 재시도 대기가 끝난 작업과 멈춘 작업을 다시 실행
+     */
+    @Scheduled(fixedDelayString = "${account.deactivation.resume-interval-ms:30000}")
+    public void resumeStalled() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            deactivationRepository.findResumableIds(
+                            AccountDeactivation.Status.PENDING, AccountDeactivation.Status.RUNNING,
+                            now.minus(Duration.ofMillis(retryDelayMs)), now.minus(Duration.ofMillis(staleMs)),
+                            PageRequest.of(0, 100))
+                    .forEach(this::submit);
+        } catch (Exception e) {
+            log.warn("계정 탈퇴 작업 재개 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private void submit(Long jobId) {
+        executor.execute(() -> {
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                int claimed = deactivationRepository.claim(jobId, AccountDeactivation.Status.PENDING,
+                        AccountDeactivation.Status.RUNNING, now, now.minus(Duration.ofMillis(staleMs)));
+                if (claimed == 1) {
+                    deactivationRepository.findById(jobId).ifPresent(this::run);
+                }
+            } catch (Exception e) {
+                // 다음 재개 주기에 다시 시도
+                log.warn("계정 탈퇴 작업 점유 실패 id={}: {}", jobId, e.getMessage());
+            }
+        });
+    }
+
+    private void run(AccountDeactivation job) {
+        Long jobId = job.getId();
+        Long userId = job.getUserId();
+        long start = System.nanoTime();
+        String result = "completed";
+        try {
+            for (AccountDeactivation.Step step : AccountDeactivation.Step.values()) {
+                deactivationRepository.recordProgress(jobId, step, 0, LocalDateTime.now());
+                runStep(jobId, step, userId);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            deactivationRepository.updateStatus(jobId, AccountDeactivation.Status.COMPLETED, null, now, now);
+            log.info("[계정 강제 탈퇴 완료] userId={}, {}ms", userId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (error.length() > 500) error = error.substring(0, 500);
+            LocalDateTime now = LocalDateTime.now();
+            // attempts 는 claim 에서 이미 증가한 값
+            if (job.getAttempts() >= maxAttempts) {
+                result = "failed";
+                deactivationRepository.updateStatus(jobId, AccountDeactivation.Status.FAILED, error, now, now);
+                log.warn("[계정 강제 탈퇴 실패] userId={}: {}", userId, error);
+            } else {
+                result = "retry";
+                deactivationRepository.updateStatus(jobId, AccountDeactivation.Status.PENDING, error, null, now);
+                log.debug("[계정 강제 탈퇴 재시도 예약] userId={}: {}", userId, error);
+            }
+        } finally {
+            Timer.builder("account.deactivation")
+                    .description("계정 강제 탈퇴 작업 한 번의 처리 시간")
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void runStep(Long jobId, AccountDeactivation.Step step, Long userId) {
+        switch (step) {
+            case REFRESH_TOKENS -> tokenService.revokeAll(SubjectType.USER, userId);
+            case REPORTS -> {
+                // 신고 기록은 남기고 사용자 참조만 해제 (이름은 report 의 검색 스냅샷에 남아 있음)
+                inChunks(jobId, step, "report", "reporter_id = ?", "UPDATE report SET reporter_id = NULL", userId);
+                inChunks(jobId, step, "report", "reported_id = ?", "UPDATE report SET reported_id = NULL", userId);
+                // 아직 반영되지 않은 변경분이 피신고자 집계 행을 다시 만들지 않도록 참조 해제 (일별 집계 몫은 그대로 반영)
+                jdbcTemplate.update("UPDATE report_stat_delta SET reported_id = NULL WHERE reported_id = ?", userId);
+                jdbcTemplate.update("DELETE FROM report_user_stat WHERE user_id = ?", userId);
+            }
+            case MATCHES -> {
+                // 보낸/받은 쪽을 나눠 각각 인덱스로 조회
+                inChunks(jobId, step, "matches", "sender_id = ?", "DELETE FROM matches", userId);
+                inChunks(jobId, step, "matches", "receiver_id = ?", "DELETE FROM matches", userId);
+            }
+            case NOTIFICATIONS -> {
+                inChunks(jobId, step, "notifications", "user_id = ?", "DELETE FROM notifications", userId);
+                // 보관 기간 정리로 옮겨진 지난 알림도 함께 삭제
+                inChunks(jobId, step, "notifications_archive", "user_id = ?", "DELETE FROM notifications_archive", userId);
+            }
+            case CHATROOMS -> {
+                // 메시지는 상대방 기록으로 남기고 채팅방만 닫음
+                inChunks(jobId, step, "chatroom", "user1_id = ? AND (status <> 'CLOSED' OR user1_status <> 'CLOSED')",
+                        "UPDATE chatroom SET status = 'CLOSED', user1_status = 'CLOSED', updated_at = CURRENT_TIMESTAMP", userId);
+                inChunks(jobId, step, "chatroom", "user2_id = ? AND (status <> 'CLOSED' OR user2_status <> 'CLOSED')",
+                        "UPDATE chatroom SET status = 'CLOSED', user2_status = 'CLOSED', updated_at = CURRENT_TIMESTAMP", userId);
+            }
+            case PROFILE -> {
+                int rows = jdbcTemplate.update("DELETE FROM user_profile WHERE user_id = ?", userId)
+                        + jdbcTemplate.update("DELETE FROM user_match_preference WHERE user_id = ?", userId);
+                deactivationRepository.recordProgress(jobId, step, rows, LocalDateTime.now());
+                matchCacheService.evictUserProfileCache(userId);
+                matchCacheService.evictAllCandidatesCache();
+            }
+            case USER -> {
+                int rows = jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+                deactivationRepository.recordProgress(jobId, step, rows, LocalDateTime.now());
+                // 작업 등록 직전에 검증을 통과한 로그인이 첫 단계 이후 토큰을 저장했을 수 있으므로 다시 폐기
+                tokenService.revokeAll(SubjectType.USER, userId);
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 id 를 chunkSize 개씩 골라 action 적용, 묶음마다 진행 상황 기록
+     * - action 이 처리한 행은 조건에서 빠지므로(삭제/참조 해제/닫힘) 매번 처음부터 다시 조회
+     */
+    private void inChunks(Long jobId, AccountDeactivation.Step step, String table, String where, String action, Long userId) {
+        String select = "SELECT id FROM " + table + " WHERE " + where + " ORDER BY id LIMIT ?";
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(select, Long.class, userId, chunkSize);
+            if (ids.isEmpty()) return;
+
+            String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+            int rows = jdbcTemplate.update(action + " WHERE id IN (" + placeholders + ")", ids.toArray());
+            deactivationRepository.recordProgress(jobId, step, rows, LocalDateTime.now());
+
+            if (ids.size() < chunkSize) return;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
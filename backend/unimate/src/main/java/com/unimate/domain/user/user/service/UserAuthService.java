@@ -8,10 +8,10 @@ import com.unimate.domain.user.user.repository.UserRepository;
 import com.unimate.domain.verification.service.VerificationService;
 import com.unimate.global.auth.dto.Tokens;
 import com.unimate.global.auth.model.SubjectType;
+import com.unimate.global.auth.service.PasswordHasher;
 import com.unimate.global.auth.service.TokenService;
 import com.unimate.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,9 +20,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAuthService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final TokenService tokenService;
     private final VerificationService verificationService;
+    private final AccountDeactivationService accountDeactivationService;
 
 
     @Transactional
@@ -36,7 +37,7 @@ public class UserAuthService {
         User user = new User(
                 req.getName(),
                 req.getEmail(),
-                passwordEncoder.encode(req.getPassword()),
+                passwordHasher.encode(req.getPassword()),
                 req.getGender(),
                 req.getBirthDate(),
                 req.getUniversity()
@@ -49,24 +50,33 @@ public class UserAuthService {
         return new UserSignupResponse(user.getId(), user.getEmail(), user.getName());
     }
 
-    @Transactional
+    // 비밀번호 검증(BCrypt) 동안 DB 트랜잭션/커넥션을 잡지 않도록 트랜잭션 없이 조회 → 검증 → 토큰 발급
     public Tokens login(UserLoginRequest req) {
         User user = userRepository.findByEmail(req.getEmail())
                 .orElseThrow(() -> ServiceException.notFound("이메일을 찾을 수 없습니다."));
 
-        if (!passwordEncoder.matches(req.getPassword(), user.getPassword())) {
+        // 강제 탈퇴 작업이 등록된 계정은 정리가 끝나기 전에도 로그인 불가 (정리 도중 새 토큰이 발급되지 않도록)
+        if (accountDeactivationService.isDeactivated(user.getId())) {
+            throw ServiceException.forbidden("탈퇴 처리된 계정입니다.");
+        }
+
+        if (!passwordHasher.matches(req.getPassword(), user.getPassword())) {
             throw ServiceException.unauthorized("비밀번호가 일치하지 않습니다.");
         }
 
+        Long id = user.getId();
+        String oldHash = user.getPassword();
+        passwordHasher.rehashIfNeeded(req.getPassword(), oldHash,
+                newHash -> userRepository.updatePasswordHash(id, oldHash, newHash));
+
         return tokenService.issueTokens(SubjectType.USER, user.getId(), user.getEmail());
     }
 
-    @Transactional(readOnly = true)
-    public String reissueAccessToken(String refreshToken) {
-        return tokenService.reissueAccessToken(refreshToken);
+    // 트랜잭션은 TokenService 가 관리 (재사용 탐지 시 폐기 내용을 커밋해야 함)
+    public Tokens reissueTokens(String refreshToken) {
+        return tokenService.reissueTokens(refreshToken);
     }
 
-    @Transactional
     public void logout(String refreshToken) {
         tokenService.logout(refreshToken);
     }
@@ -1,11 +1,11 @@
 package com.unimate.domain.user.user.service;
 
 import com.unimate.domain.match.service.MatchCacheService;
+import com.unimate.domain.report.repository.ReportRepository;
 import com.unimate.domain.user.user.dto.UserUpdateEmailRequest;
 import com.unimate.domain.user.user.entity.User;
 import com.unimate.domain.user.user.repository.UserRepository;
-import com.unimate.domain.verification.entity.Verification;
-import com.unimate.domain.verification.repository.VerificationRepository;
+import com.unimate.domain.verification.service.VerificationCodeStore;
 import com.unimate.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,8 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final VerificationRepository verificationRepository;
+    private final VerificationCodeStore verificationCodeStore;
     private final MatchCacheService matchCacheService;
+    private final ReportRepository reportRepository;
 
     @Value("${cache.redis.enabled:true}")
     private boolean redisCacheEnabled;
@@ -36,6 +37,10 @@ public class UserService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> ServiceException.notFound("사용자를 찾을 수 없습니다."));
         user.updateName(name);
+
+        // 신고 검색 스냅샷(search_text)의 이름도 함께 갱신
+        reportRepository.renameReporter(user.getId(), name);
+        reportRepository.renameReported(user.getId(), name);
         
         if (redisCacheEnabled) {
             matchCacheService.evictUserProfileCache(user.getId());
@@ -49,14 +54,14 @@ public class UserService {
     public User updateEmail(String currentEmail, UserUpdateEmailRequest req) {
         User user = findByEmail(currentEmail);
 
-        Verification verification = verificationRepository.findByEmail(req.getNewEmail())
+        VerificationCodeStore.Entry verification = verificationCodeStore.find(req.getNewEmail())
                 .orElseThrow(() -> ServiceException.badRequest("인증 요청이 존재하지 않습니다."));
 
-        if (!verification.isVerified()) {
+        if (!verification.verified()) {
             throw ServiceException.badRequest("이메일 인증이 완료되지 않았습니다.");
         }
 
-        if (!verification.getCode().equals(req.getCode())) {
+        if (!verification.code().equals(req.getCode())) {
             throw ServiceException.unauthorized("인증 코드가 올바르지 않습니다.");
         }
 
@@ -66,7 +71,7 @@ public class UserService {
 
         user.updateEmail(req.getNewEmail());
 
-        verificationRepository.delete(verification);
+        verificationCodeStore.consume(req.getNewEmail());
 
         return user;
     }
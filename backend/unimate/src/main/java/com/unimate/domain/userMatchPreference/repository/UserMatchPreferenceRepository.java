@@ -9,5 +9,4 @@ import java.util.Optional;
 @Repository
 public interface UserMatchPreferenceRepository extends JpaRepository<UserMatchPreference, Long> {
     Optional<UserMatchPreference> findByUserId(Long userId);
-    void deleteByUserId(Long userId);
 }
\ No newline at end of file
@@ -10,5 +10,4 @@ import java.util.Optional;
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
     Optional<UserProfile> findByUserEmail(String email);
     Optional<UserProfile> findByUserId(Long userId);
-    void deleteByUserId(Long userId);
 }
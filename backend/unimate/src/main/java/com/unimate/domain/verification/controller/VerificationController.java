@@ -6,6 +6,7 @@ import com.unimate.domain.verification.service.VerificationService;
 import com.unimate.global.auth.dto.MessageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -26,8 +27,9 @@ public class VerificationController {
 
     @PostMapping("/request")
     @Operation(summary = "이메일 인증번호 전송")
-    public ResponseEntity<MessageResponse> request(@Valid @RequestBody EmailVerificationRequest request) {
-        verificationService.sendVerificationCode(request.getEmail());
+    public ResponseEntity<MessageResponse> request(@Valid @RequestBody EmailVerificationRequest request,
+                                                   HttpServletRequest httpRequest) {
+        verificationService.sendVerificationCode(request.getEmail(), httpRequest.getRemoteAddr());
         return ResponseEntity.ok(new MessageResponse("인증코드가 발송되었습니다."));
     }
 
@@ -2,10 +2,21 @@ package com.unimate.domain.verification.repository;
 
 import com.unimate.domain.verification.entity.Verification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface VerificationRepository extends JpaRepository<Verification, Long> {
     Optional<Verification> findByEmail(String email);
     void deleteByEmail(String email);
+
+    // 만료 행 일괄 삭제 (Redis 저장소를 쓰지 않을 때만 사용)
+    @Transactional
+    @Modifying
+    @Query("delete from Verification v where v.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
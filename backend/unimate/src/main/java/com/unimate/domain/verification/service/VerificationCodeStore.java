@@ -0,0 +1,166 @@
+package com.unimate.domain.verification.service;
+
+import com.unimate.domain.verification.entity.Verification;
+import com.unimate.domain.verification.repository.VerificationRepository;
+import com.unimate.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 이메일 인증코드 저장소
+ * - Redis: vc:{email} → code, verified (HASH, TTL=코드 유효 시간) → 만료된 코드는 TTL 로 사라지고 MySQL 을 거치지 않음
+ * - 코드 비교와 인증 완료 표시는 Lua 로 한 번에 처리 (조회 후 갱신 사이에 코드가 바뀌는 경합 없음)
+ * - Redis 비활성 시 verification 테이블 사용, 만료 행은 주기적으로 일괄 삭제
+ */
+@Slf4j
+@Component
+public class VerificationCodeStore {
+
+    private static final String KEY_PREFIX = "vc:";
+
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'verified', '0')
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 반환: 0 요청 없음(만료 포함), 1 코드 불일치, 2 인증 완료
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local code = redis.call('HGET', KEYS[1], 'code')
+            if not code then return 0 end
+            if code ~= ARGV[1] then return 1 end
+            redis.call('HSET', KEYS[1], 'verified', '1')
+            return 2
+            """, Long.class);
+
+    public enum VerifyResult { NOT_FOUND, MISMATCH, VERIFIED }
+
+    public record Entry(String code, boolean verified) {
+    }
+
+    private final VerificationRepository verificationRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${verification.redis.enabled:${cache.redis.enabled:true}}")
+    private boolean redisEnabled;
+
+    public VerificationCodeStore(VerificationRepository verificationRepository, StringRedisTemplate redisTemplate) {
+        this.verificationRepository = verificationRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 새 코드 저장 (이전 코드와 인증 상태는 덮어씀)
+     * - DB 경로는 호출자 트랜잭션이 없어도 되도록 save 로 반영
+     */
+    public void save(String email, String code, Duration ttl) {
+        if (redisEnabled) {
+            redis(() -> redisTemplate.execute(SAVE_SCRIPT, List.of(KEY_PREFIX + email), code, String.valueOf(ttl.toMillis())));
+            return;
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        Verification verification = verificationRepository.findByEmail(email)
+                .map(v -> {
+                    v.updateCode(code, expiresAt);
+                    return v;
+                })
+                .orElseGet(() -> new Verification(email, code, expiresAt));
+        verificationRepository.save(verification);
+    }
+
+    public VerifyResult verify(String email, String code) {
+        if (redisEnabled) {
+            Long result = redis(() -> redisTemplate.execute(VERIFY_SCRIPT, List.of(KEY_PREFIX + email), code));
+            return result == null ? VerifyResult.NOT_FOUND : VerifyResult.values()[result.intValue()];
+        }
+
+        Optional<Verification> found = verificationRepository.findByEmail(email).filter(v -> !v.isExpired());
+        if (found.isEmpty()) return VerifyResult.NOT_FOUND;
+        if (!found.get().getCode().equals(code)) return VerifyResult.MISMATCH;
+        found.get().markVerified();
+        verificationRepository.save(found.get());
+        return VerifyResult.VERIFIED;
+    }
+
+    /**
+     * 유효한(만료되지 않은) 인증 정보 조회
+     */
+    public Optional<Entry> find(String email) {
+        if (redisEnabled) {
+            List<Object> values = redis(() -> redisTemplate.opsForHash().multiGet(KEY_PREFIX + email, List.of("code", "verified")));
+            if (values == null || values.get(0) == null) return Optional.empty();
+            return Optional.of(new Entry((String) values.get(0), "1".equals(values.get(1))));
+        }
+
+        return verificationRepository.findByEmail(email)
+                .filter(v -> !v.isExpired())
+                .map(v -> new Entry(v.getCode(), v.isVerified()));
+    }
+
+    /**
+     * 사용한 인증 정보 삭제
+     * - DB: 호출한 트랜잭션과 함께 커밋/롤백
+     * - Redis: 트랜잭션 안이면 커밋 이후 삭제 (가입이 롤백되면 인증 상태가 남아 다시 시도 가능)
+     */
+    public void consume(String email) {
+        if (!redisEnabled) {
+            verificationRepository.deleteByEmail(email);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteFromRedis(email);
+                }
+            });
+        } else {
+            deleteFromRedis(email);
+        }
+    }
+
+    @Scheduled(cron = "${verification.purge.cron:0 */10 * * * *}")
+    public void purgeExpired() {
+        if (redisEnabled) return;
+
+        int purged = verificationRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("[만료 인증코드 정리] {}건 삭제", purged);
+        }
+    }
+
+    private void deleteFromRedis(String email) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + email);
+        } catch (Exception e) {
+            // 남더라도 TTL 로 만료됨
+            log.debug("인증코드 Redis 삭제 실패 email={}: {}", email, e.getMessage());
+        }
+    }
+
+    // Redis 가 유일한 저장소이므로 장애 시 DB 로 대체하지 않고 503
+    private <T> T redis(Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (Exception e) {
+            log.warn("인증코드 Redis 처리 실패: {}", e.getMessage());
+            throw ServiceException.serviceUnavailable("잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -1,71 +1,94 @@
 package com.unimate.domain.verification.service;
 
-import com.unimate.domain.verification.entity.Verification;
-import com.unimate.domain.verification.repository.VerificationRepository;
 import com.unimate.global.exception.ServiceException;
 import com.unimate.global.mail.EmailService;
+import com.unimate.global.ratelimit.TokenBucketRateLimiter;
+import com.unimate.global.ratelimit.TokenBucketRateLimiter.Limit;
 import com.unimate.global.util.EmailValidator;
 import com.unimate.global.util.VerificationCodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 
+/**
+ * 이메일 인증
+ * - 코드 저장/검증은 VerificationCodeStore (Redis 우선)
+ * - 발송 요청은 IP·이메일별, 검증은 이메일별 토큰 버킷으로 제한 → 가입 폭주나 코드 대입이 저장소까지 오지 않음
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VerificationService {
 
-    private final VerificationRepository verificationRepository;
+    private static final Duration CODE_TTL = Duration.ofMinutes(10);
+
+    private final VerificationCodeStore verificationCodeStore;
     private final EmailService emailService;
     private final VerificationCodeGenerator codeGenerator;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    @Value("${verification.rate-limit.email.capacity:3}")
+    private int emailCapacity;
+
+    @Value("${verification.rate-limit.email.refill-per-minute:1}")
+    private double emailRefillPerMinute;
+
+    @Value("${verification.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${verification.rate-limit.ip.refill-per-minute:10}")
+    private double ipRefillPerMinute;
+
+    @Value("${verification.rate-limit.verify.capacity:10}")
+    private int verifyCapacity;
+
+    @Value("${verification.rate-limit.verify.refill-per-minute:2}")
+    private double verifyRefillPerMinute;
 
-    @Transactional
-    public void sendVerificationCode(String email) {
+    public void sendVerificationCode(String email, String clientIp) {
         if (!EmailValidator.isSchoolEmail(email)) {
             throw ServiceException.badRequest("학교 이메일만 인증 가능합니다.");
         }
 
+        acquire("verification.ip", clientIp, Limit.perMinute(ipCapacity, ipRefillPerMinute));
+        acquire("verification.email", email, Limit.perMinute(emailCapacity, emailRefillPerMinute));
+
         String code = codeGenerator.generate6Digits();
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
-
-        verificationRepository.findByEmail(email)
-                .ifPresentOrElse(
-                        v -> v.updateCode(code, expiresAt),
-                        () -> verificationRepository.save(new Verification(email, code, expiresAt))
-                );
-
-        // emailService.sendVerificationEmail(email, code);
-        /*
-        이메일 실제로 보내는 부분 임시 비활성화
-        실제로 이메일이 가지 않지만 모든 기능 동일하게 작동합니다
-        */
-        log.info("[인증코드 발송 완료] email={}, code={}", email, code);
+        verificationCodeStore.save(email, code, CODE_TTL);
+
+        // 아웃박스에 저장만 하므로 SMTP 지연이 요청에 실리지 않음 (발송은 MailOutboxDispatcher)
+        emailService.sendVerificationEmail(email, code);
+        log.info("[인증코드 발송 요청] email={}", email);
     }
 
-    @Transactional
     public void verifyCode(String email, String code) {
-        Verification v = verificationRepository.findByEmail(email)
-                .orElseThrow(() -> ServiceException.notFound("인증 요청 기록이 없습니다."));
+        acquire("verification.verify", email, Limit.perMinute(verifyCapacity, verifyRefillPerMinute));
 
-        if (v.isExpired()) throw ServiceException.badRequest("인증코드가 만료되었습니다.");
-        if (!v.getCode().equals(code)) throw ServiceException.badRequest("인증코드가 올바르지 않습니다.");
-
-        v.markVerified();
-        log.info("[이메일 인증 성공] email={}", email);
+        switch (verificationCodeStore.verify(email, code)) {
+            case NOT_FOUND -> throw ServiceException.notFound("인증 요청 기록이 없거나 인증코드가 만료되었습니다.");
+            case MISMATCH -> throw ServiceException.badRequest("인증코드가 올바르지 않습니다.");
+            case VERIFIED -> log.info("[이메일 인증 성공] email={}", email);
+        }
     }
 
     public void assertVerifiedEmailOrThrow(String email) {
-        Verification v = verificationRepository.findByEmail(email)
+        VerificationCodeStore.Entry entry = verificationCodeStore.find(email)
                 .orElseThrow(() -> ServiceException.badRequest("이메일 인증이 필요합니다."));
-        if (!v.isVerified()) throw ServiceException.badRequest("이메일 인증이 완료되지 않았습니다.");
-        if (v.isExpired()) throw ServiceException.badRequest("인증코드가 만료되었습니다. 다시 요청해주세요.");
+        if (!entry.verified()) throw ServiceException.badRequest("이메일 인증이 완료되지 않았습니다.");
     }
 
-    @Transactional
     public void consumeVerification(String email) {
-        verificationRepository.deleteByEmail(email);
+        verificationCodeStore.consume(email);
+    }
+
+    private void acquire(String name, String id, Limit limit) {
+        TokenBucketRateLimiter.Decision decision = rateLimiter.tryAcquire(name, id, limit);
+        if (!decision.allowed()) {
+            throw ServiceException.tooManyRequests(
+                    "요청이 너무 많습니다. " + decision.retryAfterSeconds() + "초 후 다시 시도해주세요.");
+        }
     }
-}
\ No newline at end of file
+}
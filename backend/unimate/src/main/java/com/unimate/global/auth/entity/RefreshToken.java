@@ -6,6 +6,11 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 주체(사용자/관리자)별 현재 리프레시 토큰 (Redis 저장소의 내구성 백업)
+ * - 토큰 원문 대신 SHA-256 해시만 보관
+ * - family: 로그인 한 번에서 시작된 회전 체인 식별자
+ */
 @Entity
 @Getter
 @NoArgsConstructor
@@ -15,7 +20,7 @@ import lombok.NoArgsConstructor;
                 @UniqueConstraint(name = "uk_subject_type_id", columnNames = {"subject_type", "subject_id"})
         },
         indexes = {
-                @Index(name = "idx_refresh_token_value", columnList = "refresh_token")
+                @Index(name = "idx_refresh_token_hash", columnList = "token_hash")
         }
 )
 public class RefreshToken extends BaseEntity {
@@ -30,18 +35,17 @@ public class RefreshToken extends BaseEntity {
     @Column(name = "email", nullable = false, length = 255)
     private String email;
 
-    @Column(name = "refresh_token", nullable = false, length = 512)
-    private String refreshToken;
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
 
-    public RefreshToken(SubjectType subjectType, Long subjectId, String email, String refreshToken) {
+    @Column(name = "family", nullable = false, length = 36)
+    private String family;
+
+    public RefreshToken(SubjectType subjectType, Long subjectId, String email, String tokenHash, String family) {
         this.subjectType = subjectType;
         this.subjectId = subjectId;
         this.email = email;
-        this.refreshToken = refreshToken;
-    }
-
-    public void updateToken(String email, String newToken) {
-        this.email = email;
-        this.refreshToken = newToken;
+        this.tokenHash = tokenHash;
+        this.family = family;
     }
 }
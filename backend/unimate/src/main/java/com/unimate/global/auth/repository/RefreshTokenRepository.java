@@ -3,14 +3,25 @@ package com.unimate.global.auth.repository;
 import com.unimate.global.auth.entity.RefreshToken;
 import com.unimate.global.auth.model.SubjectType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     Optional<RefreshToken> findBySubjectTypeAndSubjectId(SubjectType type, Long subjectId);
 
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 조회 없이 한 번에 교체 (0건이면 호출 측에서 INSERT)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.email = :email, rt.tokenHash = :tokenHash, rt.family = :family, rt.updatedAt = :now " +
+            "WHERE rt.subjectType = :type AND rt.subjectId = :subjectId")
+    int replaceToken(@Param("type") SubjectType type, @Param("subjectId") Long subjectId, @Param("email") String email,
+                     @Param("tokenHash") String tokenHash, @Param("family") String family, @Param("now") LocalDateTime now);
 
     void deleteBySubjectTypeAndSubjectId(SubjectType type, Long subjectId);
-}
\ No newline at end of file
+}
@@ -0,0 +1,147 @@
+package com.unimate.global.auth.service;
+
+import com.unimate.global.exception.ServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시/검증 전용 실행기
+ * - BCrypt 는 CPU 를 오래 쓰므로 요청 스레드가 아닌 크기 제한 풀에서 실행 → 로그인 폭주가 다른 API 의 CPU 를 잠식하지 않음
+ * - 대기열이 가득 차면 즉시 429, 대기 시간 초과면 503
+ * - BCrypt 는 인터럽트를 확인하지 않으므로 시간 초과된 작업은 대기열에서만 빼고, 이미 실행 중이면 해시가 끝날 때까지 스레드를 점유
+ *   → 풀 크기는 (timeout-ms / 해시 1회 시간) * pool-size 가 queue-capacity 이상이 되도록 잡아야 대기열 끝의 요청도 제시간에 처리됨
+ * - 저장된 해시의 cost 가 설정값(auth.password.bcrypt-strength)과 다르면 로그인 성공 후 백그라운드로 재해시
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    @Value("${auth.password.async.enabled:true}")
+    private boolean asyncEnabled;
+
+    @Value("${auth.password.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${auth.password.bcrypt-strength:10}")
+    private int strength;
+
+    public PasswordHasher(BCryptPasswordEncoder encoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.password.pool-size:0}") int poolSize,
+                          @Value("${auth.password.queue-capacity:64}") int queueCapacity) {
+        this.encoder = encoder;
+        // 기본값: 코어의 절반 (나머지는 채팅/매칭 요청 몫)
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "pw-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("auth.password.rejected", rejected, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("auth.password.timed-out", timedOut, AtomicLong::get).register(meterRegistry);
+    }
+
+    public boolean matches(String raw, String encoded) {
+        if (raw == null || encoded == null) return false;
+        return run(() -> encoder.matches(raw, encoded));
+    }
+
+    public String encode(String raw) {
+        return run(() -> encoder.encode(raw));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정과 다르면 새 해시를 만들어 saver 로 전달 (비동기, 대기열이 차 있으면 다음 로그인으로 미룸)
+     */
+    public void rehashIfNeeded(String raw, String encoded, Consumer<String> saver) {
+        if (!needsRehash(encoded)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    saver.accept(encoder.encode(raw));
+                } catch (Exception e) {
+                    log.warn("비밀번호 재해시 저장 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // 다음 로그인 때 다시 시도
+        }
+    }
+
+    public boolean needsRehash(String encoded) {
+        if (encoded == null) return false;
+        Matcher m = BCRYPT_COST.matcher(encoded);
+        return m.find() && Integer.parseInt(m.group(1)) != strength;
+    }
+
+    private <T> T run(Callable<T> work) {
+        if (!asyncEnabled) {
+            try {
+                return work.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw ServiceException.tooManyRequests("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기 중이면 대기열 자리를 바로 비움 (실행 중인 해시는 중단되지 않음)
+            future.cancel(false);
+            executor.remove((Runnable) future);
+            timedOut.incrementAndGet();
+            throw ServiceException.serviceUnavailable("처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ServiceException.serviceUnavailable("처리가 중단되었습니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,243 @@
+package com.unimate.global.auth.service;
+
+import com.unimate.global.auth.entity.RefreshToken;
+import com.unimate.global.auth.model.SubjectType;
+import com.unimate.global.auth.repository.RefreshTokenRepository;
+import com.unimate.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 저장소
+ * - Redis: rt:{hash} → 토큰 정보(HASH, TTL=리프레시 수명), rt:family:{family} → 현재 토큰 해시, rt:subject:{type}:{id} → 현재 family
+ * - DB(refresh_token): 주체별 현재 토큰 해시를 write-through 로 보관 → Redis 유실/비활성 시 조회 대체
+ * - 재발급 때마다 토큰 회전, 이미 회전된 토큰이 다시 오면 탈취로 보고 family 전체 폐기
+ */
+@Slf4j
+@Component
+class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "rt:";
+    private static final String FAMILY_PREFIX = "rt:family:";
+    private static final String SUBJECT_PREFIX = "rt:subject:";
+    private static final String ACTIVE = "ACTIVE";
+    private static final String ROTATED = "ROTATED";
+
+    // 토큰 정보를 읽고 ACTIVE 면 ROTATED 로 바꿈 (동시 재발급 요청 중 하나만 ACTIVE 를 보게 됨)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local v = redis.call('HMGET', KEYS[1], 'status', 'subjectType', 'subjectId', 'email', 'family')
+            if not v[1] then return nil end
+            if v[1] == 'ACTIVE' then redis.call('HSET', KEYS[1], 'status', 'ROTATED') end
+            return v
+            """, List.class);
+
+    record Entry(SubjectType subjectType, Long subjectId, String email, String family) {
+    }
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${auth.refresh.redis.enabled:${cache.redis.enabled:true}}")
+    private boolean redisEnabled;
+
+    @Value("${jwt.refresh-token-expiration}")
+    private long refreshTokenExpirationMs;
+
+    RefreshTokenStore(RefreshTokenRepository refreshTokenRepository, StringRedisTemplate redisTemplate) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 로그인: 새 family 시작 (같은 주체의 이전 family 는 폐기 → 주체당 세션 하나)
+     */
+    void issue(SubjectType type, Long subjectId, String email, String token) {
+        Entry entry = new Entry(type, subjectId, email, UUID.randomUUID().toString());
+        String hash = hash(token);
+        persist(entry, hash);
+
+        if (!redisEnabled) return;
+        try {
+            String previousFamily = redisTemplate.opsForValue().get(subjectKey(type, subjectId));
+            if (previousFamily != null) {
+                revokeFamilyInRedis(previousFamily);
+            }
+            store(entry, hash);
+        } catch (Exception e) {
+            log.debug("리프레시 토큰 Redis 저장 실패 subject={}:{}: {}", type, subjectId, e.getMessage());
+        }
+    }
+
+    /**
+     * 재발급: 제시된 토큰을 소비하고 family 정보를 돌려줌 (이어서 rotate 로 새 토큰 등록)
+     * - 이미 회전된 토큰이면 family 폐기 후 401
+     */
+    Entry consume(String token) {
+        String hash = hash(token);
+        if (redisEnabled) {
+            try {
+                List<?> values = redisTemplate.execute(CONSUME_SCRIPT, List.of(KEY_PREFIX + hash));
+                if (values != null && !values.isEmpty() && values.get(0) != null) {
+                    Entry entry = new Entry(
+                            SubjectType.valueOf((String) values.get(1)),
+                            Long.valueOf((String) values.get(2)),
+                            (String) values.get(3),
+                            (String) values.get(4));
+                    if (ROTATED.equals(values.get(0))) {
+                        revokeFamily(entry);
+                        throw ServiceException.unauthorized("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+                    }
+                    return entry;
+                }
+            } catch (ServiceException e) {
+                throw e;
+            } catch (Exception e) {
+                log.debug("리프레시 토큰 Redis 조회 실패, DB 로 대체: {}", e.getMessage());
+            }
+        }
+
+        // 회전/폐기된 토큰은 DB 에 남지 않음 → Redis 와 같은 401 로 응답
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash)
+                .orElseThrow(() -> ServiceException.unauthorized("저장된 리프레시 토큰이 없습니다. 다시 로그인해주세요."));
+        return new Entry(stored.getSubjectType(), stored.getSubjectId(), stored.getEmail(), stored.getFamily());
+    }
+
+    /**
+     * 같은 family 의 다음 토큰 등록
+     */
+    void rotate(Entry entry, String newToken) {
+        String hash = hash(newToken);
+        persist(entry, hash);
+
+        if (!redisEnabled) return;
+        try {
+            store(entry, hash);
+        } catch (Exception e) {
+            log.debug("리프레시 토큰 Redis 회전 실패 family={}: {}", entry.family(), e.getMessage());
+        }
+    }
+
+    /**
+     * 로그아웃: 토큰이 속한 family 폐기
+     */
+    Optional<Entry> revoke(String token) {
+        String hash = hash(token);
+        Entry entry = null;
+        if (redisEnabled) {
+            try {
+                Map<Object, Object> values = redisTemplate.opsForHash().entries(KEY_PREFIX + hash);
+                if (!values.isEmpty()) {
+                    entry = new Entry(
+                            SubjectType.valueOf((String) values.get("subjectType")),
+                            Long.valueOf((String) values.get("subjectId")),
+                            (String) values.get("email"),
+                            (String) values.get("family"));
+                }
+            } catch (Exception e) {
+                log.debug("리프레시 토큰 Redis 조회 실패, DB 로 대체: {}", e.getMessage());
+            }
+        }
+        if (entry == null) {
+            entry = refreshTokenRepository.findByTokenHash(hash)
+                    .map(rt -> new Entry(rt.getSubjectType(), rt.getSubjectId(), rt.getEmail(), rt.getFamily()))
+                    .orElse(null);
+        }
+        if (entry == null) return Optional.empty();
+
+        revokeFamily(entry);
+        return Optional.of(entry);
+    }
+
+    /**
+     * 계정 탈퇴: 주체의 현재 family 폐기 (토큰 없이 주체 기준)
+     */
+    void revokeSubject(SubjectType type, Long subjectId) {
+        refreshTokenRepository.deleteBySubjectTypeAndSubjectId(type, subjectId);
+
+        if (!redisEnabled) return;
+        try {
+            String family = redisTemplate.opsForValue().getAndDelete(subjectKey(type, subjectId));
+            if (family != null) {
+                revokeFamilyInRedis(family);
+            }
+        } catch (Exception e) {
+            log.debug("리프레시 토큰 주체 Redis 폐기 실패 subject={}:{}: {}", type, subjectId, e.getMessage());
+        }
+    }
+
+    private void revokeFamily(Entry entry) {
+        // DB 에 남은 현재 토큰도 함께 지워야 Redis 유실 시 대체 조회로 되살아나지 않음
+        refreshTokenRepository.findBySubjectTypeAndSubjectId(entry.subjectType(), entry.subjectId())
+                .filter(rt -> rt.getFamily().equals(entry.family()))
+                .ifPresent(refreshTokenRepository::delete);
+
+        if (!redisEnabled) return;
+        try {
+            revokeFamilyInRedis(entry.family());
+            redisTemplate.delete(subjectKey(entry.subjectType(), entry.subjectId()));
+        } catch (Exception e) {
+            log.debug("리프레시 토큰 family Redis 폐기 실패 family={}: {}", entry.family(), e.getMessage());
+        }
+    }
+
+    // 현재 토큰 키와 family 포인터 삭제 (회전된 이전 토큰 키는 재사용 탐지용으로 TTL 까지 남김)
+    private void revokeFamilyInRedis(String family) {
+        String current = redisTemplate.opsForValue().getAndDelete(FAMILY_PREFIX + family);
+        if (current != null) {
+            redisTemplate.delete(KEY_PREFIX + current);
+        }
+    }
+
+    private void store(Entry entry, String hash) {
+        Duration ttl = Duration.ofMillis(refreshTokenExpirationMs);
+        String key = KEY_PREFIX + hash;
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                "status", ACTIVE,
+                "subjectType", entry.subjectType().name(),
+                "subjectId", entry.subjectId().toString(),
+                "email", entry.email(),
+                "family", entry.family()));
+        redisTemplate.expire(key, ttl);
+        redisTemplate.opsForValue().set(FAMILY_PREFIX + entry.family(), hash, ttl);
+        redisTemplate.opsForValue().set(subjectKey(entry.subjectType(), entry.subjectId()), entry.family(), ttl);
+    }
+
+    // 조회 없이 UPDATE, 첫 로그인이면 INSERT
+    private void persist(Entry entry, String hash) {
+        int updated = refreshTokenRepository.replaceToken(
+                entry.subjectType(), entry.subjectId(), entry.email(), hash, entry.family(), LocalDateTime.now());
+        if (updated == 0) {
+            refreshTokenRepository.save(
+                    new RefreshToken(entry.subjectType(), entry.subjectId(), entry.email(), hash, entry.family()));
+        }
+    }
+
+    private static String subjectKey(SubjectType type, Long subjectId) {
+        return SUBJECT_PREFIX + type + ":" + subjectId;
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
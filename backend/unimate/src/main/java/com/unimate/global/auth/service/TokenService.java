@@ -1,9 +1,7 @@
 package com.unimate.global.auth.service;
 
 import com.unimate.global.auth.dto.Tokens;
-import com.unimate.global.auth.entity.RefreshToken;
 import com.unimate.global.auth.model.SubjectType;
-import com.unimate.global.auth.repository.RefreshTokenRepository;
 import com.unimate.global.exception.ServiceException;
 import com.unimate.global.jwt.JwtProvider;
 import com.unimate.global.jwt.JwtToken;
@@ -16,38 +14,46 @@ import org.springframework.transaction.annotation.Transactional;
 public class TokenService {
 
     private final JwtProvider jwtProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Transactional
     public Tokens issueTokens(SubjectType subjectType, Long subjectId, String email) {
         JwtToken token = jwtProvider.generateToken(email, subjectId);
-
-        refreshTokenRepository.findBySubjectTypeAndSubjectId(subjectType, subjectId)
-                .ifPresentOrElse(
-                        rt -> rt.updateToken(email, token.getRefreshToken()),
-                        () -> refreshTokenRepository.save(new RefreshToken(subjectType, subjectId, email, token.getRefreshToken()))
-                );
+        refreshTokenStore.issue(subjectType, subjectId, email, token.getRefreshToken());
 
         return Tokens.of(subjectId, email, token.getAccessToken(), token.getRefreshToken());
     }
 
-    @Transactional(readOnly = true)
-    public String reissueAccessToken(String refreshToken) {
+    /**
+     * 액세스 토큰 재발급 + 리프레시 토큰 회전
+     * - 재사용 탐지로 family 를 폐기한 경우에도 폐기 내용은 커밋되어야 하므로 ServiceException 은 롤백하지 않음
+     */
+    @Transactional(noRollbackFor = ServiceException.class)
+    public Tokens reissueTokens(String refreshToken) {
         if (!jwtProvider.validateToken(refreshToken)) {
             throw ServiceException.unauthorized("유효하지 않은 리프레시 토큰입니다.");
         }
 
-        RefreshToken stored = refreshTokenRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> ServiceException.notFound("저장된 리프레시 토큰이 없습니다."));
+        RefreshTokenStore.Entry stored = refreshTokenStore.consume(refreshToken);
+
+        JwtToken newToken = jwtProvider.generateToken(stored.email(), stored.subjectId());
+        refreshTokenStore.rotate(stored, newToken.getRefreshToken());
 
-        JwtToken newToken = jwtProvider.generateToken(stored.getEmail(), stored.getSubjectId());
-        return newToken.getAccessToken();
+        return Tokens.of(stored.subjectId(), stored.email(), newToken.getAccessToken(), newToken.getRefreshToken());
     }
 
     @Transactional
     public void logout(String refreshToken) {
-        RefreshToken rt = refreshTokenRepository.findByRefreshToken(refreshToken)
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw ServiceException.badRequest("유효하지 않은 리프레시 토큰입니다.");
+        }
+        refreshTokenStore.revoke(refreshToken)
                 .orElseThrow(() -> ServiceException.badRequest("유효하지 않은 리프레시 토큰입니다."));
-        refreshTokenRepository.delete(rt);
+    }
+
+    // 계정 탈퇴 시 남은 리프레시 토큰 폐기 (발급된 액세스 토큰은 만료까지 유효)
+    @Transactional
+    public void revokeAll(SubjectType subjectType, Long subjectId) {
+        refreshTokenStore.revokeSubject(subjectType, subjectId);
     }
 }
@@ -0,0 +1,62 @@
+package com.unimate.global.config;
+
+import com.unimate.domain.notification.service.ChatNotificationDispatcher;
+import com.unimate.domain.notification.service.NotificationRetentionJob;
+import com.unimate.global.ws.WsChannelMetrics;
+import com.unimate.global.ws.WsSessionMonitor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 메트릭 설정
+ * - 기본값(metrics-defaults.properties): /actuator/prometheus 노출, 공통 태그 application=unimate
+ *   (외부 설정에서 덮어쓸 수 있음)
+ * - 조회는 수집 전용 계정(metrics.scrape.username/password)의 HTTP Basic 인증 필요 (SecurityConfig 참고)
+ * - 컴포넌트가 이미 들고 있는 상태값을 게이지로 등록 (STOMP 채널 적체, 알림 디스패처 큐, 보관 기간 정리)
+ */
+@Configuration
+@PropertySource("classpath:metrics-defaults.properties")
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder wsMetrics(WsChannelMetrics channelMetrics, WsSessionMonitor sessionMonitor) {
+        return registry -> {
+            for (String channel : channelMetrics.getChannels()) {
+                Gauge.builder("ws.channel.queue.depth", channelMetrics, m -> m.queueDepth(channel))
+                        .description("STOMP 채널 실행기 대기 작업 수")
+                        .tag("channel", channel)
+                        .register(registry);
+                Gauge.builder("ws.channel.active", channelMetrics, m -> m.activeCount(channel))
+                        .tag("channel", channel)
+                        .register(registry);
+            }
+            Gauge.builder("ws.sessions.active", sessionMonitor, WsSessionMonitor::getActiveSessions)
+                    .register(registry);
+            FunctionCounter.builder("ws.sessions.slow.disconnects", sessionMonitor, WsSessionMonitor::getSlowConsumerDisconnects)
+                    .description("느린 소비자로 끊긴 세션 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder notificationMetrics(ChatNotificationDispatcher dispatcher, NotificationRetentionJob retentionJob) {
+        return registry -> {
+            Gauge.builder("notification.dispatch.queue.depth", dispatcher, ChatNotificationDispatcher::getQueueDepth)
+                    .description("채팅 알림 디스패처 대기 건수")
+                    .register(registry);
+            FunctionCounter.builder("notification.dispatch.dropped", dispatcher, ChatNotificationDispatcher::getDroppedCount)
+                    .description("큐 초과 또는 저장 재시도 초과로 버린 채팅 알림 수")
+                    .register(registry);
+            Gauge.builder("notification.dispatch.retry.depth", dispatcher, ChatNotificationDispatcher::getRetryDepth)
+                    .description("저장 실패로 다음 주기에 다시 시도할 채팅 알림 수")
+                    .register(registry);
+            Gauge.builder("notification.retention.last.purged", retentionJob, NotificationRetentionJob::getLastPurged)
+                    .description("직전 보관 기간 정리에서 삭제한 알림 수")
+                    .register(registry);
+        };
+    }
+}
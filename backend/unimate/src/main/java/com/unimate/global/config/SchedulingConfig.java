@@ -0,0 +1,22 @@
+package com.unimate.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// @Scheduled 기반 주기 작업 활성화 (presence heartbeat 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // WebSocket 브로커 스케줄러와 분리된 @Scheduled 전용 스케줄러 (작업 하나가 길어져도 다른 작업이 밀리지 않도록)
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        return scheduler;
+    }
+}
@@ -2,14 +2,22 @@ package com.unimate.global.config;
 
 import com.unimate.global.jwt.JwtAuthEntryPoint;
 import com.unimate.global.jwt.JwtAuthFilter;
+import com.unimate.global.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -25,6 +33,7 @@ import java.util.Arrays;
 public class SecurityConfig {
     private final JwtAuthFilter jwtFilter;
     private final JwtAuthEntryPoint entryPoint;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -45,6 +54,7 @@ public class SecurityConfig {
                                 "/api/v1/admin/auth/signup",
                                 "/api/v1/admin/auth/token/refresh",
                                 "/error",
+                                "/actuator/health",
                                 "/favicon.ico",
                                 "/h2-console/**",
                                 "/ws-stomp/**",//WS 핸드셰이크 허용
@@ -57,14 +67,44 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
 
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                // 인증 결과(사용자 id)를 버킷 키로 쓰므로 JWT 필터 뒤
+                .addFilterAfter(rateLimitFilter, JwtAuthFilter.class);
 
         return http.build();
     }
 
+    // Prometheus 수집 전용 체인: 전용 계정(HTTP Basic)으로만 조회, 비밀번호를 설정하지 않으면 항상 401
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(HttpSecurity http, BCryptPasswordEncoder passwordEncoder,
+                                                  @Value("${metrics.scrape.username:prometheus}") String username,
+                                                  @Value("${metrics.scrape.password:}") String password) throws Exception {
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager();
+        if (!password.isBlank()) {
+            scrapers.createUser(User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles("METRICS")
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(scrapers);
+        provider.setPasswordEncoder(passwordEncoder);
+
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authenticationManager(new ProviderManager(provider))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("METRICS"))
+                .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
+    // cost 를 바꾸면 기존 해시는 로그인 시 PasswordHasher 가 새 cost 로 재해시
+    @Bean
+    public BCryptPasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
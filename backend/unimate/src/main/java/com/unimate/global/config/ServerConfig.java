@@ -0,0 +1,14 @@
+package com.unimate.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 서버 설정
+ * - 기본값(server-defaults.properties): 프록시 뒤에서 전달 헤더의 클라이언트 주소 사용
+ *   (요청 제한의 IP 버킷이 프록시 주소 하나로 묶이지 않게 함, 외부 설정에서 덮어쓸 수 있음)
+ */
+@Configuration
+@PropertySource("classpath:server-defaults.properties")
+public class ServerConfig {
+}
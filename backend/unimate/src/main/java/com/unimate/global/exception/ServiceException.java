@@ -37,5 +37,13 @@ public class ServiceException extends RuntimeException {
     public static ServiceException forbidden(String message) {
         return new ServiceException(HttpStatus.FORBIDDEN, "FORBIDDEN", message);
     }
+
+    public static ServiceException tooManyRequests(String message) {
+        return new ServiceException(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", message);
+    }
+
+    public static ServiceException serviceUnavailable(String message) {
+        return new ServiceException(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_UNAVAILABLE", message);
+    }
 }
 
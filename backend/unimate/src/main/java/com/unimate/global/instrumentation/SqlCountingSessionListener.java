@@ -0,0 +1,47 @@
+package com.unimate.global.instrumentation;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션 이벤트로 JDBC 실행 횟수/시간, 2차 캐시 적중을 현재 요청 통계에 누적
+ * - hibernate.session.events.auto 로 세션마다 새로 생성됨 (SqlInstrumentationConfig)
+ */
+public class SqlCountingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - statementStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - batchStart);
+        }
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.cacheGet(hit);
+        }
+    }
+}
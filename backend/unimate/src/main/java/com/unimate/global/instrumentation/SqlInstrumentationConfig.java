@@ -0,0 +1,41 @@
+package com.unimate.global.instrumentation;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청별 SQL 계측 설정
+ * - 세션 이벤트 리스너 등록 (실행 횟수/시간, 캐시 적중)
+ * - PostLoad 리스너 등록 (로딩된 엔티티 수 → N+1 의 가장 직접적인 신호)
+ */
+@Configuration
+@ConditionalOnProperty(name = "instrumentation.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlCountingSessionListenerCustomizer() {
+        return props -> props.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlCountingSessionListener.class.getName());
+    }
+
+    @Bean
+    public InitializingBean entityLoadCounterRegistrar(EntityManagerFactory emf) {
+        return () -> emf.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> {
+                    SqlRequestStats stats = SqlRequestStats.current();
+                    if (stats != null) {
+                        stats.entityLoaded();
+                    }
+                });
+    }
+}
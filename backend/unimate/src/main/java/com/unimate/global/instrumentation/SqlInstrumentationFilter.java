@@ -0,0 +1,110 @@
+package com.unimate.global.instrumentation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 계측
+ * - 엔드포인트(매핑 패턴) 단위로 SQL 문 수, JDBC 시간, 로딩 엔티티 수, 2차 캐시 적중/실패를 Micrometer 로 기록
+ * - SQL 문 수가 예산을 넘으면 경고 로그 (fail-on-budget-exceeded=true 면 응답을 내보내기 전에 예외 → 테스트에서 N+1 회귀를 바로 잡음)
+ * - JdbcTemplate 직접 호출은 Hibernate 세션을 거치지 않으므로 집계 대상이 아님
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "instrumentation.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${instrumentation.sql.statement-budget:30}")
+    private int statementBudget;
+
+    @Value("${instrumentation.sql.fail-on-budget-exceeded:false}")
+    private boolean failOnBudgetExceeded;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // 예산 초과 시 실패시키려면 응답이 커밋되기 전에 판단해야 하므로 본문을 버퍼에 모아 둠
+        ContentCachingResponseWrapper buffered = failOnBudgetExceeded ? new ContentCachingResponseWrapper(response) : null;
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlRequestStats.end();
+        }
+
+        String violation = check(request, stats);
+        if (violation != null && buffered != null) {
+            // 버퍼를 내보내지 않고 실패 → 컨테이너/MockMvc 가 원래 응답 대신 오류로 처리
+            throw new IllegalStateException(violation);
+        }
+        if (buffered != null) {
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    // 계측 기록 후 예산을 넘었으면 경고 메시지 반환
+    private String check(HttpServletRequest request, SqlRequestStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) return null; // 정적 리소스, 인증 실패 등 핸들러까지 가지 않은 요청
+        String endpoint = request.getMethod() + " " + pattern;
+        record(request.getMethod(), pattern.toString(), stats);
+
+        if (stats.getStatements() <= statementBudget) return null;
+        String message = String.format("SQL 문 예산 초과 %s - %d건 (예산 %d, 엔티티 %d개, JDBC %dms)",
+                endpoint, stats.getStatements(), statementBudget, stats.getEntitiesLoaded(),
+                TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()));
+        log.warn(message);
+        return message;
+    }
+
+    private void record(String method, String uri, SqlRequestStats stats) {
+        Tags tags = Tags.of("method", method, "uri", uri);
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("요청당 실행된 SQL 문 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("http.server.requests.sql.jdbc.time")
+                .description("요청당 JDBC 실행 시간 합계")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("http.server.requests.sql.entities.loaded")
+                .description("요청당 로딩된 엔티티 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getEntitiesLoaded());
+        if (stats.getCacheHits() > 0) {
+            Counter.builder("http.server.requests.sql.cache").tags(tags.and("result", "hit"))
+                    .register(meterRegistry).increment(stats.getCacheHits());
+        }
+        if (stats.getCacheMisses() > 0) {
+            Counter.builder("http.server.requests.sql.cache").tags(tags.and("result", "miss"))
+                    .register(meterRegistry).increment(stats.getCacheMisses());
+        }
+    }
+}
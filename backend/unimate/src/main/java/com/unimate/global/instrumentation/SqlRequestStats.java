@@ -0,0 +1,68 @@
+package com.unimate.global.instrumentation;
+
+/**
+ * 요청 하나 동안의 SQL 실행 통계 (요청 스레드에 바인딩)
+ * - SqlInstrumentationFilter 가 begin/end, Hibernate 리스너가 값을 누적
+ * - 요청 밖(스케줄러, 배치 등)에서는 current() 가 null 이므로 아무것도 집계하지 않음
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private int entitiesLoaded;
+    private int cacheHits;
+    private int cacheMisses;
+
+    private SqlRequestStats() {
+    }
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void cacheGet(boolean hit) {
+        if (hit) cacheHits++;
+        else cacheMisses++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    public int getCacheMisses() {
+        return cacheMisses;
+    }
+}
@@ -1,5 +1,7 @@
 package com.unimate.global.jwt;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +16,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -21,6 +24,7 @@ import java.util.Collections;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -34,15 +38,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!jwtProvider.validateToken(token)) {
+        // 토큰 검증 시간 (jwt.validation{result=valid|invalid}), 검증과 클레임 추출은 한 번의 파싱으로
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Optional<JwtClaims> claims = jwtProvider.parse(token);
+        sample.stop(meterRegistry.timer("jwt.validation", "result", claims.isPresent() ? "valid" : "invalid"));
+
+        if (claims.isEmpty()) {
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "인증 실패");
             return;
         }
 
-            String email = jwtProvider.getEmailFromToken(token);
-            Long userId = jwtProvider.getUserIdFromToken(token);
-
-            CustomUserPrincipal principal = new CustomUserPrincipal(userId, email);
+            CustomUserPrincipal principal = new CustomUserPrincipal(claims.get().userId(), claims.get().email());
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(principal, null, Collections.emptyList());
 
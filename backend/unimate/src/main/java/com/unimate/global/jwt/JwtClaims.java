@@ -0,0 +1,14 @@
+package com.unimate.global.jwt;
+
+import java.time.Instant;
+
+/**
+ * 검증을 마친 토큰의 클레임 (한 번 파싱해 필요한 값만 보관)
+ * - refresh 토큰은 subject/userId 가 없으므로 null
+ */
+public record JwtClaims(String email, Long userId, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -2,33 +2,58 @@ package com.unimate.global.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * JWT 발급/검증
+ * - 파서는 키와 함께 한 번만 만들어 재사용 (jjwt 파서는 불변 → 스레드 안전)
+ * - parse() 한 번으로 서명 검증 + 클레임 추출
+ * - 최근 검증한 토큰은 토큰 해시(SHA-256) → 클레임으로 만료 시각까지 캐시 (jwt.verify-cache.*)
+ *   가득 차면 가장 오래 쓰이지 않은 항목 하나를 O(1) 로 밀어내는 LRU (접근 순서 LinkedHashMap)
+ */
 @Slf4j
 @Component
 public class JwtProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long accessTokenExpirationTime;
+    private final long refreshTokenExpirationTime;
 
-    @Value("${jwt.access-token-expiration}")
-    private long accessTokenExpirationTime;
+    private final boolean cacheEnabled;
+    private final Map<String, JwtClaims> verifiedCache;
 
-    @Value("${jwt.refresh-token-expiration}")
-    private long refreshTokenExpirationTime;
-
-    private SecretKey key;
-
-    @PostConstruct
-    public void init() {
+    public JwtProvider(@Value("${jwt.secret}") String secretKey,
+                       @Value("${jwt.access-token-expiration}") long accessTokenExpirationTime,
+                       @Value("${jwt.refresh-token-expiration}") long refreshTokenExpirationTime,
+                       @Value("${jwt.verify-cache.enabled:true}") boolean cacheEnabled,
+                       @Value("${jwt.verify-cache.max-size:10000}") int cacheMaxSize) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.accessTokenExpirationTime = accessTokenExpirationTime;
+        this.refreshTokenExpirationTime = refreshTokenExpirationTime;
+        this.cacheEnabled = cacheEnabled;
+        this.verifiedCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > cacheMaxSize;
+            }
+        });
     }
 
     public JwtToken generateToken(String email, Long userId) {
@@ -42,7 +67,9 @@ public class JwtProvider {
                 .signWith(key)
                 .compact();
 
+        // jti: 같은 초에 회전해도 토큰(해시)이 겹치지 않도록
         String refreshToken = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .issuedAt(now)
                 .expiration(new Date(now.getTime() + refreshTokenExpirationTime))
                 .signWith(key)
@@ -51,25 +78,59 @@ public class JwtProvider {
         return new JwtToken("Bearer", accessToken, refreshToken, accessTokenExpirationTime);
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 검증 + 클레임 추출 (유효하지 않으면 empty)
+     */
+    public Optional<JwtClaims> parse(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        Instant now = Instant.now();
+        String cacheKey = cacheEnabled ? hash(token) : null;
+        if (cacheKey != null) {
+            JwtClaims cached = verifiedCache.get(cacheKey);
+            if (cached != null) {
+                if (!cached.isExpired(now)) return Optional.of(cached);
+                verifiedCache.remove(cacheKey);
+            }
+        }
+
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            JwtClaims result = new JwtClaims(
+                    claims.getSubject(),
+                    claims.get("userId", Long.class),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+            if (cacheKey != null && result.expiresAt() != null) {
+                verifiedCache.put(cacheKey, result);
+            }
+            return Optional.of(result);
         } catch (ExpiredJwtException e) {
             log.warn("토큰 만료: {}", e.getMessage());
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("잘못된 토큰: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public boolean validateToken(String token) {
+        return parse(token).isPresent();
     }
 
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-        return claims.getSubject();
+        return parse(token).map(JwtClaims::email).orElse(null);
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-        return claims.get("userId", Long.class);
+        return parse(token).map(JwtClaims::userId).orElse(null);
+    }
+
+    // 토큰 원문 대신 해시를 키로 사용 (메모리에 토큰을 남기지 않음)
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
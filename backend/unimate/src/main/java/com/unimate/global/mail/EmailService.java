@@ -1,38 +1,37 @@
 package com.unimate.global.mail;
 
+import com.unimate.global.mail.entity.MailOutbox;
+import com.unimate.global.mail.repository.MailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+/**
+ * 메일 발송 요청
+ * - 아웃박스(mail_outbox)에 저장만 하고 바로 반환 → SMTP 지연/장애가 요청 지연으로 번지지 않음
+ * - 실제 발송과 재시도는 MailOutboxDispatcher
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final MailOutboxRepository mailOutboxRepository;
 
     public void sendVerificationEmail(String to, String code) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject("[Unimate] 이메일 인증 코드");
-            message.setText("""
-                    안녕하세요 😊
-
-                    요청하신 이메일 인증 코드는 아래와 같습니다.
-
-                    🔐 인증 코드: %s
-
-                    본 메일은 발신 전용입니다. 10분 내에 인증을 완료해주세요.
-                    """.formatted(code));
-            mailSender.send(message);
-
-            log.info("[이메일 발송 성공] email={}, code={}", to, code);
-        } catch (Exception e) {
-            log.error("[이메일 발송 실패] email={}", to, e);
-            throw new RuntimeException("이메일 발송 중 오류가 발생했습니다.");
-        }
+        enqueue(to, "[Unimate] 이메일 인증 코드", """
+                안녕하세요 😊
+
+                요청하신 이메일 인증 코드는 아래와 같습니다.
+
+                🔐 인증 코드: %s
+
+                본 메일은 발신 전용입니다. 10분 내에 인증을 완료해주세요.
+                """.formatted(code));
+    }
+
+    public void enqueue(String to, String subject, String body) {
+        MailOutbox mail = mailOutboxRepository.save(new MailOutbox(to, subject, body));
+        log.info("[메일 발송 대기열 등록] id={}, email={}", mail.getId(), to);
     }
 }
@@ -0,0 +1,213 @@
+package com.unimate.global.mail;
+
+import com.unimate.global.mail.entity.MailOutbox;
+import com.unimate.global.mail.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.SendFailedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 아웃박스 발송기
+ * - 주기적으로 발송할 차례인 메일을 묶음 단위로 점유(claim)해 워커 풀에서 발송
+ * - 묶음 하나는 send(messages...) 한 번 → SMTP 연결 하나로 여러 통 전송 (메일마다 연결/인증 반복 없음)
+ * - 실패한 메일만 지수 백오프(+지터)로 재시도, 최대 시도 횟수를 넘거나 수신자 주소 오류면 FAILED
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final int workers;
+    private final Timer batchTimer;
+
+    @Value("${mail.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.backoff-initial-ms:5000}")
+    private long backoffInitialMs;
+
+    @Value("${mail.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    // 워커가 죽었을 때 다른 워커가 다시 집어가기까지의 점유 기간
+    @Value("${mail.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    @Value("${mail.outbox.retention-days:7}")
+    private int retentionDays;
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository,
+                                JavaMailSender mailSender,
+                                MeterRegistry meterRegistry,
+                                @Value("${mail.outbox.workers:2}") int workers) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
+        this.workers = Math.max(1, workers);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.workers, this.workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "mail-sender-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.batchTimer = Timer.builder("mail.outbox.batch")
+                .description("메일 묶음 하나의 SMTP 발송 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("mail.outbox.pending", mailOutboxRepository, r -> r.countByStatus(MailOutbox.Status.PENDING))
+                .description("발송 대기 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.workers.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쉬는 워커 수만큼 묶음을 점유해 넘김 (워커가 모두 바쁘면 다음 주기로)
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (!enabled) return;
+
+        try {
+            int idle = workers - executor.getActiveCount() - executor.getQueue().size();
+            while (idle-- > 0) {
+                List<MailOutbox> batch = claim();
+                if (batch.isEmpty()) break;
+                executor.execute(() -> send(batch));
+                if (batch.size() < batchSize) break;
+            }
+        } catch (Exception e) {
+            log.warn("메일 아웃박스 점유 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${mail.outbox.purge-cron:0 0 4 * * *}")
+    public void purgeSent() {
+        int purged = mailOutboxRepository.deleteSentBefore(MailOutbox.Status.SENT, LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("[발송 완료 메일 정리] {}건 삭제", purged);
+        }
+    }
+
+    private List<MailOutbox> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = mailOutboxRepository.findClaimableIds(
+                MailOutbox.Status.PENDING, MailOutbox.Status.SENDING, now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) return List.of();
+
+        String token = UUID.randomUUID().toString();
+        int claimed = mailOutboxRepository.claim(ids, token, MailOutbox.Status.PENDING, MailOutbox.Status.SENDING,
+                now, now.plus(Duration.ofMillis(leaseMs)));
+        return claimed == 0 ? List.of() : mailOutboxRepository.findByClaimToken(token);
+    }
+
+    private void send(List<MailOutbox> batch) {
+        Map<SimpleMailMessage, MailOutbox> byMessage = new IdentityHashMap<>();
+        for (MailOutbox mail : batch) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getRecipient());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+            byMessage.put(message, mail);
+        }
+
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        long start = System.nanoTime();
+        try {
+            mailSender.send(byMessage.keySet().toArray(SimpleMailMessage[]::new));
+        } catch (MailSendException e) {
+            // 메시지별 실패만 담겨 옴 (연결 자체 실패면 전부)
+            failures.putAll(e.getFailedMessages());
+            if (failures.isEmpty()) byMessage.keySet().forEach(m -> failures.put(m, e));
+        } catch (MailException e) {
+            // 인증 실패 등 묶음 전체 실패
+            byMessage.keySet().forEach(m -> failures.put(m, e));
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        List<Long> sent = new ArrayList<>();
+        byMessage.forEach((message, mail) -> {
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                sent.add(mail.getId());
+            } else {
+                fail(mail, failure);
+            }
+        });
+        if (!sent.isEmpty()) {
+            mailOutboxRepository.markSent(sent, MailOutbox.Status.SENT, LocalDateTime.now());
+            counter("mail.outbox.sent", "result", "sent").increment(sent.size());
+        }
+    }
+
+    private void fail(MailOutbox mail, Exception failure) {
+        int attempts = mail.getAttempts() + 1;
+        boolean permanent = failure instanceof SendFailedException sfe
+                && sfe.getInvalidAddresses() != null && sfe.getInvalidAddresses().length > 0;
+        String error = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        if (error.length() > 500) error = error.substring(0, 500);
+
+        if (permanent || attempts >= maxAttempts) {
+            mailOutboxRepository.markFailed(mail.getId(), MailOutbox.Status.FAILED, mail.getNextAttemptAt(), error);
+            counter("mail.outbox.sent", "result", "failed").increment();
+            log.warn("[메일 발송 포기] id={}, to={}, attempts={}: {}", mail.getId(), mail.getRecipient(), attempts, error);
+        } else {
+            mailOutboxRepository.markFailed(mail.getId(), MailOutbox.Status.PENDING,
+                    LocalDateTime.now().plus(Duration.ofMillis(backoff(attempts))), error);
+            counter("mail.outbox.sent", "result", "retry").increment();
+            log.debug("[메일 발송 재시도 예약] id={}, attempts={}: {}", mail.getId(), attempts, error);
+        }
+    }
+
+    // initial * 2^(attempts-1), 최대 backoffMaxMs, ±20% 지터 (동시에 실패한 메일이 같은 시각에 몰리지 않도록)
+    private long backoff(int attempts) {
+        long base = Math.min(backoffMaxMs, backoffInitialMs << Math.min(attempts - 1, 20));
+        return (long) (base * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+    }
+
+    private Counter counter(String name, String tagKey, String tagValue) {
+        return Counter.builder(name).tag(tagKey, tagValue).register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
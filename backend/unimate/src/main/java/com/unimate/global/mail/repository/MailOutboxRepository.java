@@ -0,0 +1,80 @@
+package com.unimate.global.mail.repository;
+
+import com.unimate.global.mail.entity.MailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송할 차례인 대기 메일 + 점유 기간이 지난(워커가 죽은) 발송 중 메일
+    @Query("""
+            select m.id from MailOutbox m
+             where (m.status = :pending and m.nextAttemptAt <= :now)
+                or (m.status = :sending and m.leaseUntil < :now)
+             order by m.nextAttemptAt
+            """)
+    List<Long> findClaimableIds(@Param("pending") MailOutbox.Status pending,
+                                @Param("sending") MailOutbox.Status sending,
+                                @Param("now") LocalDateTime now,
+                                Pageable pageable);
+
+    // 후보 중 아직 아무도 집어가지 않은 행만 점유 (여러 인스턴스가 같은 후보를 봐도 한 곳만 성공)
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutbox m
+               set m.status = :sending, m.claimToken = :token, m.leaseUntil = :leaseUntil
+             where m.id in :ids
+               and ((m.status = :pending and m.nextAttemptAt <= :now)
+                 or (m.status = :sending and m.leaseUntil < :now))
+            """)
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("token") String token,
+              @Param("pending") MailOutbox.Status pending,
+              @Param("sending") MailOutbox.Status sending,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<MailOutbox> findByClaimToken(String claimToken);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutbox m
+               set m.status = :sent, m.sentAt = :now, m.attempts = m.attempts + 1,
+                   m.claimToken = null, m.leaseUntil = null, m.lastError = null
+             where m.id in :ids
+            """)
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("sent") MailOutbox.Status sent,
+                 @Param("now") LocalDateTime now);
+
+    // 실패: 재시도면 PENDING + 다음 시도 시각, 포기면 FAILED
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutbox m
+               set m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.attempts = m.attempts + 1,
+                   m.lastError = :error, m.claimToken = null, m.leaseUntil = null
+             where m.id = :id
+            """)
+    int markFailed(@Param("id") Long id,
+                   @Param("status") MailOutbox.Status status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    long countByStatus(MailOutbox.Status status);
+
+    @Transactional
+    @Modifying
+    @Query("delete from MailOutbox m where m.status = :sent and m.sentAt < :cutoff")
+    int deleteSentBefore(@Param("sent") MailOutbox.Status sent, @Param("cutoff") LocalDateTime cutoff);
+}
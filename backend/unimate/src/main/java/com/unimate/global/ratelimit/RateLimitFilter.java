@@ -0,0 +1,101 @@
+package com.unimate.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unimate.global.jwt.CustomUserPrincipal;
+import com.unimate.global.ratelimit.TokenBucketRateLimiter.Decision;
+import com.unimate.global.ratelimit.TokenBucketRateLimiter.Limit;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST 요청 제한 (JwtAuthFilter 바로 뒤 → 인증된 요청은 사용자 id, 아니면 IP 기준)
+ * - IP 는 프록시가 전달한 클라이언트 주소 (ServerConfig 의 forward-headers 설정)
+ * - 기본 버킷: /api/** 전체에 사용자별 하나
+ * - 경로 버킷: ratelimit.http.routes 에 지정한 경로마다 사용자별 하나 (비싼 API 를 따로 조임)
+ * - 초과 시 429 + Retry-After, 본문은 GlobalExceptionHandler 와 같은 형식
+ * - 로컬 버킷/미리 받아 둔 토큰으로 먼저 판정하므로 /api 요청마다 Redis 를 왕복하지 않음 (TokenBucketRateLimiter 참고)
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String DEFAULT_BUCKET = "http.default";
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final Limit defaultLimit;
+    private final List<RateLimitRule> routes;
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter,
+                           ObjectMapper objectMapper,
+                           @Value("${ratelimit.http.default.capacity:120}") int defaultCapacity,
+                           @Value("${ratelimit.http.default.refill-per-minute:600}") double defaultRefillPerMinute,
+                           @Value("${ratelimit.http.routes:GET /api/v1/matches/recommendations=10/30}") String routes) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.defaultLimit = Limit.perMinute(defaultCapacity, defaultRefillPerMinute);
+        this.routes = RateLimitRule.parseAll(routes);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = clientKey(request);
+        String path = request.getRequestURI();
+
+        Decision decision = rateLimiter.tryAcquire(DEFAULT_BUCKET, client, defaultLimit);
+        for (RateLimitRule rule : routes) {
+            if (!decision.allowed()) break;
+            if (rule.matches(request.getMethod(), path)) {
+                decision = rateLimiter.tryAcquire("http:" + rule.name(), client, rule.limit());
+            }
+        }
+
+        if (!decision.allowed()) {
+            reject(response, decision);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return "u" + principal.getUserId();
+        }
+        return "ip" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, Decision decision) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), Map.of(
+                "timestamp", LocalDateTime.now().toString(),
+                "status", HttpStatus.TOO_MANY_REQUESTS.value(),
+                "error", "TOO_MANY_REQUESTS",
+                "message", "요청이 너무 많습니다. " + decision.retryAfterSeconds() + "초 후 다시 시도해주세요."
+        ));
+    }
+}
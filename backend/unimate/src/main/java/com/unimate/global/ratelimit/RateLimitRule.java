@@ -0,0 +1,48 @@
+package com.unimate.global.ratelimit;
+
+import com.unimate.global.ratelimit.TokenBucketRateLimiter.Limit;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로별 요청 제한 규칙
+ * - 설정 형식: "[METHOD ]패턴=버킷크기/분당보충" 을 ; 로 구분
+ *   예) GET /api/v1/matches/recommendations=10/30; /pub/chat.send=20/120
+ * - 메서드를 생략하면 모든 메서드(STOMP 는 SEND)에 적용
+ */
+public record RateLimitRule(String method, String pattern, Limit limit) {
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    public static List<RateLimitRule> parseAll(String spec) {
+        List<RateLimitRule> rules = new ArrayList<>();
+        if (spec == null || spec.isBlank()) return rules;
+
+        for (String entry : spec.split(";")) {
+            if (entry.isBlank()) continue;
+            String[] routeAndLimit = entry.trim().split("=");
+            String[] limitParts = routeAndLimit.length == 2 ? routeAndLimit[1].trim().split("/") : new String[0];
+            if (limitParts.length != 2) {
+                throw new IllegalArgumentException("요청 제한 규칙 형식이 올바르지 않습니다: " + entry);
+            }
+
+            String[] route = routeAndLimit[0].trim().split("\\s+");
+            String method = route.length == 2 ? route[0].toUpperCase() : null;
+            String pattern = route[route.length - 1];
+            rules.add(new RateLimitRule(method, pattern,
+                    Limit.perMinute(Integer.parseInt(limitParts[0].trim()), Double.parseDouble(limitParts[1].trim()))));
+        }
+        return rules;
+    }
+
+    public boolean matches(String requestMethod, String path) {
+        return (method == null || method.equalsIgnoreCase(requestMethod)) && MATCHER.match(pattern, path);
+    }
+
+    // 지표 태그 및 버킷 키 (설정된 패턴 단위라 카디널리티가 제한됨)
+    public String name() {
+        return method == null ? pattern : method + " " + pattern;
+    }
+}
@@ -0,0 +1,292 @@
+package com.unimate.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 요청 제한
+ * - Redis: rl:{name}:{id} → 남은 토큰/갱신 시각(HASH), 보충·차감을 Lua 로 원자 처리 (시계는 Redis TIME → 인스턴스 간 시계 차이 무관)
+ * - 키 TTL = 버킷이 가득 차는 시간 → 한동안 요청이 없던 키는 저절로 사라짐
+ * - Redis 비활성/장애 시 인스턴스 로컬 버킷으로 대체 (인스턴스 수만큼 느슨해지지만 제한이 풀리지는 않음)
+ * - 로컬 버킷은 락 없이 CAS 로 갱신, 한 노드에 고정된 트래픽(STOMP 세션)은 tryAcquireLocal 로 Redis 왕복 없이 판정
+ * - tryAcquire 도 로컬 버킷을 먼저 확인 (이 노드만으로 한도를 넘긴 요청은 Redis 를 거치지 않고 거절)
+ * - 최근 lease-ms 안에 Redis 판정이 있었던(요청이 몰리는) 키만 토큰을 lease-size 개까지 한 번에 받아 두고 로컬에서 소비
+ *   → 몰린 요청은 매번 왕복하지 않고, 드문 요청은 한 번에 하나씩만 차감 (버킷 크기의 1/4 까지만 받아 두므로 작은 버킷은 항상 하나씩)
+ * - 만료될 때까지 쓰지 못한 몫은 다음 판정이나 정리 주기에 Redis 로 돌려줌 → 받아 둔 몫 때문에 허용량이 줄지 않음
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final String KEY_PREFIX = "rl:";
+
+    // 쓰지 못한 몫 반환 (키가 만료됐다면 이미 가득 찬 버킷이므로 무시), 버킷 크기를 넘지 않음
+    private static final RedisScript<Long> RETURN_SCRIPT = new DefaultRedisScript<>("""
+            local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens'))
+            if tokens == nil then return 0 end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(math.min(tonumber(ARGV[1]), tokens + tonumber(ARGV[2]))))
+            return 1
+            """, Long.class);
+
+    // ARGV[3] 개까지 한 번에 차감, 반환: {받은 토큰 수(0 이면 거절), 다음 토큰까지 남은 ms}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local perMs = tonumber(ARGV[2])
+            local want = tonumber(ARGV[3])
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local b = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(b[1]) or capacity
+            local ts = tonumber(b[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * perMs)
+            local granted = 0
+            local wait = 0
+            if tokens >= 1 then
+                granted = math.min(want, math.floor(tokens))
+                tokens = tokens - granted
+            else
+                wait = math.ceil((1 - tokens) / perMs)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / perMs))
+            return {granted, wait}
+            """, List.class);
+
+    /**
+     * capacity 개까지 몰아서 허용, 이후 분당 refillPerMinute 개씩 보충
+     */
+    public record Limit(int capacity, double refillPerMinute) {
+
+        public static Limit perMinute(int capacity, double refillPerMinute) {
+            return new Limit(capacity, refillPerMinute);
+        }
+
+        double perMs() {
+            return refillPerMinute / 60_000d;
+        }
+    }
+
+    public record Decision(boolean allowed, long retryAfterMs) {
+
+        public long retryAfterSeconds() {
+            return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMs + 999));
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Value("${ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ratelimit.redis.enabled:${cache.redis.enabled:true}}")
+    private boolean redisEnabled;
+
+    @Value("${ratelimit.redis.lease-size:10}")
+    private int leaseSize;
+
+    @Value("${ratelimit.redis.lease-ms:1000}")
+    private long leaseMs;
+
+    // 테스트에서 시간을 앞당길 수 있게 분리
+    private LongSupplier nanoClock = System::nanoTime;
+
+    public TokenBucketRateLimiter(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * name 버킷 종류(지표 태그), id 버킷 주인(이메일, IP, 사용자 id 등)
+     */
+    public Decision tryAcquire(String name, String id, Limit limit) {
+        if (!enabled) return new Decision(true, 0);
+
+        String key = KEY_PREFIX + name + ":" + id;
+        // 로컬 버킷은 이 노드의 요청만 세므로 여기서 거절되면 전체 한도도 이미 넘긴 것
+        Decision local = acquireLocal(key, limit);
+        if (!redisEnabled || !local.allowed()) {
+            return record(name, local);
+        }
+
+        long now = nanoClock.getAsLong();
+        long leaseNanos = TimeUnit.MILLISECONDS.toNanos(leaseMs);
+        Lease lease = leases.computeIfAbsent(key, k -> new Lease());
+        if (lease.tryTake(now)) {
+            return record(name, new Decision(true, 0));
+        }
+        giveBack(key, lease.takeExpired(now));
+
+        Decision decision = local;
+        int want = lease.markAcquire(now, leaseNanos) ? Math.max(1, Math.min(leaseSize, limit.capacity() / 4)) : 1;
+        try {
+            List<?> result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key),
+                    String.valueOf(limit.capacity()), String.valueOf(limit.perMs()), String.valueOf(want));
+            if (result != null && result.size() == 2) {
+                long granted = ((Number) result.get(0)).longValue();
+                decision = new Decision(granted > 0, ((Number) result.get(1)).longValue());
+                if (granted > 1) {
+                    // 동시에 받아 온 몫이 겹치면 앞선 몫은 돌려줌
+                    giveBack(key, lease.reset(limit, (int) granted - 1, now + leaseNanos));
+                }
+            }
+        } catch (Exception e) {
+            // 로컬 버킷 판정(이미 차감됨)으로 대체
+            log.debug("요청 제한 Redis 처리 실패, 로컬 버킷으로 대체 key={}: {}", key, e.getMessage());
+        }
+        return record(name, decision);
+    }
+
+    private void giveBack(String key, Lease.Unused unused) {
+        if (unused == null) return;
+        try {
+            redisTemplate.execute(RETURN_SCRIPT, List.of(key),
+                    String.valueOf(unused.limit().capacity()), String.valueOf(unused.tokens()));
+        } catch (Exception e) {
+            log.debug("요청 제한 몫 반환 실패 key={}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 인스턴스 로컬 버킷으로만 판정 (같은 주인의 요청이 항상 이 노드로 오는 경우)
+     */
+    public Decision tryAcquireLocal(String name, String id, Limit limit) {
+        if (!enabled) return new Decision(true, 0);
+        return record(name, acquireLocal(KEY_PREFIX + name + ":" + id, limit));
+    }
+
+    private Decision acquireLocal(String key, Limit limit) {
+        long now = nanoClock.getAsLong();
+        return localBuckets.computeIfAbsent(key, k -> new LocalBucket(limit, now)).tryAcquire(limit, now);
+    }
+
+    private Decision record(String name, Decision decision) {
+        Counter.builder("ratelimit.requests")
+                .description("요청 제한 판정 수")
+                .tags("name", name, "result", decision.allowed() ? "allowed" : "rejected")
+                .register(meterRegistry)
+                .increment();
+        return decision;
+    }
+
+    // 가득 찬 로컬 버킷은 새로 만든 것과 같으므로 제거, 만료된 몫도 함께 정리
+    @Scheduled(fixedDelayString = "${ratelimit.local.evict-interval-ms:60000}")
+    public void evictFullLocalBuckets() {
+        long now = nanoClock.getAsLong();
+        long leaseNanos = TimeUnit.MILLISECONDS.toNanos(leaseMs);
+        localBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        leases.entrySet().removeIf(e -> {
+            giveBack(e.getKey(), e.getValue().takeExpired(now));
+            return e.getValue().isIdle(now, leaseNanos);
+        });
+    }
+
+    // Redis 에서 미리 받아 둔 토큰 (만료 전까지만 사용) + 마지막 Redis 판정 시각
+    private static final class Lease {
+
+        record Unused(Limit limit, int tokens) {
+        }
+
+        private record State(Limit limit, int tokens, long expiresNanos) {
+        }
+
+        private static final State EMPTY = new State(null, 0, 0);
+
+        private final AtomicReference<State> state = new AtomicReference<>(EMPTY);
+        private final AtomicLong lastAcquireNanos = new AtomicLong(Long.MIN_VALUE);
+
+        boolean tryTake(long now) {
+            while (true) {
+                State current = state.get();
+                if (current.tokens() <= 0 || now - current.expiresNanos() >= 0) return false;
+                if (state.compareAndSet(current, new State(current.limit(), current.tokens() - 1, current.expiresNanos()))) {
+                    return true;
+                }
+            }
+        }
+
+        // 만료된 몫을 비우고 돌려줄 양 반환 (없으면 null)
+        Unused takeExpired(long now) {
+            while (true) {
+                State current = state.get();
+                if (current.tokens() <= 0 || now - current.expiresNanos() < 0) return null;
+                if (state.compareAndSet(current, EMPTY)) return new Unused(current.limit(), current.tokens());
+            }
+        }
+
+        // 새 몫으로 교체, 겹쳐서 남아 있던 몫 반환
+        Unused reset(Limit limit, int tokens, long expiresNanos) {
+            State previous = state.getAndSet(new State(limit, tokens, expiresNanos));
+            return previous.tokens() > 0 ? new Unused(previous.limit(), previous.tokens()) : null;
+        }
+
+        // 이번 Redis 판정을 기록하고, 직전 판정이 window 안이었는지(요청이 몰리는 중인지) 반환
+        boolean markAcquire(long now, long window) {
+            long previous = lastAcquireNanos.getAndSet(now);
+            return previous != Long.MIN_VALUE && now - previous < window;
+        }
+
+        boolean isIdle(long now, long window) {
+            long last = lastAcquireNanos.get();
+            return state.get().tokens() <= 0 && (last == Long.MIN_VALUE || now - last >= window);
+        }
+    }
+
+    private static final class LocalBucket {
+
+        private record State(double tokens, long updatedNanos) {
+        }
+
+        private final AtomicReference<State> state;
+        private volatile Limit limit;
+
+        LocalBucket(Limit limit, long now) {
+            this.limit = limit;
+            this.state = new AtomicReference<>(new State(limit.capacity(), now));
+        }
+
+        Decision tryAcquire(Limit limit, long now) {
+            this.limit = limit;
+            double perMs = limit.perMs();
+            while (true) {
+                State current = state.get();
+                double tokens = refill(current, limit, now);
+                if (tokens < 1) {
+                    // 거절은 상태를 바꾸지 않음 (보충분은 다음 판정에서 다시 계산)
+                    return new Decision(false, (long) Math.ceil((1 - tokens) / perMs));
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.updatedNanos())))) {
+                    return new Decision(true, 0);
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            Limit current = limit;
+            return refill(state.get(), current, now) >= current.capacity();
+        }
+
+        private static double refill(State state, Limit limit, long now) {
+            double elapsedMs = Math.max(0, now - state.updatedNanos()) / 1_000_000d;
+            return Math.min(limit.capacity(), state.tokens() + elapsedMs * limit.perMs());
+        }
+    }
+}
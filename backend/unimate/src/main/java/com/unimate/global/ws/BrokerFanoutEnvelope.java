@@ -0,0 +1,12 @@
+package com.unimate.global.ws;
+
+import java.io.Serializable;
+
+// 노드 간 브로커 메시지 전달용 (Redis pub/sub 페이로드)
+public record BrokerFanoutEnvelope(
+        String originNode,
+        String destination,
+        String contentType,
+        byte[] payload
+) implements Serializable {
+}
@@ -0,0 +1,75 @@
+package com.unimate.global.ws;
+
+import com.unimate.global.exception.ServiceException;
+import com.unimate.global.ratelimit.RateLimitRule;
+import com.unimate.global.ratelimit.TokenBucketRateLimiter;
+import com.unimate.global.ratelimit.TokenBucketRateLimiter.Decision;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * STOMP SEND 요청 제한 (StompAuthChannelInterceptor 다음에 실행 → 사용자 기준 버킷)
+ * - WebSocket 세션은 한 노드에 고정되므로 로컬 버킷만 사용 (메시지마다 Redis 왕복 없음)
+ * - 초과한 프레임은 버리고 StompExceptionAdvice 와 같은 형식의 오류를 /user/queue/chat.errors 로 보냄
+ *   (인터셉터에서 예외를 던지면 ERROR 프레임과 함께 연결이 끊기므로)
+ */
+@Slf4j
+@Component
+public class RateLimitChannelInterceptor implements ChannelInterceptor {
+
+    private static final String ERROR_DESTINATION = "/queue/chat.errors";
+
+    private final TokenBucketRateLimiter rateLimiter;
+    // 브로커 설정이 이 인터셉터를 참조하므로 순환 참조를 피해 지연 조회
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final List<RateLimitRule> routes;
+
+    public RateLimitChannelInterceptor(TokenBucketRateLimiter rateLimiter,
+                                       ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+                                       @Value("${ratelimit.stomp.routes:/pub/chat.send=20/120;/pub/chat.read=30/300}") String routes) {
+        this.rateLimiter = rateLimiter;
+        this.messagingTemplate = messagingTemplate;
+        this.routes = RateLimitRule.parseAll(routes);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(message);
+        if (acc.getCommand() != StompCommand.SEND || acc.getDestination() == null) return message;
+
+        Principal user = acc.getUser();
+        String client = user != null ? "u" + user.getName() : "s" + acc.getSessionId();
+        for (RateLimitRule rule : routes) {
+            if (!rule.matches(StompCommand.SEND.name(), acc.getDestination())) continue;
+
+            Decision decision = rateLimiter.tryAcquireLocal("stomp:" + rule.name(), client, rule.limit());
+            if (!decision.allowed()) {
+                reject(user, decision);
+                return null;
+            }
+        }
+        return message;
+    }
+
+    private void reject(Principal user, Decision decision) {
+        if (user == null) return;
+        ServiceException ex = ServiceException.tooManyRequests(
+                "메시지를 너무 빠르게 보내고 있습니다. " + decision.retryAfterSeconds() + "초 후 다시 시도해주세요.");
+        try {
+            messagingTemplate.getObject().convertAndSendToUser(user.getName(), ERROR_DESTINATION, StompExceptionAdvice.toWsError(ex));
+        } catch (Exception e) {
+            log.debug("요청 제한 오류 전송 실패 user={}: {}", user.getName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.unimate.global.ws;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.UUID;
+
+/**
+ * ws.broker.mode=redis 일 때 노드 간 브로커 팬아웃
+ * - 로컬 브로커 채널로 들어온 /sub, /user 메시지를 Redis 채널에 발행
+ * - 다른 노드에서 받은 메시지는 로컬 브로커 채널로 재주입 (구독자/사용자 세션은 각 노드가 로컬로 해석)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ws.broker.mode", havingValue = "redis")
+public class RedisBrokerFanout implements ChannelInterceptor, MessageListener {
+
+    static final String CHANNEL = "ws:broker:fanout";
+    private static final String RELAYED_HEADER = "x-fanout-relayed";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public RedisBrokerFanout(RedisTemplate<String, Object> redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             @Lazy SimpMessagingTemplate messagingTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        log.info("[WS] Redis 브로커 팬아웃 활성화 (node={})", nodeId);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (message.getHeaders().containsKey(RELAYED_HEADER)) return message;
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !(message.getPayload() instanceof byte[] payload)) return message;
+
+        // 채팅방 브로드캐스트와 미해석 사용자 목적지만 전달 (/queue/...-user{session} 은 로컬 전용)
+        if (destination.startsWith("/sub/") || destination.startsWith("/user/")) {
+            MimeType contentType = message.getHeaders().get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+            try {
+                redisTemplate.convertAndSend(CHANNEL, new BrokerFanoutEnvelope(
+                        nodeId, destination, contentType != null ? contentType.toString() : null, payload));
+            } catch (Exception e) {
+                // 팬아웃 실패해도 로컬 구독자에게는 전달
+                log.warn("[WS] 브로커 팬아웃 발행 실패 destination={}: {}", destination, e.getMessage());
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message redisMessage, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(redisMessage.getBody());
+        if (!(body instanceof BrokerFanoutEnvelope envelope) || nodeId.equals(envelope.originNode())) return;
+
+        MessageBuilder<byte[]> builder = MessageBuilder.withPayload(envelope.payload())
+                .setHeader(RELAYED_HEADER, Boolean.TRUE);
+        if (envelope.contentType() != null) {
+            builder.setHeader(MessageHeaders.CONTENT_TYPE, MimeType.valueOf(envelope.contentType()));
+        }
+        messagingTemplate.send(envelope.destination(), builder.build());
+    }
+}
@@ -1,6 +1,7 @@
 package com.unimate.global.ws;
 
 import com.unimate.global.jwt.CustomUserPrincipal;
+import com.unimate.global.jwt.JwtClaims;
 import com.unimate.global.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
@@ -41,14 +42,10 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
             String token = resolveTokenCaseInsensitive(acc);
             if (token != null) token = token.replaceAll("\\s+", "");
 
-            if (token == null || !jwtProvider.validateToken(token)) {
-                throw new AccessDeniedException("인증되지 않은 WebSocket 연결입니다.");
-            }
-
-            Long userId = jwtProvider.getUserIdFromToken(token);
-            String email = jwtProvider.getEmailFromToken(token);
+            JwtClaims claims = jwtProvider.parse(token)
+                    .orElseThrow(() -> new AccessDeniedException("인증되지 않은 WebSocket 연결입니다."));
 
-            CustomUserPrincipal principal = new CustomUserPrincipal(userId, email);
+            CustomUserPrincipal principal = new CustomUserPrincipal(claims.userId(), claims.email());
             UsernamePasswordAuthenticationToken auth =
                     new UsernamePasswordAuthenticationToken(principal, null, Collections.emptyList());
 
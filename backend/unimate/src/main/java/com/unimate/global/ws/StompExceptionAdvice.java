@@ -1,6 +1,7 @@
 package com.unimate.global.ws;
 
 import com.unimate.domain.message.dto.WsError;
+import com.unimate.global.exception.ServiceException;
 import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
@@ -12,6 +13,21 @@ import java.security.Principal;
 @Controller // 또는 @ControllerAdvice
 public class StompExceptionAdvice {
 
+    @MessageExceptionHandler(ServiceException.class)
+    @SendToUser("/queue/chat.errors")
+    public WsError handleService(ServiceException ex, Principal p) {
+        return toWsError(ex);
+    }
+
+    // 핸들러 밖(채널 인터셉터)에서 직접 보내는 오류도 같은 형식으로
+    public static WsError toWsError(ServiceException ex) {
+        return WsError.builder()
+                .code(ex.getErrorCode())
+                .message(ex.getMessage())
+                .detail(ex.getClass().getSimpleName())
+                .build();
+    }
+
     @MessageExceptionHandler(ResponseStatusException.class)
     @SendToUser("/queue/chat.errors")
     public WsError handleRse(ResponseStatusException ex, Principal p) {
@@ -1,6 +1,8 @@
 package com.unimate.global.ws;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -12,6 +14,54 @@ import org.springframework.web.socket.config.annotation.*;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final RateLimitChannelInterceptor rateLimitChannelInterceptor;
+    private final ObjectProvider<RedisBrokerFanout> redisBrokerFanout;
+    private final WsSessionMonitor wsSessionMonitor;
+
+    // simple: 단일 노드 인메모리 브로커 / redis: 인메모리 브로커 + Redis pub/sub 팬아웃 / relay: 외부 STOMP 브로커
+    @Value("${ws.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${ws.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${ws.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${ws.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${ws.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // 채널 스레드 풀 (큐가 가득 차면 maxPoolSize 까지 증설)
+    @Value("${ws.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${ws.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${ws.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${ws.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${ws.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${ws.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 세션별 전송 한도: 초과한 느린 클라이언트는 연결 종료 (다른 세션의 outbound 스레드를 붙잡지 않도록)
+    @Value("${ws.transport.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${ws.transport.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${ws.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -25,8 +75,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 클라이언트 → 서버로 보낼 때 prefix
         registry.setApplicationDestinationPrefixes("/pub");
 
-        // 서버 → 클라이언트 브로드캐스트 경로
-        registry.enableSimpleBroker("/sub", "/queue","/user"); // <-- "/user" 제거
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 외부 브로커가 구독/팬아웃을 담당 → 어느 노드에서 보내도 모든 노드의 구독자에게 전달
+            registry.enableStompBrokerRelay("/sub", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    // 로컬에서 해석되지 않은 /user 목적지를 다른 노드로 재전송
+                    .setUserDestinationBroadcast("/sub/unresolved-user-destination")
+                    // 노드 간 사용자 세션 레지스트리 공유 (MultiServerUserRegistry)
+                    .setUserRegistryBroadcast("/sub/simp-user-registry");
+        } else {
+            // 서버 → 클라이언트 브로드캐스트 경로
+            registry.enableSimpleBroker("/sub", "/queue","/user"); // <-- "/user" 제거
+
+            RedisBrokerFanout fanout = redisBrokerFanout.getIfAvailable();
+            if ("redis".equalsIgnoreCase(brokerMode) && fanout != null) {
+                // 브로커 채널로 들어오는 /sub, /user 메시지를 Redis 채널로 다른 노드에 전달
+                registry.configureBrokerChannel().interceptors(fanout);
+            }
+        }
 
         // 사용자별 큐 prefix
         registry.setUserDestinationPrefix("/user");
@@ -34,6 +105,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompAuthChannelInterceptor);
+        // 인증(사용자 복구) → 요청 제한 순서
+        registration.interceptors(stompAuthChannelInterceptor, rateLimitChannelInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(wsSessionMonitor);
     }
-}
\ No newline at end of file
+}
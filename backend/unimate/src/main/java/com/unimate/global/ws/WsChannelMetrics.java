@@ -0,0 +1,87 @@
+package com.unimate.global.ws;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * STOMP 채널 실행기 상태 (채널별 큐 적체량, 활성 스레드)
+ * - 실행기 구현은 설정에 따라 바뀔 수 있으므로 Executor 로 받고, 큐를 가진 ThreadPoolTaskExecutor 인 채널만 측정
+ */
+@Slf4j
+@Component
+public class WsChannelMetrics {
+
+    // 측정 가능한 채널만 (그 외 실행기는 게이지/로그에서 제외)
+    private final Map<String, ThreadPoolTaskExecutor> executors = new LinkedHashMap<>();
+    private final WsSessionMonitor sessionMonitor;
+
+    @Value("${ws.metrics.queue-warn-threshold:1000}")
+    private int queueWarnThreshold;
+
+    public WsChannelMetrics(@Qualifier("clientInboundChannelExecutor") Executor inbound,
+                            @Qualifier("clientOutboundChannelExecutor") Executor outbound,
+                            @Qualifier("brokerChannelExecutor") Executor broker,
+                            WsSessionMonitor sessionMonitor) {
+        register("inbound", inbound);
+        register("outbound", outbound);
+        register("broker", broker);
+        this.sessionMonitor = sessionMonitor;
+    }
+
+    private void register(String channel, Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            executors.put(channel, pool);
+        } else {
+            log.info("[WS] {} 채널 실행기({})는 큐 적체를 측정하지 않습니다.", channel,
+                    executor != null ? executor.getClass().getSimpleName() : "없음");
+        }
+    }
+
+    public Set<String> getChannels() {
+        return executors.keySet();
+    }
+
+    public int queueDepth(String channel) {
+        ThreadPoolTaskExecutor executor = executors.get(channel);
+        if (executor == null) return 0;
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException notInitialized) {
+            return 0;
+        }
+    }
+
+    public int activeCount(String channel) {
+        ThreadPoolTaskExecutor executor = executors.get(channel);
+        return executor != null ? executor.getActiveCount() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${ws.metrics.log-interval-ms:60000}")
+    public void report() {
+        StringBuilder sb = new StringBuilder();
+        boolean backlogged = false;
+        for (String channel : executors.keySet()) {
+            int depth = queueDepth(channel);
+            backlogged |= depth >= queueWarnThreshold;
+            sb.append(channel).append("[queue=").append(depth)
+                    .append(", active=").append(activeCount(channel)).append("] ");
+        }
+        sb.append("sessions=").append(sessionMonitor.getActiveSessions())
+                .append(", slowConsumerDisconnects=").append(sessionMonitor.getSlowConsumerDisconnects());
+
+        if (backlogged) {
+            log.warn("[WS] 채널 적체 감지 {}", sb);
+        } else {
+            log.debug("[WS] {}", sb);
+        }
+    }
+}
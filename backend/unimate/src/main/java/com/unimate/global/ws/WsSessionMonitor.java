@@ -0,0 +1,53 @@
+package com.unimate.global.ws;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebSocket 세션 모니터
+ * - 전송 시간/버퍼 한도를 넘긴 느린 클라이언트는 프레임워크가 SESSION_NOT_RELIABLE 로 끊음 → 여기서 집계
+ */
+@Slf4j
+@Component
+public class WsSessionMonitor implements WebSocketHandlerDecoratorFactory {
+
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final LongAdder slowConsumerDisconnects = new LongAdder();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                activeSessions.incrementAndGet();
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+                activeSessions.decrementAndGet();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equals(status)) {
+                    slowConsumerDisconnects.increment();
+                    log.warn("[WS] 느린 클라이언트 연결 종료 session={}", session.getId());
+                }
+                super.afterConnectionClosed(session, status);
+            }
+        };
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public long getSlowConsumerDisconnects() {
+        return slowConsumerDisconnects.sum();
+    }
+}
@@ -8,8 +8,27 @@ import java.util.Locale;
 import java.util.Random;
 
 public class RandomDataFactory {
-    private final Faker f = new Faker(new Locale("ko"));
-    private final Random r = new Random();
+    private final Random r;
+    private final Faker f;
+
+    public RandomDataFactory() {
+        this(new Random());
+    }
+
+    // 같은 시드 → 같은 데이터 (재현 가능한 벤치마크용)
+    public RandomDataFactory(long seed) {
+        this(new Random(seed));
+    }
+
+    private RandomDataFactory(Random r) {
+        this.r = r;
+        this.f = new Faker(new Locale("ko"), r);
+    }
+
+    // 행 단위 재시드: 파티션/스레드 분할과 무관하게 idx 마다 항상 같은 값 생성
+    public void reseed(long seed) {
+        r.setSeed(seed);
+    }
 
     public String email(int idx) {
         return "user" + idx + "@unimate.ac.kr";
@@ -81,4 +100,22 @@ public class RandomDataFactory {
     public LocalDate endUseDate() {
         return LocalDate.now().plusMonths(range(1, 6));
     }
+
+    public boolean chance(double p) {
+        return r.nextDouble() < p;
+    }
+
+    public String chatMessage() {
+        String[] messages = {
+                "안녕하세요!", "혹시 아직 룸메이트 구하시나요?", "생활 패턴이 비슷한 것 같아요 ㅎㅎ",
+                "몇 시쯤 주무세요?", "반려동물은 괜찮으세요?", "주말에는 주로 뭐 하세요?",
+                "청소는 일주일에 한 번 정도 해요", "네 좋아요!", "기숙사 몇 동 쓰세요?", "감사합니다 :)"
+        };
+        return messages[r.nextInt(messages.length)];
+    }
+
+    // Zipf 샘플링 등 같은 시드 흐름을 공유해야 하는 경우
+    public Random random() {
+        return r;
+    }
 }
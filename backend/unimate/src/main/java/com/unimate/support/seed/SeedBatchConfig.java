@@ -4,98 +4,167 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.batch.item.support.CompositeItemWriter;
-import org.springframework.batch.item.support.IteratorItemReader;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
-import java.util.ArrayList;
+import java.sql.DatabaseMetaData;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 시드 데이터 배치
+ * - seed.user-count 명을 seed.partitions 개 구간으로 나눠 병렬 생성 (파티션마다 스트리밍 리더)
+ * - 비밀번호는 한 번만 해시해 모든 행에 재사용
+ * - users.id 를 (기존 최대 id + idx)로 직접 지정 → 프로필/선호도 INSERT 에 이메일 서브쿼리 없음
+ */
 @Configuration
 @EnableBatchProcessing
 @RequiredArgsConstructor
 public class SeedBatchConfig {
 
     private final DataSource dataSource;
-    private final RandomDataFactory f = new RandomDataFactory();
+
+    @Value("${seed.user-count:1000}")
+    private int userCount;
+
+    @Value("${seed.partitions:4}")
+    private int partitions;
+
+    @Value("${seed.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.password:test1234}")
+    private String rawPassword;
+
+    private volatile String passwordHash;
 
     @Bean
-    public Job seedJob(JobRepository jobRepository, Step seedStep) {
+    public Job seedJob(JobRepository jobRepository, Step seedStep, Step seedIdentityStep,
+                       Step seedHistoryStep, Step seedHistoryFinalizeStep) {
         return new JobBuilder("seedJob", jobRepository)
                 .start(seedStep)
+                .next(seedIdentityStep)
+                .next(seedHistoryStep)          // SeedHistoryConfig: 매칭/채팅 이력
+                .next(seedHistoryFinalizeStep)
                 .build();
     }
 
     @Bean
-    public ItemProcessor<UserProfileItem, UserProfileItem> passwordEncoderProcessor(
-            org.springframework.security.crypto.password.PasswordEncoder encoder) {
-        return item -> { item.setPassword(encoder.encode(item.getPassword())); return item; };
+    public Step seedStep(JobRepository jobRepository, Step seedWorkerStep) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("seed-");
+        executor.setConcurrencyLimit(partitions);
+
+        return new StepBuilder("seedStep", jobRepository)
+                .partitioner("seedWorkerStep", seedPartitioner())
+                .step(seedWorkerStep)
+                .gridSize(partitions)
+                .taskExecutor(executor)
+                .build();
     }
 
     @Bean
-    public Step seedStep(
-        JobRepository jobRepository,
-        PlatformTransactionManager txManager,
-        org.springframework.security.crypto.password.PasswordEncoder encoder) {
-
-            ItemProcessor<UserProfileItem, UserProfileItem> proc =
-                    item -> { item.setPassword(encoder.encode(item.getPassword())); return item; };
-
-            return new StepBuilder("seedStep", jobRepository)
-                    .<UserProfileItem, UserProfileItem>chunk(1000, txManager)
-                    .reader(itemReader())
-                    .processor(proc)
-                    .writer(itemWriter())
-                    .build();
+    public Step seedWorkerStep(JobRepository jobRepository, PlatformTransactionManager txManager) {
+        return new StepBuilder("seedWorkerStep", jobRepository)
+                .<UserProfileItem, UserProfileItem>chunk(chunkSize, txManager)
+                .reader(itemReader(null, null, null, null))
+                .writer(itemWriter())
+                .build();
+    }
+
+    // 1..userCount 를 gridSize 개 연속 구간으로 분할, id 시작점은 실행 시점의 최대 id
+    private Partitioner seedPartitioner() {
+        return gridSize -> {
+            Long maxId = new JdbcTemplate(dataSource).queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+            long per = (userCount + gridSize - 1) / gridSize;
+
+            Map<String, ExecutionContext> result = new HashMap<>();
+            for (int p = 0; p < gridSize; p++) {
+                long from = (long) p * per + 1;
+                long to = Math.min(userCount, from + per - 1);
+                if (from > to) break;
+
+                ExecutionContext ctx = new ExecutionContext();
+                ctx.putLong("fromIndex", from);
+                ctx.putLong("toIndex", to);
+                ctx.putLong("idOffset", maxId);
+                result.put("partition" + p, ctx);
+            }
+            return result;
+        };
     }
 
     @Bean
-    public ItemReader<UserProfileItem> itemReader() {
-        List<UserProfileItem> items = new ArrayList<>();
-        for (int i = 1; i <= 1000; i++) {
-            items.add(new UserProfileItem(
-                    f.email(i),
-                    "test1234",
-                    f.name(),
-                    f.gender().name(),
-                    f.birthDate(),
-                    f.studentVerified(),
-                    f.university(),
-                    f.sleepTime(),
-                    f.bool(),                 // isPetAllowed
-                    f.bool(),                 // isSmoker
-                    f.range(1,5),             // cleaningFrequency
-                    f.range(0,3),             // preferredAgeGap
-                    f.range(1,5),             // hygieneLevel
-                    f.snoring(),              // isSnoring
-                    f.drinkingFrequency(),    // drinkingFrequency
-                    f.range(1,5),             // noiseSensitivity
-                    f.guestFrequency(),       // guestFrequency
-                    f.mbti(),
-                    f.startUseDate(),
-                    f.endUseDate(),
-                    f.matchingEnabled()
-            ));
+    @StepScope
+    public SeedItemReader itemReader(
+            @Value("#{stepExecutionContext['fromIndex']}") Long fromIndex,
+            @Value("#{stepExecutionContext['toIndex']}") Long toIndex,
+            @Value("#{stepExecutionContext['idOffset']}") Long idOffset,
+            PasswordEncoder encoder) {
+        return new SeedItemReader(fromIndex, toIndex, idOffset, randomSeed, passwordHash(encoder));
+    }
+
+    // BCrypt 는 행마다 돌리면 시드 시간 대부분을 차지하므로 한 번만 계산
+    private String passwordHash(PasswordEncoder encoder) {
+        String hash = passwordHash;
+        if (hash == null) {
+            synchronized (this) {
+                if (passwordHash == null) {
+                    passwordHash = encoder.encode(rawPassword);
+                }
+                hash = passwordHash;
+            }
         }
-        return new IteratorItemReader<>(items);
+        return hash;
+    }
+
+    // 명시적 id 로 넣었으므로 H2 는 IDENTITY 시작값을 맞춰줘야 이후 앱 INSERT 가 충돌하지 않음 (MySQL 은 자동 조정)
+    @Bean
+    public Step seedIdentityStep(JobRepository jobRepository, PlatformTransactionManager txManager) {
+        return new StepBuilder("seedIdentityStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    if (isH2()) {
+                        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+                        Long next = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM users", Long.class);
+                        jdbc.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + next);
+                    }
+                    return RepeatStatus.FINISHED;
+                }, txManager)
+                .build();
+    }
+
+    private boolean isH2() throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        return "H2".equalsIgnoreCase(product);
     }
 
     @Bean
     public ItemWriter<UserProfileItem> usersWriter() {
         return new JdbcBatchItemWriterBuilder<UserProfileItem>()
                 .dataSource(dataSource)
-                .sql("INSERT INTO users (email, password, name, gender, birth_date, student_verified, university) " +
-                        "VALUES (:email, :password, :name, :gender, :birthDate, :studentVerified, :university)")
+                .sql("INSERT INTO users (id, email, password, name, gender, birth_date, student_verified, university) " +
+                        "VALUES (:userId, :email, :password, :name, :gender, :birthDate, :studentVerified, :university)")
                 .beanMapped()
                 .build();
     }
@@ -113,7 +182,7 @@ public class SeedBatchConfig {
                                 "  matching_enabled, mbti," +
                                 "  start_use_date, end_use_date" +
                                 ") VALUES (" +
-                                "  (SELECT id FROM users WHERE email = :email)," +
+                                "  :userId," +
                                 "  :sleepTime, :isPetAllowed, :isSmoker," +
                                 "  :cleaningFrequency, :preferredAgeGap, :hygieneLevel," +
                                 "  :isSnoring, :drinkingFrequency, :noiseSensitivity, :guestFrequency," +
@@ -137,7 +206,7 @@ public class SeedBatchConfig {
                                 "  is_snoring, drinking_frequency, noise_sensitivity, guest_frequency," +
                                 "  start_use_date, end_use_date" +
                                 ") VALUES (" +
-                                "  (SELECT id FROM users WHERE email = :email)," +
+                                "  :userId," +
                                 "  :sleepTime, :isPetAllowed, :isSmoker," +
                                 "  :cleaningFrequency, :preferredAgeGap, :hygieneLevel," +
                                 "  :isSnoring, :drinkingFrequency, :noiseSensitivity, :guestFrequency," +
@@ -0,0 +1,271 @@
+package com.unimate.support.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.math.BigInteger;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매칭/채팅/알림 이력 시드
+ * - 이번 실행에서 만든 사용자들을 actor 로 파티션 병렬 처리 → matches, chatroom, message 를 배치 INSERT
+ * - 마지막 단계에서 SQL 로 채팅방 마지막 메시지를 맞추고, 이력에서 알림(LIKE/MATCH/CHAT)을 파생
+ * - 활동량(보낸 좋아요 수), 인기(받는 쪽), 채팅방 메시지 수는 모두 Zipf 분포 → 실제 서비스와 비슷한 쏠림
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SeedHistoryConfig {
+
+    private final DataSource dataSource;
+
+    @Value("${seed.history.enabled:true}")
+    private boolean enabled;
+
+    @Value("${seed.user-count:1000}")
+    private int userCount;
+
+    @Value("${seed.partitions:4}")
+    private int partitions;
+
+    @Value("${seed.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.history.days:90}")
+    private int days;
+
+    @Value("${seed.history.max-likes-per-user:50}")
+    private int maxLikesPerUser;
+
+    @Value("${seed.history.like-exponent:1.2}")
+    private double likeExponent;
+
+    @Value("${seed.history.popularity-exponent:0.8}")
+    private double popularityExponent;
+
+    @Value("${seed.history.max-messages-per-room:300}")
+    private int maxMessagesPerRoom;
+
+    @Value("${seed.history.message-exponent:1.1}")
+    private double messageExponent;
+
+    @Value("${seed.history.request-ratio:0.3}")
+    private double requestRatio;
+
+    @Value("${seed.history.accept-ratio:0.5}")
+    private double acceptRatio;
+
+    @Value("${seed.history.reject-ratio:0.1}")
+    private double rejectRatio;
+
+    // 파티셔너에서 정해 워커/마무리 단계가 공유 (이번 실행 이전의 최대 id)
+    private volatile SeedHistoryReader.Settings settings;
+    private volatile long baseMatchId;
+    private volatile long baseChatroomId;
+
+    @Bean
+    public Step seedHistoryStep(JobRepository jobRepository, Step seedHistoryWorkerStep) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("seed-history-");
+        executor.setConcurrencyLimit(partitions);
+
+        return new StepBuilder("seedHistoryStep", jobRepository)
+                .partitioner("seedHistoryWorkerStep", historyPartitioner())
+                .step(seedHistoryWorkerStep)
+                .gridSize(partitions)
+                .taskExecutor(executor)
+                .build();
+    }
+
+    @Bean
+    public Step seedHistoryWorkerStep(JobRepository jobRepository, PlatformTransactionManager txManager) {
+        // actor 한 명이 여러 행을 만들므로 chunk 는 사용자 기준으로 작게
+        return new StepBuilder("seedHistoryWorkerStep", jobRepository)
+                .<SeedHistoryItem, SeedHistoryItem>chunk(Math.max(1, chunkSize / 10), txManager)
+                .reader(historyReader(null, null))
+                .writer(historyWriter())
+                .build();
+    }
+
+    private Partitioner historyPartitioner() {
+        return gridSize -> {
+            Map<String, ExecutionContext> result = new HashMap<>();
+            if (!enabled) return result;
+
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            long maxUserId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+            int n = (int) Math.min(userCount, maxUserId);
+            long minUserId = maxUserId - n + 1; // 직전 단계에서 연속 id 로 넣은 사용자 구간
+            baseMatchId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM matches", Long.class);
+            baseChatroomId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM chatroom", Long.class);
+
+            long multiplier = BigInteger.valueOf(n).gcd(BigInteger.valueOf(1_000_003)).intValue() == 1 ? 1_000_003 : 1;
+            settings = new SeedHistoryReader.Settings(
+                    minUserId, n, randomSeed, LocalDateTime.now(), days,
+                    new ZipfSampler(maxLikesPerUser + 1, likeExponent),
+                    new ZipfSampler(n, popularityExponent),
+                    new ZipfSampler(maxMessagesPerRoom, messageExponent),
+                    requestRatio, acceptRatio, rejectRatio,
+                    multiplier, baseChatroomId);
+
+            long per = (n + gridSize - 1) / gridSize;
+            for (int p = 0; p < gridSize; p++) {
+                long from = minUserId + (long) p * per;
+                long to = Math.min(maxUserId, from + per - 1);
+                if (from > to) break;
+
+                ExecutionContext ctx = new ExecutionContext();
+                ctx.putLong("fromUserId", from);
+                ctx.putLong("toUserId", to);
+                result.put("partition" + p, ctx);
+            }
+            return result;
+        };
+    }
+
+    @Bean
+    @StepScope
+    public SeedHistoryReader historyReader(
+            @Value("#{stepExecutionContext['fromUserId']}") Long fromUserId,
+            @Value("#{stepExecutionContext['toUserId']}") Long toUserId) {
+        return new SeedHistoryReader(fromUserId, toUserId, settings);
+    }
+
+    @Bean
+    public ItemWriter<SeedHistoryItem> historyWriter() {
+        return chunk -> {
+            List<SeedHistoryItem.MatchRow> matches = new ArrayList<>();
+            List<SeedHistoryItem.ChatroomRow> rooms = new ArrayList<>();
+            List<SeedHistoryItem.MessageRow> messages = new ArrayList<>();
+            for (SeedHistoryItem item : chunk) {
+                matches.addAll(item.getMatches());
+                rooms.addAll(item.getChatrooms());
+                messages.addAll(item.getMessages());
+            }
+
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.batchUpdate(
+                    "INSERT INTO matches (sender_id, receiver_id, match_type, match_status, sender_response, receiver_response, " +
+                            "preference_score, confirmed_at, rematch_round, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)",
+                    matches, 1000, (ps, m) -> {
+                        ps.setLong(1, m.senderId());
+                        ps.setLong(2, m.receiverId());
+                        ps.setString(3, m.matchType());
+                        ps.setString(4, m.matchStatus());
+                        ps.setString(5, m.senderResponse());
+                        ps.setString(6, m.receiverResponse());
+                        ps.setBigDecimal(7, m.preferenceScore());
+                        ps.setTimestamp(8, m.confirmedAt() != null ? Timestamp.valueOf(m.confirmedAt()) : null);
+                        ps.setTimestamp(9, Timestamp.valueOf(m.createdAt()));
+                        ps.setTimestamp(10, Timestamp.valueOf(m.createdAt()));
+                    });
+            jdbc.batchUpdate(
+                    "INSERT INTO chatroom (id, user1_id, user2_id, status, user1_status, user2_status, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, 'ACTIVE', 'ACTIVE', 'ACTIVE', ?, ?)",
+                    rooms, 1000, (ps, c) -> {
+                        ps.setLong(1, c.id());
+                        ps.setLong(2, c.user1Id());
+                        ps.setLong(3, c.user2Id());
+                        ps.setTimestamp(4, Timestamp.valueOf(c.createdAt()));
+                        ps.setTimestamp(5, Timestamp.valueOf(c.createdAt()));
+                    });
+            jdbc.batchUpdate(
+                    "INSERT INTO message (chatroom_id, sender_id, content, client_message_id, created_at) VALUES (?, ?, ?, ?, ?)",
+                    messages, 1000, (ps, m) -> {
+                        ps.setLong(1, m.chatroomId());
+                        ps.setLong(2, m.senderId());
+                        ps.setString(3, m.content());
+                        ps.setString(4, m.clientMessageId());
+                        ps.setTimestamp(5, Timestamp.valueOf(m.createdAt()));
+                    });
+        };
+    }
+
+    /**
+     * 이력 마무리 (집합 단위 SQL 로 한 번에 처리)
+     * - 채팅방 마지막 메시지 id/시각
+     * - 알림: 받은 좋아요(LIKE), 성사된 신청(MATCH, 양쪽), 채팅방별 받은 메시지 요약(CHAT)
+     * - H2 는 명시적 id 로 넣은 chatroom 의 IDENTITY 시작값 보정
+     */
+    @Bean
+    public Step seedHistoryFinalizeStep(JobRepository jobRepository, PlatformTransactionManager txManager) {
+        return new StepBuilder("seedHistoryFinalizeStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    if (!enabled || settings == null) return RepeatStatus.FINISHED;
+
+                    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+                    int rooms = jdbc.update(
+                            "UPDATE chatroom c SET " +
+                                    " last_message_id = (SELECT MAX(m.id) FROM message m WHERE m.chatroom_id = c.id)," +
+                                    " last_message_at = (SELECT MAX(m.created_at) FROM message m WHERE m.chatroom_id = c.id) " +
+                                    "WHERE c.id > ?", baseChatroomId);
+
+                    int likes = jdbc.update(
+                            "INSERT INTO notifications (user_id, type, message, sender_name, sender_id, chatroom_id, " +
+                                    " is_read, aggregate_count, aggregation_key, created_at, updated_at, last_activity_at) " +
+                                    "SELECT m.receiver_id, 'LIKE', CONCAT(s.name, ' 님이 회원님을 좋아합니다.'), s.name, s.id, NULL, " +
+                                    " MOD(m.id, 3) = 0, 1, CONCAT('LIKE:', m.receiver_id, ':S', s.id), m.created_at, m.created_at, m.created_at " +
+                                    "FROM matches m JOIN users s ON s.id = m.sender_id " +
+                                    "WHERE m.id > ? AND m.match_type = 'LIKE'", baseMatchId);
+
+                    int matched = 0;
+                    for (String[] side : new String[][]{{"receiver_id", "sender_id"}, {"sender_id", "receiver_id"}}) {
+                        matched += jdbc.update(
+                                "INSERT INTO notifications (user_id, type, message, sender_name, sender_id, chatroom_id, " +
+                                        " is_read, aggregate_count, aggregation_key, created_at, updated_at, last_activity_at) " +
+                                        "SELECT m." + side[0] + ", 'MATCH', CONCAT(o.name, ' 님과 매칭되었습니다!'), o.name, o.id, c.id, " +
+                                        " MOD(m.id, 2) = 0, 1, CONCAT('MATCH:', m." + side[0] + ", ':S', o.id), m.created_at, m.created_at, m.created_at " +
+                                        "FROM matches m JOIN users o ON o.id = m." + side[1] + " " +
+                                        "JOIN chatroom c ON c.user1_id = m.sender_id AND c.user2_id = m.receiver_id " +
+                                        "WHERE m.id > ? AND m.match_type = 'REQUEST'", baseMatchId);
+                    }
+
+                    int chats = jdbc.update(
+                            "INSERT INTO notifications (user_id, type, message, sender_name, sender_id, chatroom_id, " +
+                                    " is_read, aggregate_count, aggregation_key, created_at, updated_at, last_activity_at) " +
+                                    "SELECT CASE WHEN x.sender_id = c.user1_id THEN c.user2_id ELSE c.user1_id END, 'CHAT', " +
+                                    " CONCAT(s.name, ' 님에게 새로운 메시지가 도착했습니다.'), s.name, s.id, c.id, " +
+                                    " MOD(c.id, 2) = 0, x.cnt, " +
+                                    " CONCAT('CHAT:', CASE WHEN x.sender_id = c.user1_id THEN c.user2_id ELSE c.user1_id END, ':R', c.id), " +
+                                    " x.last_at, x.last_at, x.last_at " +
+                                    "FROM (SELECT chatroom_id, sender_id, COUNT(*) AS cnt, MAX(created_at) AS last_at " +
+                                    "      FROM message WHERE chatroom_id > ? GROUP BY chatroom_id, sender_id) x " +
+                                    "JOIN chatroom c ON c.id = x.chatroom_id " +
+                                    "JOIN users s ON s.id = x.sender_id", baseChatroomId);
+
+                    if ("H2".equalsIgnoreCase(JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName))) {
+                        Long next = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM chatroom", Long.class);
+                        jdbc.execute("ALTER TABLE chatroom ALTER COLUMN id RESTART WITH " + next);
+                    }
+
+                    log.info("이력 시드 완료 - 채팅방 {}개, 알림 LIKE {} / MATCH {} / CHAT {}", rooms, likes, matched, chats);
+                    return RepeatStatus.FINISHED;
+                }, txManager)
+                .build();
+    }
+}
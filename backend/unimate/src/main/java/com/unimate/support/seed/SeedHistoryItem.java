@@ -0,0 +1,31 @@
+package com.unimate.support.seed;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 사용자(actor)가 시작한 매칭/채팅 이력 묶음
+ */
+@Getter
+public class SeedHistoryItem {
+
+    public record MatchRow(long senderId, long receiverId, String matchType, String matchStatus,
+                           String senderResponse, String receiverResponse, BigDecimal preferenceScore,
+                           LocalDateTime createdAt, LocalDateTime confirmedAt) {
+    }
+
+    public record ChatroomRow(long id, long user1Id, long user2Id, LocalDateTime createdAt) {
+    }
+
+    public record MessageRow(long chatroomId, long senderId, String content, String clientMessageId,
+                             LocalDateTime createdAt) {
+    }
+
+    private final List<MatchRow> matches = new ArrayList<>();
+    private final List<ChatroomRow> chatrooms = new ArrayList<>();
+    private final List<MessageRow> messages = new ArrayList<>();
+}
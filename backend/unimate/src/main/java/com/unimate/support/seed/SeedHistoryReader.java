@@ -0,0 +1,120 @@
+package com.unimate.support.seed;
+
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 매칭/채팅 이력 스트리밍 리더
+ * - 사용자(actor) 한 명당 한 건: 보낸 좋아요 수, 대상, 채팅 메시지 수를 모두 Zipf 분포로 샘플링
+ * - actor 마다 재시드하므로 파티션 분할과 무관하게 재현 가능
+ * - 같은 두 사람의 관계는 한쪽(owner)만 생성해 (sender, receiver) 양방향 중복을 피함
+ * - 채팅방 id 도 두 사람 쌍에서 계산 → 파티션 수/실행 순서와 무관하게 같은 id
+ */
+public class SeedHistoryReader extends AbstractItemCountingItemStreamItemReader<SeedHistoryItem> {
+
+    /**
+     * 이력 생성 설정 (한 번의 실행 동안 모든 파티션이 공유)
+     * - rankMultiplier: 인기 순위 → 사용자 id 를 섞는 곱수 (인기가 id 순서와 겹치지 않도록)
+     * - baseChatroomId: 이번 실행 이전의 최대 채팅방 id (채팅방 id 는 이 값 + 두 사람 쌍의 번호)
+     */
+    public record Settings(long minUserId, int userCount, long randomSeed, LocalDateTime now, int days,
+                           ZipfSampler likeSampler, ZipfSampler targetSampler, ZipfSampler messageSampler,
+                           double requestRatio, double acceptRatio, double rejectRatio,
+                           long rankMultiplier, long baseChatroomId) {
+    }
+
+    private final long fromUserId;
+    private final Settings s;
+    private final RandomDataFactory f;
+
+    public SeedHistoryReader(long fromUserId, long toUserId, Settings settings) {
+        this.fromUserId = fromUserId;
+        this.s = settings;
+        this.f = new RandomDataFactory(settings.randomSeed());
+        setName("seedHistoryReader");
+        setMaxItemCount((int) (toUserId - fromUserId + 1));
+    }
+
+    @Override
+    protected SeedHistoryItem doRead() {
+        long actor = fromUserId + getCurrentItemCount() - 1;
+        f.reseed(s.randomSeed() * 131 + actor);
+        Random r = f.random();
+
+        SeedHistoryItem item = new SeedHistoryItem();
+        int likes = s.likeSampler().sample(r) - 1; // 0 ~ max-1, 대부분 적고 일부만 많음
+        Set<Long> seen = new HashSet<>();
+
+        for (int i = 0; i < likes; i++) {
+            long target = userIdAtRank(s.targetSampler().sample(r));
+            if (target == actor || !seen.add(target) || !ownsPair(actor, target)) continue;
+
+            LocalDateTime likedAt = s.now().minusMinutes(f.range(60, s.days() * 24 * 60));
+            BigDecimal score = BigDecimal.valueOf(r.nextDouble()).setScale(2, RoundingMode.HALF_UP);
+
+            if (!f.chance(s.requestRatio())) {
+                item.getMatches().add(new SeedHistoryItem.MatchRow(
+                        actor, target, "LIKE", "PENDING", "PENDING", "PENDING", score, likedAt, null));
+                continue;
+            }
+
+            // 상호 좋아요 → 정식 신청 + 채팅방
+            double outcome = r.nextDouble();
+            LocalDateTime confirmedAt = likedAt.plusHours(f.range(1, 72));
+            if (outcome < s.acceptRatio()) {
+                item.getMatches().add(new SeedHistoryItem.MatchRow(
+                        actor, target, "REQUEST", "ACCEPTED", "ACCEPTED", "ACCEPTED", score, likedAt, confirmedAt));
+            } else if (outcome < s.acceptRatio() + s.rejectRatio()) {
+                item.getMatches().add(new SeedHistoryItem.MatchRow(
+                        actor, target, "REQUEST", "REJECTED", "ACCEPTED", "REJECTED", score, likedAt, confirmedAt));
+            } else {
+                item.getMatches().add(new SeedHistoryItem.MatchRow(
+                        actor, target, "REQUEST", "PENDING", "PENDING", "PENDING", score, likedAt, null));
+            }
+
+            long roomId = chatroomId(actor, target);
+            item.getChatrooms().add(new SeedHistoryItem.ChatroomRow(roomId, actor, target, likedAt));
+
+            int messages = s.messageSampler().sample(r);
+            LocalDateTime at = likedAt;
+            for (int m = 0; m < messages; m++) {
+                at = at.plusMinutes(f.range(1, 120));
+                if (at.isAfter(s.now())) break;
+                item.getMessages().add(new SeedHistoryItem.MessageRow(
+                        roomId, f.bool() ? actor : target, f.chatMessage(), "seed-" + roomId + "-" + m, at));
+            }
+        }
+        return item;
+    }
+
+    private long userIdAtRank(int rank) {
+        return s.minUserId() + ((rank - 1) * s.rankMultiplier()) % s.userCount();
+    }
+
+    // 두 사람 쌍의 번호 (0부터 센 사용자 순번 u < v 의 삼각수 배치, 쌍마다 유일)
+    private long chatroomId(long actor, long other) {
+        long u = Math.min(actor, other) - s.minUserId();
+        long v = Math.max(actor, other) - s.minUserId();
+        return s.baseChatroomId() + v * (v - 1) / 2 + u + 1;
+    }
+
+    // 두 사람 중 정해진 한쪽만 관계를 생성 (합의 홀짝으로 작은/큰 id 를 번갈아 owner 로)
+    private static boolean ownsPair(long actor, long other) {
+        boolean smallerOwns = ((actor + other) & 1) == 0;
+        return smallerOwns ? actor < other : actor > other;
+    }
+
+    @Override
+    protected void doOpen() {
+    }
+
+    @Override
+    protected void doClose() {
+    }
+}
@@ -0,0 +1,67 @@
+package com.unimate.support.seed;
+
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * 스트리밍 시드 리더
+ * - [fromIndex, toIndex] 구간의 사용자를 읽을 때마다 한 건씩 생성 (전체 목록을 메모리에 올리지 않음)
+ * - idx 로 재시드하므로 파티션 수/스레드와 무관하게 같은 idx 는 항상 같은 데이터
+ * - userId = idOffset + idx 로 미리 정해 하위 테이블 INSERT 에서 이메일 서브쿼리 불필요
+ */
+public class SeedItemReader extends AbstractItemCountingItemStreamItemReader<UserProfileItem> {
+
+    private final long fromIndex;
+    private final long idOffset;
+    private final long randomSeed;
+    private final String passwordHash;
+    private final RandomDataFactory f;
+
+    public SeedItemReader(long fromIndex, long toIndex, long idOffset, long randomSeed, String passwordHash) {
+        this.fromIndex = fromIndex;
+        this.idOffset = idOffset;
+        this.randomSeed = randomSeed;
+        this.passwordHash = passwordHash;
+        this.f = new RandomDataFactory(randomSeed);
+        setName("seedItemReader");
+        setMaxItemCount((int) (toIndex - fromIndex + 1));
+    }
+
+    @Override
+    protected UserProfileItem doRead() {
+        long idx = fromIndex + getCurrentItemCount() - 1;
+        f.reseed(randomSeed * 31 + idx);
+
+        return new UserProfileItem(
+                idOffset + idx,
+                f.email((int) idx),
+                passwordHash,
+                f.name(),
+                f.gender().name(),
+                f.birthDate(),
+                f.studentVerified(),
+                f.university(),
+                f.sleepTime(),
+                f.bool(),                 // isPetAllowed
+                f.bool(),                 // isSmoker
+                f.range(1,5),             // cleaningFrequency
+                f.range(0,3),             // preferredAgeGap
+                f.range(1,5),             // hygieneLevel
+                f.snoring(),              // isSnoring
+                f.drinkingFrequency(),    // drinkingFrequency
+                f.range(1,5),             // noiseSensitivity
+                f.guestFrequency(),       // guestFrequency
+                f.mbti(),
+                f.startUseDate(),
+                f.endUseDate(),
+                f.matchingEnabled()
+        );
+    }
+
+    @Override
+    protected void doOpen() {
+    }
+
+    @Override
+    protected void doClose() {
+    }
+}
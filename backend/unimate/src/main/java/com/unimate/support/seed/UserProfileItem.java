@@ -8,6 +8,7 @@ import java.time.LocalDate;
 @Data
 @AllArgsConstructor
 public class UserProfileItem {
+    private Long userId;
     private String email;
     private String password;
     private String name;
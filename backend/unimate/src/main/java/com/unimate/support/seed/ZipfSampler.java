@@ -0,0 +1,34 @@
+package com.unimate.support.seed;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf 분포 샘플러 (1..n, P(k) ∝ 1 / k^exponent)
+ * - 누적 분포를 미리 계산해 두고 이진 탐색으로 샘플링 (스레드 안전, Random 은 호출 측이 제공)
+ */
+public class ZipfSampler {
+
+    private final double[] cdf;
+
+    public ZipfSampler(int n, double exponent) {
+        this.cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    public int sample(Random r) {
+        int idx = Arrays.binarySearch(cdf, r.nextDouble());
+        return (idx >= 0 ? idx : -idx - 1) + 1;
+    }
+
+    public int size() {
+        return cdf.length;
+    }
+}
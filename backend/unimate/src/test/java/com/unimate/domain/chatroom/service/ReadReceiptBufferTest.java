@@ -0,0 +1,169 @@
+package com.unimate.domain.chatroom.service;
+
+import com.unimate.domain.chatroom.dto.ChatReadResponse;
+import com.unimate.domain.chatroom.entity.Chatroom;
+import com.unimate.domain.chatroom.repository.ChatroomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReadReceiptBufferTest {
+
+    private static final Long USER1 = 1001L;
+    private static final Long USER2 = 1002L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ChatroomRepository chatroomRepository;
+
+    private SimpMessageSendingOperations messagingTemplate;
+    private ReadReceiptBuffer buffer;
+    private Long chatroomId;
+
+    @BeforeEach
+    void setUp() {
+        // 스케줄러와 겹치지 않도록 빈이 아닌 별도 인스턴스로 검증
+        messagingTemplate = mock(SimpMessageSendingOperations.class);
+        buffer = newBuffer(jdbcTemplate);
+
+        chatroomId = chatroomRepository.save(Chatroom.create(USER1, USER2)).getId();
+        jdbcTemplate.update("UPDATE chatroom SET last_message_id = 100, last_read_message_id_user1 = 50 WHERE id = ?", chatroomId);
+    }
+
+    @AfterEach
+    void cleanup() {
+        chatroomRepository.deleteById(chatroomId);
+    }
+
+    @Test
+    @DisplayName("앞선 읽음 위치가 이미 저장돼 있으면 제출한 값이 아니라 저장된 값을 브로드캐스트한다")
+    void flush_broadcastsStoredMarker_whenSubmittedIsBehind() {
+        buffer.submit(USER1, chatroomId, 30L);
+        buffer.flush();
+
+        assertThat(readMarker("last_read_message_id_user1")).isEqualTo(50L);
+        ChatReadResponse sent = captureBroadcast();
+        assertThat(sent.getUserId()).isEqualTo(USER1);
+        assertThat(sent.getLastReadMessageId()).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("읽음 위치가 앞으로 가면 저장 후 새 값을 브로드캐스트한다")
+    void flush_broadcastsAdvancedMarker() {
+        buffer.submit(USER2, chatroomId, 70L);
+        buffer.submit(USER2, chatroomId, 80L);
+        buffer.flush();
+
+        assertThat(readMarker("last_read_message_id_user2")).isEqualTo(80L);
+        assertThat(captureBroadcast().getLastReadMessageId()).isEqualTo(80L);
+    }
+
+    @Test
+    @DisplayName("방의 마지막 메시지를 넘는 ID 는 반영하지도 브로드캐스트하지도 않는다")
+    void flush_ignoresMarkerBeyondLastMessage() {
+        buffer.submit(USER2, chatroomId, 500L);
+        buffer.flush();
+
+        assertThat(readMarker("last_read_message_id_user2")).isNull();
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("종료 시 아직 반영하지 않은 읽음 위치를 저장한다")
+    void shutdown_flushesPendingMarkers() {
+        buffer.submit(USER1, chatroomId, 90L);
+
+        buffer.flushOnShutdown();
+
+        assertThat(readMarker("last_read_message_id_user1")).isEqualTo(90L);
+    }
+
+    @Test
+    @DisplayName("일괄 반영이 실패하면 꺼낸 읽음 위치를 다시 합쳐 다음 주기에 더 큰 값으로 반영한다")
+    void failedFlush_remergesMarkers_andRetries() {
+        JdbcTemplate failingOnce = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("DB 연결 끊김"))
+                .doCallRealMethod()
+                .when(failingOnce).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        buffer = newBuffer(failingOnce);
+
+        buffer.submit(USER2, chatroomId, 70L);
+        buffer.flush();
+
+        assertThat(readMarker("last_read_message_id_user2")).isNull();
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+
+        // 실패 이후 들어온 더 작은 값은 무시되고 큰 값(70)이 유지됨
+        buffer.submit(USER2, chatroomId, 60L);
+        buffer.flush();
+
+        assertThat(readMarker("last_read_message_id_user2")).isEqualTo(70L);
+        assertThat(captureBroadcast().getLastReadMessageId()).isEqualTo(70L);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 max-retries 를 넘으면 읽음 위치를 버린다")
+    void repeatedFailures_dropMarkers() {
+        JdbcTemplate failing = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("DB 연결 끊김"))
+                .when(failing).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        buffer = newBuffer(failing);
+        ReflectionTestUtils.setField(buffer, "maxRetries", 1);
+
+        buffer.submit(USER2, chatroomId, 70L);
+        buffer.flush(); // 1회째 실패 → 재시도 대기
+        buffer.flush(); // 2회째 실패 → 버림
+        buffer.flush(); // 남은 것 없음
+
+        verify(failing, times(2)).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private ReadReceiptBuffer newBuffer(JdbcTemplate template) {
+        ReadReceiptBuffer b = new ReadReceiptBuffer(template, transactionTemplate, messagingTemplate);
+        ReflectionTestUtils.setField(b, "batchSize", 500);
+        ReflectionTestUtils.setField(b, "maxRetries", 5);
+        return b;
+    }
+
+    private Long readMarker(String column) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM chatroom WHERE id = ?", Long.class, chatroomId);
+    }
+
+    private ChatReadResponse captureBroadcast() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/sub/chatroom." + chatroomId + ".read"), payload.capture());
+        return (ChatReadResponse) payload.getValue();
+    }
+}
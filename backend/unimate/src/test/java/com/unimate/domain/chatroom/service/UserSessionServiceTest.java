@@ -0,0 +1,66 @@
+package com.unimate.domain.chatroom.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class UserSessionServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long CHATROOM_ID = 10L;
+
+    private UserSessionService userSessionService;
+
+    @BeforeEach
+    void setUp() {
+        // 로컬 presence 만 검증 (Redis 비활성)
+        userSessionService = new UserSessionService(mock(StringRedisTemplate.class));
+        ReflectionTestUtils.setField(userSessionService, "redisEnabled", false);
+        ReflectionTestUtils.setField(userSessionService, "ttlSeconds", 90L);
+    }
+
+    @Test
+    @DisplayName("두 기기 중 한 세션만 나가면 나머지 세션으로 계속 접속 중이다")
+    void exitOneOfTwoSessions_keepsPresence() {
+        userSessionService.enter(USER_ID, CHATROOM_ID, "session-phone");
+        userSessionService.enter(USER_ID, CHATROOM_ID, "session-desktop");
+
+        userSessionService.exit(USER_ID, CHATROOM_ID, "session-phone");
+        assertThat(userSessionService.isUserInChatroom(USER_ID, CHATROOM_ID)).isTrue();
+
+        userSessionService.exit(USER_ID, CHATROOM_ID, "session-desktop");
+        assertThat(userSessionService.isUserInChatroom(USER_ID, CHATROOM_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("REST 퇴장은 다른 기기의 STOMP 세션을 지우지 않는다")
+    void restLeave_keepsStompSessions() {
+        userSessionService.enter(USER_ID, CHATROOM_ID, "session-desktop");
+        userSessionService.enterChatroom(USER_ID, CHATROOM_ID);
+
+        userSessionService.leaveChatroom(USER_ID, CHATROOM_ID);
+        assertThat(userSessionService.isUserInChatroom(USER_ID, CHATROOM_ID)).isTrue();
+
+        // heartbeat 이후에도 STOMP 세션은 유지
+        userSessionService.heartbeat();
+        assertThat(userSessionService.isUserInChatroom(USER_ID, CHATROOM_ID)).isTrue();
+
+        userSessionService.exit(USER_ID, CHATROOM_ID, "session-desktop");
+        assertThat(userSessionService.isUserInChatroom(USER_ID, CHATROOM_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("REST 로만 입장한 경우 REST 퇴장으로 접속 상태가 사라진다")
+    void restOnly_leaveClearsPresence() {
+        userSessionService.enterChatroom(USER_ID, CHATROOM_ID);
+        assertThat(userSessionService.isUserInChatroom(USER_ID, CHATROOM_ID)).isTrue();
+
+        userSessionService.leaveChatroom(USER_ID, CHATROOM_ID);
+        assertThat(userSessionService.isUserInChatroom(USER_ID, CHATROOM_ID)).isFalse();
+    }
+}
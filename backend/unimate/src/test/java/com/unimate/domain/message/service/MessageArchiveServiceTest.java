@@ -0,0 +1,139 @@
+package com.unimate.domain.message.service;
+
+import com.unimate.domain.chatroom.dto.ChatHistoryResponse;
+import com.unimate.domain.chatroom.entity.Chatroom;
+import com.unimate.domain.chatroom.repository.ChatroomRepository;
+import com.unimate.domain.chatroom.service.ChatroomService;
+import com.unimate.domain.message.entity.Message;
+import com.unimate.domain.message.repository.MessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "message.archive.segment-size=2")
+@ActiveProfiles("test")
+class MessageArchiveServiceTest {
+
+    private static final Long USER1 = 2001L;
+    private static final Long USER2 = 2002L;
+
+    @Autowired
+    private MessageArchiveService messageArchiveService;
+
+    @Autowired
+    private ChatroomService chatroomService;
+
+    @Autowired
+    private ChatroomRepository chatroomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Chatroom room;
+    private final List<Long> messageIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        room = chatroomRepository.save(Chatroom.create(USER1, USER2));
+        for (int i = 1; i <= 5; i++) {
+            messageIds.add(send(i % 2 == 0 ? USER2 : USER1, "메시지" + i));
+        }
+        touchLastMessage(messageIds.get(4));
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM message_archive_segment WHERE chatroom_id = ?", room.getId());
+        jdbcTemplate.update("DELETE FROM message WHERE chatroom_id = ?", room.getId());
+        chatroomRepository.deleteById(room.getId());
+    }
+
+    @Test
+    @DisplayName("보관된 메시지는 활성 테이블에서 빠지고, 히스토리는 보관 묶음에서 이어서 읽는다")
+    void history_readsThroughArchiveFallback() {
+        int archived = messageArchiveService.archiveInactiveRooms(LocalDateTime.now().plusDays(1));
+
+        assertThat(archived).isEqualTo(5);
+        assertThat(archivedUpTo()).isEqualTo(messageIds.get(4));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM message WHERE chatroom_id = ?", Integer.class, room.getId())).isZero();
+
+        // 보관 후 새 메시지 → 첫 페이지는 활성 1건 + 보관 묶음 3건
+        Long fresh = send(USER2, "새 메시지");
+        touchLastMessage(fresh);
+
+        ChatHistoryResponse first = chatroomService.getHistory(USER1, room.getId(), null, 4);
+        assertThat(ids(first)).containsExactly(fresh, messageIds.get(4), messageIds.get(3), messageIds.get(2));
+        assertThat(first.getItems().get(1).getContent()).isEqualTo("메시지5");
+
+        // 보관 구간 커서로 다음 페이지
+        ChatHistoryResponse second = chatroomService.getHistory(USER1, room.getId(), Long.valueOf(first.getNextCursor()), 4);
+        assertThat(ids(second)).containsExactly(messageIds.get(1), messageIds.get(0));
+    }
+
+    @Test
+    @DisplayName("다른 경로의 채팅방 엔티티 저장이 보관 위치를 되돌리지 않는다")
+    void entityFlush_doesNotOverwriteArchivedUpTo() {
+        messageArchiveService.archiveInactiveRooms(LocalDateTime.now().plusDays(1));
+
+        // 보관 전에 읽어 둔 값과 무관하게 엔티티 flush 는 보관 위치를 건드리지 않음
+        chatroomService.updateLastRead(USER1, room.getId(), messageIds.get(4));
+
+        assertThat(archivedUpTo()).isEqualTo(messageIds.get(4));
+    }
+
+    @Test
+    @DisplayName("보관 위치는 조회한 값일 때만 전진한다")
+    void advanceArchivedUpTo_onlyFromExpectedPosition() {
+        assertThat(advance(0L, messageIds.get(1))).isEqualTo(1);
+        // 이미 다른 작업이 옮긴 위치에서 다시 시도하면 0건
+        assertThat(advance(0L, messageIds.get(1))).isZero();
+        assertThat(archivedUpTo()).isEqualTo(messageIds.get(1));
+    }
+
+    private int advance(Long expected, Long upTo) {
+        return transactionTemplate.execute(status -> chatroomRepository.advanceArchivedUpTo(room.getId(), expected, upTo));
+    }
+
+    private Long send(Long senderId, String content) {
+        return messageRepository.save(Message.builder()
+                .chatroom(room)
+                .senderId(senderId)
+                .content(content)
+                .clientMessageId(UUID.randomUUID().toString())
+                .build()).getId();
+    }
+
+    private void touchLastMessage(Long messageId) {
+        jdbcTemplate.update("UPDATE chatroom SET last_message_id = ?, last_message_at = ? WHERE id = ?",
+                messageId, LocalDateTime.now(), room.getId());
+    }
+
+    private Long archivedUpTo() {
+        return jdbcTemplate.queryForObject(
+                "SELECT archived_up_to_message_id FROM chatroom WHERE id = ?", Long.class, room.getId());
+    }
+
+    private static List<Long> ids(ChatHistoryResponse response) {
+        return response.getItems().stream().map(ChatHistoryResponse.ChatMessageItem::getMessageId).toList();
+    }
+}
@@ -0,0 +1,163 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.chatroom.service.UserSessionService;
+import com.unimate.domain.message.event.ChatMessageSentEvent;
+import com.unimate.domain.notification.dto.ChatNotificationDraft;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 알림 디스패처 (큐 적재 → flush 시 접어서 일괄 저장, 실패 시 건별 저장/재시도)
+ * - 예약 실행 대신 flush 를 직접 호출
+ */
+class ChatNotificationDispatcherTest {
+
+    private final UserSessionService userSessionService = mock(UserSessionService.class);
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final List<List<ChatNotificationDraft>> calls = new ArrayList<>();
+    private ChatNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new ChatNotificationDispatcher(userSessionService, notificationService);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 100);
+        ReflectionTestUtils.setField(dispatcher, "maxBatchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 2);
+        dispatcher.init();
+
+        doAnswer(inv -> {
+            calls.add(List.copyOf(inv.getArgument(0)));
+            return null;
+        }).when(notificationService).createChatNotifications(anyList());
+    }
+
+    @Test
+    @DisplayName("flush - 같은 (수신자, 채팅방) 메시지는 하나로 접고 채팅방에 있는 수신자는 건너뛴다")
+    void flush_collapsesPerReceiverAndRoom() {
+        when(userSessionService.isUserInChatroom(3L, 30L)).thenReturn(true);
+        send(10L, 1L, 2L);
+        send(10L, 5L, 2L);
+        send(10L, 1L, 2L);
+        send(20L, 1L, 4L);
+        send(30L, 1L, 3L);
+
+        dispatcher.flush();
+
+        assertThat(calls).containsExactly(List.of(
+                new ChatNotificationDraft(2L, 10L, 1L, 3),
+                new ChatNotificationDraft(4L, 20L, 1L, 1)));
+        // (수신자, 채팅방)당 접속 여부는 한 번만 조회
+        verify(userSessionService, times(1)).isUserInChatroom(2L, 10L);
+        assertThat(dispatcher.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush - 큐를 max-batch-size 단위로 나눠 저장한다")
+    void flush_splitsByMaxBatchSize() {
+        ReflectionTestUtils.setField(dispatcher, "maxBatchSize", 2);
+        for (long room = 1; room <= 5; room++) {
+            send(room, 1L, 2L);
+        }
+
+        dispatcher.flush();
+
+        assertThat(calls).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("flush - 큐가 비어 있으면 저장하지 않는다")
+    void flush_emptyQueue_doesNothing() {
+        dispatcher.flush();
+
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 실패 - 일괄 저장이 실패하면 건별로 저장하고, 실패한 알림만 다음 주기에 재시도 후 버린다")
+    void failedBatch_fallsBackPerDraft_thenRetriesAndDrops() {
+        // 배치 전체와 수신자 4의 알림만 실패
+        doAnswer(inv -> {
+            List<ChatNotificationDraft> drafts = inv.getArgument(0);
+            calls.add(List.copyOf(drafts));
+            if (drafts.size() > 1 || drafts.get(0).receiverId() == 4L) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            return null;
+        }).when(notificationService).createChatNotifications(anyList());
+        send(10L, 1L, 2L);
+        send(20L, 1L, 4L);
+        send(20L, 1L, 4L);
+
+        dispatcher.flush();
+
+        // 일괄 1회 + 건별 2회, 수신자 4 알림은 재시도 대기
+        assertThat(calls).hasSize(3);
+        assertThat(calls.get(1)).containsExactly(new ChatNotificationDraft(2L, 10L, 1L, 1));
+        assertThat(dispatcher.getRetryDepth()).isEqualTo(1);
+        assertThat(dispatcher.getDroppedCount()).isZero();
+
+        // 다음 주기: 한 번 더 실패하면 max-attempts(2) 에 도달해 버림 (접힌 메시지 수만큼 집계)
+        dispatcher.flush();
+
+        assertThat(calls).hasSize(4);
+        assertThat(calls.get(3)).containsExactly(new ChatNotificationDraft(4L, 20L, 1L, 2));
+        assertThat(dispatcher.getRetryDepth()).isZero();
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장 실패 - 재시도에서 성공하면 버리지 않는다")
+    void failedDraft_succeedsOnRetry() {
+        doAnswer(inv -> {
+            calls.add(List.copyOf(inv.getArgument(0)));
+            if (calls.size() <= 2) {
+                throw new IllegalStateException("잠금 대기 시간 초과");
+            }
+            return null;
+        }).when(notificationService).createChatNotifications(anyList());
+        send(10L, 1L, 2L);
+
+        dispatcher.flush();
+        assertThat(dispatcher.getRetryDepth()).isEqualTo(1);
+
+        dispatcher.flush();
+
+        assertThat(calls).hasSize(3);
+        assertThat(calls.get(2)).containsExactly(new ChatNotificationDraft(2L, 10L, 1L, 1));
+        assertThat(dispatcher.getRetryDepth()).isZero();
+        assertThat(dispatcher.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐 초과 - 용량을 넘는 이벤트는 버리고 집계한다")
+    void fullQueue_dropsEvent() {
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 1);
+        dispatcher.init();
+
+        send(10L, 1L, 2L);
+        send(10L, 1L, 2L);
+
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+        verify(userSessionService, never()).isUserInChatroom(anyLong(), anyLong());
+    }
+
+    private void send(Long chatroomId, Long senderId, Long receiverId) {
+        dispatcher.onChatMessageSent(new ChatMessageSentEvent(chatroomId, senderId, receiverId, null));
+    }
+}
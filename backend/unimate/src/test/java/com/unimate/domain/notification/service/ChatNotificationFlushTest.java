@@ -0,0 +1,44 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.message.event.ChatMessageSentEvent;
+import com.unimate.domain.notification.dto.ChatNotificationDraft;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 채팅 알림 flush 주기 실행
+ * - 트랜잭션 밖에서 발행된 메시지 이벤트가 큐에 쌓였다가 다음 주기에 저장 요청으로 이어지는지 확인
+ */
+@SpringBootTest(properties = "notification.chat.flush-interval-ms=100")
+@ActiveProfiles("test")
+class ChatNotificationFlushTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @Test
+    @DisplayName("메시지 이벤트 → flush 주기 안에 접힌 알림 저장 요청")
+    void publishedEvents_areFlushedOnSchedule() {
+        Long chatroomId = 900_001L;
+        eventPublisher.publishEvent(new ChatMessageSentEvent(chatroomId, 1L, 2L, 10L));
+        eventPublisher.publishEvent(new ChatMessageSentEvent(chatroomId, 1L, 2L, 11L));
+
+        verify(notificationService, timeout(3_000).atLeastOnce())
+                .createChatNotifications(argThat((List<ChatNotificationDraft> drafts) ->
+                        drafts.stream().anyMatch(d -> d.chatroomId().equals(chatroomId))));
+    }
+}
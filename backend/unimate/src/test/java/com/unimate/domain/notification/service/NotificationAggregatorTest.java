@@ -0,0 +1,209 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.notification.entity.Notification;
+import com.unimate.domain.notification.entity.NotificationType;
+import com.unimate.domain.user.user.entity.Gender;
+import com.unimate.domain.user.user.entity.User;
+import com.unimate.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 알림 집계 upsert / 이전 알림 보정 (H2)
+ * - 결과(Result)와 실제 행 상태를 함께 확인
+ */
+@SpringBootTest(properties = {
+        "notification.unread.redis.enabled=false",
+        "notification.legacy-backfill.chunk-size=2"
+})
+@ActiveProfiles("test")
+class NotificationAggregatorTest {
+
+    @Autowired
+    private NotificationAggregator aggregator;
+
+    @Autowired
+    private NotificationLegacyBackfill legacyBackfill;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User receiver;
+    private User sender;
+
+    @BeforeEach
+    void setUp() {
+        receiver = newUser("수신자");
+        sender = newUser("발신자");
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM notifications WHERE user_id = ?", receiver.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", receiver.getId(), sender.getId());
+    }
+
+    @Test
+    @DisplayName("upsert - 처음엔 새 행, 읽지 않은 동안엔 개수 누적, 읽은 뒤엔 되살림")
+    void upsert_createsMergesAndReopens() {
+        NotificationAggregator.Result created = aggregator.upsert(chatDraft(3));
+        assertThat(created.outcome()).isEqualTo(NotificationAggregator.Outcome.CREATED);
+        assertThat(created.id()).isNotNull();
+        Map<String, Object> row = row(created.id());
+        assertThat(row.get("aggregate_count")).isEqualTo(3);
+        assertThat(row.get("aggregation_key")).isEqualTo(chatDraft(1).key());
+        LocalDateTime createdAt = ((Timestamp) row.get("created_at")).toLocalDateTime();
+
+        NotificationAggregator.Result merged = aggregator.upsert(chatDraft(2));
+        assertThat(merged.outcome()).isEqualTo(NotificationAggregator.Outcome.MERGED);
+        assertThat(merged.id()).isNull();
+        assertThat(row(created.id()).get("aggregate_count")).isEqualTo(5);
+
+        jdbcTemplate.update("UPDATE notifications SET is_read = TRUE WHERE id = ?", created.id());
+
+        NotificationAggregator.Result reopened = aggregator.upsert(chatDraft(1));
+        assertThat(reopened.outcome()).isEqualTo(NotificationAggregator.Outcome.REOPENED);
+        row = row(created.id());
+        assertThat(row.get("aggregate_count")).isEqualTo(1);
+        assertThat(row.get("is_read")).isEqualTo(false);
+        // 생성 시각은 그대로, 활동 시각만 결과의 시각으로 갱신
+        assertThat(((Timestamp) row.get("created_at")).toLocalDateTime()).isEqualTo(createdAt);
+        assertThat(((Timestamp) row.get("last_activity_at")).toLocalDateTime())
+                .isCloseTo(reopened.at(), within(1, ChronoUnit.MILLIS));
+        assertThat(count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("upsertAll - 배치 누적 대상이 없던 행만 새로 만들고 결과 순서를 입력과 맞춘다")
+    void upsertAll_mixesMergeAndCreate() {
+        Long existing = aggregator.upsert(chatDraft(1)).id();
+        NotificationAggregator.Draft other = new NotificationAggregator.Draft(
+                receiver.getId(), NotificationType.CHAT, "다른 방", sender.getName(), sender.getId(), 999L, 4);
+
+        List<NotificationAggregator.Result> results = aggregator.upsertAll(List.of(chatDraft(2), other));
+
+        assertThat(results).extracting(NotificationAggregator.Result::outcome)
+                .containsExactly(NotificationAggregator.Outcome.MERGED, NotificationAggregator.Outcome.CREATED);
+        assertThat(row(existing).get("aggregate_count")).isEqualTo(3);
+        assertThat(row(results.get(1).id()).get("aggregate_count")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("중복 키 - 되살릴 행도 없어 INSERT 하는 사이 다른 요청이 같은 키로 먼저 넣으면 그 행에 합류")
+    void upsert_duplicateKeyOnInsert_mergesIntoWinner() {
+        NotificationAggregator.Draft draft = chatDraft(2);
+        JdbcTemplate racing = spy(jdbcTemplate);
+        // REOPEN 이 대상 없음으로 끝난 직후 다른 인스턴스가 같은 키로 INSERT
+        doAnswer(inv -> {
+            new NotificationAggregator(jdbcTemplate).upsert(chatDraft(5));
+            return 0;
+        }).when(racing).update(argThat((String sql) -> sql != null && sql.contains("is_read = TRUE")),
+                any(PreparedStatementSetter.class));
+
+        NotificationAggregator.Result result = new NotificationAggregator(racing).upsert(draft);
+
+        assertThat(result.outcome()).isEqualTo(NotificationAggregator.Outcome.MERGED);
+        assertThat(count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT aggregate_count FROM notifications WHERE aggregation_key = ?",
+                Integer.class, draft.key())).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("insertSingle - 접을 대상이 없는 알림은 매번 새 행, 자기 id 로 만든 키를 가진다")
+    void insertSingle_assignsOwnKey() {
+        NotificationAggregator.Draft draft = new NotificationAggregator.Draft(
+                receiver.getId(), NotificationType.MATCH, "매칭 알림", null, null, null, 1);
+        assertThat(draft.key()).isNull();
+
+        NotificationAggregator.Result first = aggregator.insertSingle(draft);
+        NotificationAggregator.Result second = aggregator.insertSingle(draft);
+
+        assertThat(first.id()).isNotEqualTo(second.id());
+        assertThat(row(first.id()).get("aggregation_key"))
+                .isEqualTo(Notification.singleKey(NotificationType.MATCH, receiver.getId(), first.id()));
+        assertThat(row(second.id()).get("aggregation_key"))
+                .isEqualTo(Notification.singleKey(NotificationType.MATCH, receiver.getId(), second.id()));
+        assertThat(((Timestamp) row(first.id()).get("last_activity_at")).toLocalDateTime())
+                .isCloseTo(first.at(), within(1, ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("이전 알림 보정 - 발신자별 최신 행이 집계 키를 갖고, 나머지는 자기 키, 활동 시각은 생성 시각으로 채움")
+    void legacyBackfill_assignsKeysNewestFirst() {
+        LocalDateTime base = LocalDateTime.of(2024, 6, 1, 9, 0);
+        Long oldest = insertLegacy(NotificationType.LIKE, sender.getId(), base);
+        Long newest = insertLegacy(NotificationType.LIKE, sender.getId(), base.plusMinutes(1));
+        Long noSender = insertLegacy(NotificationType.MATCH, null, base.plusMinutes(2));
+
+        legacyBackfill.backfill();
+
+        assertThat(row(newest).get("aggregation_key"))
+                .isEqualTo(Notification.aggregationKey(NotificationType.LIKE, receiver.getId(), sender.getId(), null));
+        assertThat(row(oldest).get("aggregation_key"))
+                .isEqualTo(Notification.singleKey(NotificationType.LIKE, receiver.getId(), oldest));
+        assertThat(row(noSender).get("aggregation_key"))
+                .isEqualTo(Notification.singleKey(NotificationType.MATCH, receiver.getId(), noSender));
+        assertThat(((Timestamp) row(oldest).get("last_activity_at")).toLocalDateTime()).isEqualTo(base);
+
+        // 보정 후 새 알림은 최신 행에 접힘
+        NotificationAggregator.Result merged = aggregator.upsert(new NotificationAggregator.Draft(
+                receiver.getId(), NotificationType.LIKE, "좋아요 알림", sender.getName(), sender.getId(), null, 1));
+        assertThat(merged.outcome()).isEqualTo(NotificationAggregator.Outcome.MERGED);
+        assertThat(row(newest).get("aggregate_count")).isEqualTo(2);
+    }
+
+    private NotificationAggregator.Draft chatDraft(int count) {
+        return new NotificationAggregator.Draft(receiver.getId(), NotificationType.CHAT,
+                sender.getName() + " 님에게 새로운 메시지가 도착했습니다.", sender.getName(), sender.getId(), 100L, count);
+    }
+
+    private Long insertLegacy(NotificationType type, Long senderId, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO notifications (user_id, type, message, sender_id, is_read, aggregate_count, created_at, updated_at)
+                VALUES (?, ?, '이전 알림', ?, FALSE, 1, ?, ?)
+                """, receiver.getId(), type.name(), senderId, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM notifications WHERE user_id = ?", Long.class, receiver.getId());
+    }
+
+    private Map<String, Object> row(Long id) {
+        return jdbcTemplate.queryForMap("""
+                SELECT aggregate_count, aggregation_key, is_read, created_at, last_activity_at
+                  FROM notifications WHERE id = ?
+                """, id);
+    }
+
+    private int count() {
+        Integer n = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE user_id = ?", Integer.class, receiver.getId());
+        return n != null ? n : 0;
+    }
+
+    private User newUser(String name) {
+        String email = UUID.randomUUID().toString().substring(0, 8) + "@university.ac.kr";
+        return userRepository.save(new User(name, email, "password", Gender.MALE, LocalDate.of(2000, 1, 1), "서울대학교"));
+    }
+}
@@ -0,0 +1,187 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.notification.dto.NotificationFeedResponse;
+import com.unimate.domain.notification.entity.Notification;
+import com.unimate.domain.notification.entity.NotificationType;
+import com.unimate.domain.notification.repository.NotificationRepository;
+import com.unimate.domain.user.user.entity.Gender;
+import com.unimate.domain.user.user.entity.User;
+import com.unimate.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 피드 키셋 페이지네이션 / 일괄 읽음 범위 (H2)
+ * - 활동 시각은 JDBC 로 직접 지정해 같은 시각의 행을 만들고 정렬을 고정
+ */
+@SpringBootTest(properties = "notification.unread.redis.enabled=false")
+@ActiveProfiles("test")
+class NotificationFeedTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User receiver;
+    private final List<User> senders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        receiver = newUser("수신자");
+        for (int i = 0; i < 5; i++) {
+            senders.add(newUser("발신자" + i));
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM notifications WHERE user_id = ?", receiver.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", receiver.getId());
+        senders.forEach(s -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", s.getId()));
+    }
+
+    @Test
+    @DisplayName("피드 - 커서로 이어 읽으면 (활동 시각, id) 내림차순으로 빠짐없이 한 번씩 나온다")
+    void feed_pagesByCursor_withoutGapsOrDuplicates() {
+        // 활동 시각: n0 < n1 = n2 < n3 < n4 (n1, n2 는 같은 시각)
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(notify(senders.get(i)));
+        }
+        setActivity(ids.get(0), BASE);
+        setActivity(ids.get(1), BASE.plusMinutes(1));
+        setActivity(ids.get(2), BASE.plusMinutes(1));
+        setActivity(ids.get(3), BASE.plusMinutes(2));
+        setActivity(ids.get(4), BASE.plusMinutes(3));
+
+        List<Long> seen = readAllPages(2);
+
+        assertThat(seen).containsExactly(ids.get(4), ids.get(3), ids.get(2), ids.get(1), ids.get(0));
+    }
+
+    @Test
+    @DisplayName("피드 - 활동 시각이 모두 같으면 id 내림차순으로 한 건씩 넘어간다")
+    void feed_equalTimestamps_breakTieById() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Long id = notify(senders.get(i));
+            setActivity(id, BASE);
+            ids.add(id);
+        }
+
+        NotificationFeedResponse first = notificationService.getFeed(receiver.getId(), null, 1);
+        assertThat(first.getNextCursor()).isEqualTo("2025-01-01T12:00:00|" + ids.get(2));
+
+        assertThat(readAllPages(1)).containsExactly(ids.get(2), ids.get(1), ids.get(0));
+    }
+
+    @Test
+    @DisplayName("일괄 읽음 - 커서 이후 되살아난 알림은 id 가 작아도 읽지 않은 상태로 남는다")
+    void markAllAsRead_boundedByFeedCursor() {
+        Long older = notify(senders.get(0));
+        Long reopened = notify(senders.get(1));
+        Long newest = notify(senders.get(2));
+        setActivity(older, BASE);
+        setActivity(reopened, BASE.plusMinutes(1));
+        setActivity(newest, BASE.plusMinutes(2));
+
+        // 클라이언트가 본 가장 최신 알림
+        String upTo = notificationService.getFeed(receiver.getId(), null, 10).getItems().get(0).getLastActivityAt()
+                + "|" + newest;
+
+        // 클라이언트가 본 뒤 같은 발신자의 새 이벤트가 접혀 활동 시각이 커서보다 뒤로 감
+        setActivity(reopened, BASE.plusMinutes(5));
+
+        int updated = notificationService.markAllAsRead(receiver.getId(), upTo);
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(isRead(older)).isTrue();
+        assertThat(isRead(newest)).isTrue();
+        assertThat(isRead(reopened)).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 읽음 - 커서가 없으면 읽지 않은 알림을 모두 읽음 처리한다")
+    void markAllAsRead_withoutCursor_marksEverything() {
+        Long a = notify(senders.get(0));
+        Long b = notify(senders.get(1));
+
+        assertThat(notificationService.markAllAsRead(receiver.getId(), null)).isEqualTo(2);
+        assertThat(isRead(a)).isTrue();
+        assertThat(isRead(b)).isTrue();
+    }
+
+    @Test
+    @DisplayName("피드 - 활동 시각이 비어 있는 이전 알림은 생성 시각으로 표시하고 커서를 만든다")
+    void feed_nullActivity_fallsBackToCreatedAt() {
+        Long legacy = notify(senders.get(0));
+        jdbcTemplate.update("UPDATE notifications SET last_activity_at = NULL, created_at = ? WHERE id = ?",
+                Timestamp.valueOf(BASE), legacy);
+        Long recent = notify(senders.get(1));
+        setActivity(recent, BASE.plusMinutes(1));
+
+        NotificationFeedResponse first = notificationService.getFeed(receiver.getId(), null, 1);
+        assertThat(first.getItems()).extracting(NotificationFeedResponse.NotificationItem::getId).containsExactly(recent);
+
+        NotificationFeedResponse all = notificationService.getFeed(receiver.getId(), null, 10);
+        NotificationFeedResponse.NotificationItem item = all.getItems().stream()
+                .filter(i -> i.getId().equals(legacy)).findFirst().orElseThrow();
+        assertThat(item.getLastActivityAt()).isEqualTo("2025-01-01T12:00:00");
+    }
+
+    private List<Long> readAllPages(int limit) {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            NotificationFeedResponse page = notificationService.getFeed(receiver.getId(), cursor, limit);
+            page.getItems().forEach(i -> seen.add(i.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+
+    private Long notify(User sender) {
+        return notificationRepository.save(Notification.builder()
+                .user(receiver).type(NotificationType.LIKE).message("좋아요 알림")
+                .senderName(sender.getName()).senderId(sender.getId()).build()).getId();
+    }
+
+    private void setActivity(Long id, LocalDateTime at) {
+        jdbcTemplate.update("UPDATE notifications SET last_activity_at = ? WHERE id = ?", Timestamp.valueOf(at), id);
+    }
+
+    private boolean isRead(Long id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT is_read FROM notifications WHERE id = ?", Boolean.class, id));
+    }
+
+    private User newUser(String name) {
+        String email = UUID.randomUUID().toString().substring(0, 8) + "@university.ac.kr";
+        return userRepository.save(new User(name, email, "password", Gender.MALE, LocalDate.of(2000, 1, 1), "서울대학교"));
+    }
+}
@@ -0,0 +1,165 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.notification.entity.Notification;
+import com.unimate.domain.notification.entity.NotificationType;
+import com.unimate.domain.notification.repository.NotificationRepository;
+import com.unimate.domain.user.user.entity.Gender;
+import com.unimate.domain.user.user.entity.User;
+import com.unimate.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 보관 기간 정리 (H2)
+ * - chunk-size=2 → 읽은 지난 알림 5건이 3개 묶음으로 나뉨
+ * - 다른 테스트의 알림과 섞이지 않도록 대상 행의 시각을 2020년으로 내리고 그 직후를 기준 시각으로 사용
+ */
+@SpringBootTest(properties = {
+        "notification.retention.chunk-size=2",
+        "notification.retention.archive.enabled=true",
+        "notification.unread.redis.enabled=false"
+})
+@ActiveProfiles("test")
+class NotificationRetentionJobTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2020, 6, 1, 0, 0);
+
+    @Autowired
+    private NotificationRetentionJob retentionJob;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User receiver;
+    private final List<User> senders = new ArrayList<>();
+    private final List<Long> expired = new ArrayList<>();
+    private Long oldUnread;
+    private Long recentRead;
+
+    @BeforeEach
+    void setUp() {
+        receiver = newUser("수신자");
+        for (int i = 0; i < 7; i++) {
+            senders.add(newUser("발신자" + i));
+        }
+        for (int i = 0; i < 5; i++) {
+            Long id = notify(senders.get(i));
+            age(id, true, OLD);
+            expired.add(id);
+        }
+        oldUnread = notify(senders.get(5));
+        age(oldUnread, false, OLD);
+        recentRead = notify(senders.get(6));
+        age(recentRead, true, CUTOFF.plusDays(1));
+    }
+
+    @AfterEach
+    void cleanup() {
+        ReflectionTestUtils.setField(retentionJob, "maxChunksPerRun", 500);
+        jdbcTemplate.update("DELETE FROM notifications_archive WHERE user_id = ?", receiver.getId());
+        jdbcTemplate.update("DELETE FROM notifications WHERE user_id = ?", receiver.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", receiver.getId());
+        senders.forEach(s -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", s.getId()));
+    }
+
+    @Test
+    @DisplayName("정리 - 읽은 지난 알림만 묶음 단위로 보관 테이블에 옮기고 지운다")
+    void purge_archivesThenDeletesExpiredReadRows() {
+        long purged = retentionJob.purgeReadOlderThan(CUTOFF);
+
+        assertThat(purged).isEqualTo(5);
+        assertThat(retentionJob.getLastPurged()).isEqualTo(5);
+        assertThat(notificationRepository.findAllById(expired)).isEmpty();
+        assertThat(archivedIds()).containsExactlyElementsOf(expired);
+        // 읽지 않은 알림과 기준 이후에 읽은 알림은 유지
+        assertThat(notificationRepository.existsById(oldUnread)).isTrue();
+        assertThat(notificationRepository.existsById(recentRead)).isTrue();
+
+        // 옮길 것이 없으면 바로 끝남
+        assertThat(retentionJob.purgeReadOlderThan(CUTOFF)).isZero();
+    }
+
+    @Test
+    @DisplayName("정리 - 한 번 실행의 묶음 수 상한에 도달하면 멈추고 나머지는 다음 실행에서 처리한다")
+    void purge_stopsAtMaxChunksPerRun() {
+        ReflectionTestUtils.setField(retentionJob, "maxChunksPerRun", 2);
+
+        assertThat(retentionJob.purgeReadOlderThan(CUTOFF)).isEqualTo(4);
+        assertThat(notificationRepository.existsById(expired.get(4))).isTrue();
+
+        assertThat(retentionJob.purgeReadOlderThan(CUTOFF)).isEqualTo(1);
+        assertThat(archivedIds()).containsExactlyElementsOf(expired);
+    }
+
+    @Test
+    @DisplayName("정리 - 보관 복사가 실패한 묶음은 삭제도 롤백되고 이후 묶음은 진행하지 않는다")
+    void purge_archiveFailure_keepsRowsInPlace() {
+        // 두 번째 묶음의 첫 행과 같은 id 가 보관 테이블에 이미 있으면 복사가 PK 충돌로 실패
+        jdbcTemplate.update("""
+                INSERT INTO notifications_archive (id, user_id, type, message, aggregate_count, created_at, archived_at)
+                VALUES (?, ?, 'LIKE', '이미 보관됨', 1, ?, ?)
+                """, expired.get(2), receiver.getId(), Timestamp.valueOf(OLD), Timestamp.valueOf(OLD));
+
+        long purged = retentionJob.purgeReadOlderThan(CUTOFF);
+
+        assertThat(purged).isEqualTo(2);
+        assertThat(notificationRepository.findAllById(expired.subList(0, 2))).isEmpty();
+        assertThat(notificationRepository.findAllById(expired.subList(2, 5))).hasSize(3);
+        assertThat(archivedIds()).containsExactly(expired.get(0), expired.get(1), expired.get(2));
+    }
+
+    @Test
+    @DisplayName("정리 - 되살아나 다시 읽지 않은 상태가 된 알림은 보관/삭제하지 않는다")
+    void purge_skipsReopenedRows() {
+        jdbcTemplate.update("UPDATE notifications SET is_read = FALSE WHERE id = ?", expired.get(4));
+
+        assertThat(retentionJob.purgeReadOlderThan(CUTOFF)).isEqualTo(4);
+        assertThat(notificationRepository.existsById(expired.get(4))).isTrue();
+        assertThat(archivedIds()).doesNotContain(expired.get(4));
+    }
+
+    private List<Long> archivedIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM notifications_archive WHERE user_id = ? ORDER BY id",
+                Long.class, receiver.getId());
+    }
+
+    private Long notify(User sender) {
+        return notificationRepository.save(Notification.builder()
+                .user(receiver).type(NotificationType.LIKE).message("좋아요 알림")
+                .senderName(sender.getName()).senderId(sender.getId()).build()).getId();
+    }
+
+    private void age(Long id, boolean read, LocalDateTime at) {
+        Timestamp ts = Timestamp.valueOf(at);
+        jdbcTemplate.update("UPDATE notifications SET is_read = ?, created_at = ?, updated_at = ? WHERE id = ?",
+                read, ts, ts, id);
+    }
+
+    private User newUser(String name) {
+        String email = UUID.randomUUID().toString().substring(0, 8) + "@university.ac.kr";
+        return userRepository.save(new User(name, email, "password", Gender.MALE, LocalDate.of(2000, 1, 1), "서울대학교"));
+    }
+}
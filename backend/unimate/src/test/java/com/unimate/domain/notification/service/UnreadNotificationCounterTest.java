@@ -0,0 +1,201 @@
+package com.unimate.domain.notification.service;
+
+import com.unimate.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 읽지 않은 알림 수 카운터
+ * - Redis 는 임베디드 서버, DB 개수는 저장소 목으로 대체
+ * - 트랜잭션 동기화는 TransactionSynchronizationManager 를 직접 초기화해 커밋/롤백을 흉내 냄
+ */
+class UnreadNotificationCounterTest {
+
+    private static final Long USER_ID = 42L;
+    private static final String KEY = "notif:unread:" + USER_ID;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private UnreadNotificationCounter counter;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (connectionFactory != null) connectionFactory.destroy();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        counter = newCounter(redisTemplate);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("증감 - 캐시된 값에 더하고 빼며 0 아래로는 내려가지 않는다")
+    void adjust_appliesDelta_andFloorsAtZero() {
+        redisTemplate.opsForValue().set(KEY, "2");
+
+        counter.adjust(USER_ID, 3);
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("5");
+
+        counter.adjust(USER_ID, -9);
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("0");
+        assertThat(lastPushedCount()).isEqualTo(0L);
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+        verify(notificationRepository, never()).countByUser_IdAndIsReadFalse(USER_ID);
+    }
+
+    @Test
+    @DisplayName("증감 - 키가 없으면 만들지 않고, 푸시할 값은 DB 에서 세어 적재한다")
+    void adjust_withoutKey_loadsFromDb() {
+        when(notificationRepository.countByUser_IdAndIsReadFalse(USER_ID)).thenReturn(7L);
+
+        counter.adjust(USER_ID, 1);
+
+        // 증감 스크립트는 키를 만들지 않음 → 이어진 조회가 DB 값(이미 반영된 개수)으로 적재
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("7");
+        assertThat(lastPushedCount()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 - 커밋 이후에만 반영하고 롤백이면 반영하지 않는다")
+    void adjust_insideTransaction_appliesOnlyAfterCommit() {
+        redisTemplate.opsForValue().set(KEY, "1");
+        Runnable then = mock(Runnable.class);
+
+        TransactionSynchronizationManager.initSynchronization();
+        counter.adjust(USER_ID, 1, then);
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("1");
+        verify(then, never()).run();
+        verify(messagingTemplate, never()).convertAndSendToUser(any(), any(), any());
+
+        List<TransactionSynchronization> committed = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        committed.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("2");
+        verify(then).run();
+
+        // 롤백: afterCommit 없이 완료만 호출됨
+        TransactionSynchronizationManager.initSynchronization();
+        counter.adjust(USER_ID, 1);
+        List<TransactionSynchronization> rolledBack = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        rolledBack.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("보정 - 변경된 사용자의 캐시를 DB 개수로 덮어쓰고 touched 세트를 비운다")
+    void reconcile_correctsDrift() {
+        redisTemplate.opsForValue().set(KEY, "3");
+        counter.adjust(USER_ID, 2);
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("5");
+        when(notificationRepository.countByUser_IdAndIsReadFalse(USER_ID)).thenReturn(4L);
+
+        counter.reconcile();
+
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("4");
+        assertThat(redisTemplate.opsForSet().size("notif:unread:touched")).isZero();
+        assertThat(counter.get(USER_ID)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 조회는 DB 개수로 대체하고 증감은 예외 없이 DB 개수를 푸시한다")
+    void redisUnavailable_fallsBackToDb() throws Exception {
+        int deadPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            deadPort = socket.getLocalPort();
+        }
+        LettuceConnectionFactory dead = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", deadPort),
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(200)).build());
+        dead.afterPropertiesSet();
+        try {
+            UnreadNotificationCounter offline = newCounter(new StringRedisTemplate(dead));
+            when(notificationRepository.countByUser_IdAndIsReadFalse(USER_ID)).thenReturn(6L);
+
+            assertThat(offline.get(USER_ID)).isEqualTo(6L);
+            offline.adjust(USER_ID, -1);
+            offline.reconcile();
+
+            assertThat(lastPushedCount()).isEqualTo(6L);
+        } finally {
+            dead.destroy();
+        }
+    }
+
+    private UnreadNotificationCounter newCounter(StringRedisTemplate template) {
+        UnreadNotificationCounter c = new UnreadNotificationCounter(
+                notificationRepository, template, messagingTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(c, "redisEnabled", true);
+        ReflectionTestUtils.setField(c, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(c, "reconcileBatchSize", 100);
+        return c;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long lastPushedCount() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, atLeastOnce())
+                .convertAndSendToUser(eq(USER_ID.toString()), eq("/queue/notifications"), payload.capture());
+        return ((Number) ((Map<String, Object>) payload.getValue()).get("unreadCount")).longValue();
+    }
+}
@@ -0,0 +1,110 @@
+package com.unimate.domain.report.service;
+
+import com.unimate.domain.report.entity.Report;
+import com.unimate.domain.report.entity.ReportStatus;
+import com.unimate.domain.report.repository.ReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색어 없는 신고 목록 - 상태별 건수는 집계 테이블, 페이지는 항상 report 에서 조회
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReportSearchServiceTest {
+
+    private static final Sort NEWEST = Sort.by(Sort.Direction.DESC, "id");
+
+    @Autowired
+    private ReportSearchService reportSearchService;
+
+    @Autowired
+    private ReportStatsService reportStatsService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> reportIds = new ArrayList<>();
+    private Long resolvedId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            reportIds.add(save(ReportStatus.RECEIVED));
+        }
+        resolvedId = save(ReportStatus.RESOLVED);
+        reportIds.add(resolvedId);
+        reportStatsService.rebuild();
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAllById(reportIds);
+        reportStatsService.rebuild();
+    }
+
+    @Test
+    @DisplayName("집계가 비어 있어도 페이지를 조회하고, 마지막 페이지면 전체 건수를 조회 결과로 맞춘다")
+    void emptyStats_stillReturnsPage() {
+        jdbcTemplate.update("DELETE FROM report_daily_stat");
+
+        ReportSearchService.SearchResult result = reportSearchService.search(null, null, PageRequest.of(0, 1000, NEWEST));
+
+        assertThat(result.reports()).extracting(Report::getId)
+                .startsWith(reportIds.get(3), reportIds.get(2), reportIds.get(1), reportIds.get(0));
+        assertThat(result.total()).isEqualTo(countReports());
+        // 헤더 건수는 집계 테이블 값 그대로
+        assertThat(result.statusCounts().values()).allMatch(count -> count == 0L);
+    }
+
+    @Test
+    @DisplayName("집계가 실제보다 적으면 중간 페이지에서도 전체 건수를 조회한 범위 이상으로 올린다")
+    void staleStats_totalCoversFetchedRange() {
+        jdbcTemplate.update("DELETE FROM report_daily_stat");
+
+        ReportSearchService.SearchResult result = reportSearchService.search(null, null, PageRequest.of(0, 2, NEWEST));
+
+        assertThat(result.reports()).extracting(Report::getId).containsExactly(reportIds.get(3), reportIds.get(2));
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상태 필터 - 집계와 맞으면 헤더 건수와 전체 건수가 일치한다")
+    void statusFilter_usesStatsForCounts() {
+        ReportSearchService.SearchResult result = reportSearchService.search(ReportStatus.RESOLVED, null, PageRequest.of(0, 1000, NEWEST));
+
+        assertThat(result.reports()).extracting(Report::getId).contains(resolvedId);
+        assertThat(result.reports()).allMatch(r -> r.getReportStatus() == ReportStatus.RESOLVED);
+        assertThat(result.total()).isEqualTo(result.statusCounts().get(ReportStatus.RESOLVED));
+        assertThat(result.total()).isEqualTo(result.reports().size());
+    }
+
+    private Long save(ReportStatus status) {
+        return reportRepository.save(Report.builder()
+                .category("욕설")
+                .content("목록 테스트 신고")
+                .reportStatus(status)
+                .build()).getId();
+    }
+
+    private long countReports() {
+        Long n = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM report", Long.class);
+        return n != null ? n : 0;
+    }
+}
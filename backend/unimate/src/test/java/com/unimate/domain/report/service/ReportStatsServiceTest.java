@@ -0,0 +1,194 @@
+package com.unimate.domain.report.service;
+
+import com.unimate.domain.report.entity.Report;
+import com.unimate.domain.report.entity.ReportStatus;
+import com.unimate.domain.report.repository.ReportRepository;
+import com.unimate.domain.user.user.entity.Gender;
+import com.unimate.domain.user.user.entity.User;
+import com.unimate.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 신고 집계 - 변경분 기록/반영과 재계산 교체
+ * - 반영 주기는 길게 두고 fold/rebuild 를 직접 호출, 기대값은 매번 report 를 직접 세어 비교
+ * - 캐시된 다른 테스트 컨텍스트의 반영 주기가 끼어들 수 있으므로 반영 전 중간 상태는 검사하지 않음
+ */
+@SpringBootTest(properties = "report.stats.fold-interval-ms=3600000")
+@ActiveProfiles("test")
+class ReportStatsServiceTest {
+
+    @Autowired
+    private ReportStatsService reportStatsService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User reported;
+    private final List<Long> reportIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        reported = userRepository.save(new User("피신고자", UUID.randomUUID().toString().substring(0, 8) + "@university.ac.kr",
+                "password", Gender.FEMALE, LocalDate.of(2001, 3, 1), "서울대학교"));
+        reportStatsService.rebuild();
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAllById(reportIds);
+        userRepository.deleteById(reported.getId());
+        reportStatsService.rebuild();
+    }
+
+    @Test
+    @DisplayName("변경분 - 신고 트랜잭션에 쌓였다가 반영 시 버킷별로 합쳐진다")
+    void recordedDeltas_areFoldedIntoStats() {
+        Long first = create(ReportStatus.RECEIVED);
+        create(ReportStatus.RECEIVED);
+
+        reportStatsService.fold();
+        assertThat(deltaCount()).isZero();
+        assertThat(reportStatsService.statusCounts()).isEqualTo(actualCounts());
+        assertThat(userStat()).containsExactly(2L, 2L);
+
+        changeStatus(first, ReportStatus.RESOLVED);
+        reportStatsService.fold();
+        assertThat(reportStatsService.statusCounts()).isEqualTo(actualCounts());
+        assertThat(userStat()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("변경분 - 롤백된 신고는 변경분도 함께 사라진다")
+    void rolledBackReport_leavesNoDelta() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Report report = reportRepository.save(newReport(ReportStatus.RECEIVED));
+            reportStatsService.recordCreated(report);
+            status.setRollbackOnly();
+        });
+
+        assertThat(deltaCount()).isZero();
+        reportStatsService.fold();
+        assertThat(reportStatsService.statusCounts()).isEqualTo(actualCounts());
+    }
+
+    @Test
+    @DisplayName("재계산 - 이미 집계에 포함된 변경분을 지워 반영 시 두 번 세지 않는다")
+    void rebuild_consumesIncludedDeltas() {
+        create(ReportStatus.RECEIVED);
+        create(ReportStatus.IN_PROGRESS);
+
+        reportStatsService.rebuild();
+        assertThat(deltaCount()).isZero();
+
+        reportStatsService.fold();
+        assertThat(reportStatsService.statusCounts()).isEqualTo(actualCounts());
+        assertThat(userStat()).containsExactly(2L, 2L);
+    }
+
+    @Test
+    @DisplayName("재계산 - 이후에 커밋된 변경분은 남아 다음 반영에서 더해진다")
+    void deltasAfterRebuild_areFoldedLater() {
+        create(ReportStatus.RECEIVED);
+        reportStatsService.rebuild();
+
+        Long later = create(ReportStatus.RECEIVED);
+        changeStatus(later, ReportStatus.REJECTED);
+
+        reportStatsService.fold();
+        assertThat(reportStatsService.statusCounts()).isEqualTo(actualCounts());
+        assertThat(userStat()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("재계산 - 어긋난 집계를 report 기준으로 되돌린다")
+    void rebuild_correctsDrift() {
+        create(ReportStatus.RECEIVED);
+        reportStatsService.fold();
+        jdbcTemplate.update("UPDATE report_daily_stat SET report_count = report_count + 5");
+        jdbcTemplate.update("UPDATE report_user_stat SET pending_count = 9 WHERE user_id = ?", reported.getId());
+
+        reportStatsService.rebuild();
+
+        assertThat(reportStatsService.statusCounts()).isEqualTo(actualCounts());
+        assertThat(userStat()).containsExactly(1L, 1L);
+    }
+
+    // 신고 저장과 변경분 기록을 한 트랜잭션으로 (ReportService 와 같은 흐름)
+    private Long create(ReportStatus status) {
+        Long id = transactionTemplate.execute(tx -> {
+            Report report = reportRepository.save(newReport(status));
+            reportStatsService.recordCreated(report);
+            return report.getId();
+        });
+        reportIds.add(id);
+        return id;
+    }
+
+    private void changeStatus(Long reportId, ReportStatus to) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            Report report = reportRepository.findById(reportId).orElseThrow();
+            ReportStatus before = report.getReportStatus();
+            report.updateStatus(to);
+            reportStatsService.recordStatusChange(report, before);
+        });
+    }
+
+    private Report newReport(ReportStatus status) {
+        return Report.builder()
+                .reported(reported)
+                .category("욕설")
+                .content("집계 테스트 신고")
+                .reportStatus(status)
+                .build();
+    }
+
+    private Map<ReportStatus, Long> actualCounts() {
+        Map<ReportStatus, Long> counts = new EnumMap<>(ReportStatus.class);
+        for (ReportStatus s : ReportStatus.values()) counts.put(s, 0L);
+        jdbcTemplate.query("SELECT report_status, COUNT(*) FROM report WHERE report_status IS NOT NULL GROUP BY report_status",
+                rs -> {
+                    counts.put(ReportStatus.valueOf(rs.getString(1)), rs.getLong(2));
+                });
+        return counts;
+    }
+
+    // {누적, 미처리}
+    private List<Long> userStat() {
+        return jdbcTemplate.query("SELECT report_count, pending_count FROM report_user_stat WHERE user_id = ?",
+                        (rs, i) -> List.of(rs.getLong(1), rs.getLong(2)), reported.getId())
+                .stream().findFirst().orElse(List.of());
+    }
+
+    // 다른 테스트가 남긴 변경분과 섞이지 않게 이 테스트의 피신고자 기준으로 셈
+    private int deltaCount() {
+        Integer n = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM report_stat_delta WHERE reported_id = ?",
+                Integer.class, reported.getId());
+        return n != null ? n : 0;
+    }
+}
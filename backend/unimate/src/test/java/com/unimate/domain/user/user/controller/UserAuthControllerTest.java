@@ -5,8 +5,7 @@ import com.unimate.domain.user.user.dto.UserLoginRequest;
 import com.unimate.domain.user.user.dto.UserSignupRequest;
 import com.unimate.domain.user.user.entity.Gender;
 import com.unimate.domain.user.user.repository.UserRepository;
-import com.unimate.domain.verification.entity.Verification;
-import com.unimate.domain.verification.repository.VerificationRepository;
+import com.unimate.domain.verification.service.VerificationCodeStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,7 +24,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+// 테스트마다 같은 이메일로 인증코드를 요청하므로 요청 제한은 끔
+@SpringBootTest(properties = "ratelimit.enabled=false")
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
 @Transactional
@@ -38,7 +38,7 @@ class UserAuthControllerTest {
     private ObjectMapper objectMapper;
 
     @Autowired
-    private VerificationRepository verificationRepository;
+    private VerificationCodeStore verificationCodeStore;
 
     @Autowired
     private UserRepository userRepository;
@@ -57,16 +57,18 @@ class UserAuthControllerTest {
                 .andExpect(jsonPath("$.message").value("인증코드가 발송되었습니다."));
 
         // 인증 코드 확인
-        Verification v = verificationRepository.findByEmail(testEmail)
+        String code = verificationCodeStore.find(testEmail)
+                .map(VerificationCodeStore.Entry::code)
                 .orElseThrow(() -> new IllegalStateException("인증 요청이 저장되지 않았습니다."));
 
         mockMvc.perform(post(baseUrl + "/email/verify")
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content("{\"email\":\"" + testEmail + "\", \"code\":\"" + v.getCode() + "\"}"))
+                        .content("{\"email\":\"" + testEmail + "\", \"code\":\"" + code + "\"}"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("이메일 인증이 완료되었습니다."));
 
-        assertThat(v.isVerified()).isTrue();
+        assertThat(verificationCodeStore.find(testEmail))
+                .hasValueSatisfying(entry -> assertThat(entry.verified()).isTrue());
 
         // 회원가입
         UserSignupRequest signupRequest = new UserSignupRequest(
@@ -171,6 +173,37 @@ class UserAuthControllerTest {
                 .andExpect(jsonPath("$.accessToken").exists());
     }
 
+    @Test
+    @DisplayName("재발급 시 RefreshToken 쿠키가 회전되고, 이전 RefreshToken 은 다시 쓸 수 없다")
+    void refreshToken_rotatesCookie_andRejectsReuse() throws Exception {
+        UserLoginRequest loginRequest = new UserLoginRequest(testEmail, testPassword);
+
+        String refreshToken = mockMvc.perform(post(baseUrl + "/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getCookie("refreshToken")
+                .getValue();
+
+        var rotated = mockMvc.perform(post(baseUrl + "/auth/token/refresh")
+                        .cookie(new MockCookie("refreshToken", refreshToken)))
+                .andExpect(status().isOk())
+                .andExpect(cookie().httpOnly("refreshToken", true))
+                .andReturn()
+                .getResponse()
+                .getCookie("refreshToken");
+
+        assertThat(rotated).isNotNull();
+        assertThat(rotated.getValue()).isNotBlank().isNotEqualTo(refreshToken);
+
+        // 회전된(이전) 토큰 재사용 → 401
+        mockMvc.perform(post(baseUrl + "/auth/token/refresh")
+                        .cookie(new MockCookie("refreshToken", refreshToken)))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @DisplayName("RefreshToken이 유효하지 않으면 재발급 실패")
     void refresh_fail_invalidToken() throws Exception {
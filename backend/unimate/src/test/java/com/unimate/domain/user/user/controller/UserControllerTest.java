@@ -6,8 +6,7 @@ import com.unimate.domain.user.user.dto.UserUpdateNameRequest;
 import com.unimate.domain.user.user.entity.Gender;
 import com.unimate.domain.user.user.entity.User;
 import com.unimate.domain.user.user.repository.UserRepository;
-import com.unimate.domain.verification.entity.Verification;
-import com.unimate.domain.verification.repository.VerificationRepository;
+import com.unimate.domain.verification.service.VerificationCodeStore;
 import com.unimate.global.jwt.JwtProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,8 +20,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -47,7 +46,7 @@ class UserControllerTest {
     private UserRepository userRepository;
 
     @Autowired
-    private VerificationRepository verificationRepository;
+    private VerificationCodeStore verificationCodeStore;
 
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
@@ -108,9 +107,8 @@ class UserControllerTest {
         String newEmail = "newtest@uni.ac.kr";
         String code = "123456";
 
-        Verification verification = new Verification(newEmail, code, LocalDateTime.now().plusMinutes(5));
-        verification.markVerified();
-        verificationRepository.save(verification);
+        verificationCodeStore.save(newEmail, code, Duration.ofMinutes(5));
+        verificationCodeStore.verify(newEmail, code);
 
         UserUpdateEmailRequest request = new UserUpdateEmailRequest();
         var emailField = UserUpdateEmailRequest.class.getDeclaredField("newEmail");
@@ -136,8 +134,7 @@ class UserControllerTest {
     void updateUserEmail_fail_unverified() throws Exception {
         String newEmail = "failtest@uni.ac.kr";
 
-        Verification verification = new Verification(newEmail, "000000", LocalDateTime.now().plusMinutes(5));
-        verificationRepository.save(verification);
+        verificationCodeStore.save(newEmail, "000000", Duration.ofMinutes(5));
 
         UserUpdateEmailRequest request = new UserUpdateEmailRequest();
         var emailField = UserUpdateEmailRequest.class.getDeclaredField("newEmail");
@@ -0,0 +1,275 @@
+package com.unimate.domain.user.user.service;
+
+import com.unimate.domain.chatroom.entity.Chatroom;
+import com.unimate.domain.chatroom.repository.ChatroomRepository;
+import com.unimate.domain.match.entity.Match;
+import com.unimate.domain.match.entity.MatchStatus;
+import com.unimate.domain.match.entity.MatchType;
+import com.unimate.domain.match.repository.MatchRepository;
+import com.unimate.domain.match.service.MatchCacheService;
+import com.unimate.domain.notification.entity.Notification;
+import com.unimate.domain.notification.entity.NotificationType;
+import com.unimate.domain.notification.repository.NotificationRepository;
+import com.unimate.domain.report.entity.Report;
+import com.unimate.domain.report.repository.ReportRepository;
+import com.unimate.domain.user.user.dto.UserLoginRequest;
+import com.unimate.domain.user.user.entity.AccountDeactivation;
+import com.unimate.domain.user.user.entity.Gender;
+import com.unimate.domain.user.user.entity.User;
+import com.unimate.domain.user.user.repository.AccountDeactivationRepository;
+import com.unimate.domain.user.user.repository.UserRepository;
+import com.unimate.global.auth.model.SubjectType;
+import com.unimate.global.auth.service.TokenService;
+import com.unimate.global.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 계정 강제 탈퇴 작업 (H2)
+ * - chunk-size=2 → 신고/매칭/알림/채팅방이 여러 묶음으로 나뉘어 처리됨
+ * - 재개 주기는 길게 두고 resumeStalled 를 직접 호출, 워커 스레드 완료는 상태를 폴링해 기다림
+ */
+@SpringBootTest(properties = {
+        "account.deactivation.chunk-size=2",
+        "account.deactivation.retry-delay-ms=0",
+        "account.deactivation.stale-ms=60000",
+        "account.deactivation.resume-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class AccountDeactivationServiceTest {
+
+    @Autowired
+    private AccountDeactivationService deactivationService;
+
+    @Autowired
+    private AccountDeactivationRepository deactivationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ChatroomRepository chatroomRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserAuthService userAuthService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @MockitoBean
+    private MatchCacheService matchCacheService;
+
+    private User target;
+    private final List<User> others = new ArrayList<>();
+    private final List<Long> reportIds = new ArrayList<>();
+    private final List<Long> chatroomIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        target = newUser("탈퇴대상");
+        for (int i = 0; i < 3; i++) {
+            others.add(newUser("상대" + i));
+        }
+
+        // 신고 5건 (보낸 3 + 받은 2), 매칭 5건 (보낸 3 + 받은 2), 알림 3건, 채팅방 3개 (user1 2 + user2 1)
+        for (User other : others) {
+            reportIds.add(reportRepository.save(Report.builder()
+                    .reporter(target).reported(other).category("욕설").content("신고 내용").build()).getId());
+            matchRepository.save(Match.builder()
+                    .sender(target).receiver(other).matchType(MatchType.LIKE).matchStatus(MatchStatus.PENDING).build());
+            notificationRepository.save(Notification.builder()
+                    .user(target).type(NotificationType.LIKE).message("좋아요 알림")
+                    .senderName(other.getName()).senderId(other.getId()).build());
+        }
+        for (int i = 0; i < 2; i++) {
+            reportIds.add(reportRepository.save(Report.builder()
+                    .reporter(others.get(i)).reported(target).category("사기").content("신고 내용").build()).getId());
+            matchRepository.save(Match.builder()
+                    .sender(others.get(i)).receiver(target).matchType(MatchType.LIKE).matchStatus(MatchStatus.PENDING).build());
+            chatroomIds.add(chatroomRepository.save(Chatroom.create(target.getId(), others.get(i).getId())).getId());
+        }
+        chatroomIds.add(chatroomRepository.save(Chatroom.create(others.get(2).getId(), target.getId())).getId());
+    }
+
+    @AfterEach
+    void cleanup() {
+        List<Long> userIds = new ArrayList<>(others.stream().map(User::getId).toList());
+        userIds.add(target.getId());
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM account_deactivation WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM notifications WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM matches WHERE sender_id = ? OR receiver_id = ?", userId, userId);
+            jdbcTemplate.update("DELETE FROM report_user_stat WHERE user_id = ?", userId);
+        }
+        reportIds.forEach(reportRepository::deleteById);
+        chatroomIds.forEach(chatroomRepository::deleteById);
+        userIds.forEach(id -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", id));
+    }
+
+    @Test
+    @DisplayName("탈퇴 작업 - 연관 데이터를 묶음 단위로 정리하고 마지막에 사용자 행을 지운다")
+    void request_cleansUpInChunks_thenDeletesUser() throws Exception {
+        AccountDeactivation job = deactivationService.request(target.getId(), null);
+
+        AccountDeactivation done = awaitStatus(job.getId(), AccountDeactivation.Status.COMPLETED);
+
+        assertCleanedUp();
+        assertThat(done.getStep()).isEqualTo(AccountDeactivation.Step.USER);
+        assertThat(done.getAttempts()).isEqualTo(1);
+        // 신고 5 + 매칭 5 + 알림 3 + 채팅방 3 + 사용자 1
+        assertThat(done.getAffectedRows()).isEqualTo(17);
+        assertThat(done.getFinishedAt()).isNotNull();
+        // 신고 기록은 남음
+        assertThat(reportRepository.findAllById(reportIds)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("단계 실패 - PENDING 으로 돌아가고 재개 시 처음 단계부터 다시 실행한다")
+    void failedStep_retriesFromFirstStep() throws Exception {
+        doThrow(new IllegalStateException("캐시 서버 응답 없음"))
+                .doNothing()
+                .when(matchCacheService).evictUserProfileCache(target.getId());
+
+        AccountDeactivation job = deactivationService.request(target.getId(), null);
+        AccountDeactivation failed = awaitStatus(job.getId(), AccountDeactivation.Status.PENDING, 1);
+
+        assertThat(failed.getStep()).isEqualTo(AccountDeactivation.Step.PROFILE);
+        assertThat(failed.getLastError()).contains("캐시 서버 응답 없음");
+        assertThat(userRepository.existsById(target.getId())).isTrue();
+
+        // 첫 시도 이후 생긴 행도 재시도가 처음 단계부터 돌면서 함께 정리
+        notificationRepository.save(Notification.builder()
+                .user(target).type(NotificationType.MATCH).message("매칭 알림")
+                .senderName(others.get(0).getName()).senderId(others.get(0).getId()).build());
+        Thread.sleep(10);
+
+        deactivationService.resumeStalled();
+        AccountDeactivation done = awaitStatus(job.getId(), AccountDeactivation.Status.COMPLETED);
+
+        assertCleanedUp();
+        assertThat(done.getAttempts()).isEqualTo(2);
+        assertThat(done.getLastError()).isNull();
+    }
+
+    @Test
+    @DisplayName("멈춘 작업 - 진행 갱신이 stale-ms 넘게 없는 RUNNING 작업만 다시 집어 완료한다")
+    void staleRunningJob_isReclaimed() throws Exception {
+        AccountDeactivation stale = deactivationRepository.save(new AccountDeactivation(target.getId(), null));
+        markRunning(stale.getId(), AccountDeactivation.Step.MATCHES, LocalDateTime.now().minusMinutes(10));
+        // 다른 인스턴스가 방금 진행을 갱신한 작업은 건드리지 않음
+        AccountDeactivation live = deactivationRepository.save(new AccountDeactivation(others.get(2).getId(), null));
+        markRunning(live.getId(), AccountDeactivation.Step.REPORTS, LocalDateTime.now());
+
+        deactivationService.resumeStalled();
+        AccountDeactivation done = awaitStatus(stale.getId(), AccountDeactivation.Status.COMPLETED);
+
+        assertCleanedUp();
+        assertThat(done.getAttempts()).isEqualTo(2);
+        AccountDeactivation untouched = deactivationRepository.findById(live.getId()).orElseThrow();
+        assertThat(untouched.getStatus()).isEqualTo(AccountDeactivation.Status.RUNNING);
+        assertThat(untouched.getAttempts()).isEqualTo(1);
+        assertThat(userRepository.existsById(others.get(2).getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("탈퇴 요청 이후 - 정리 작업이 끝나기 전에도 로그인은 403 으로 거부된다")
+    void login_rejectedOnceJobIsRegistered() {
+        // 워커에 넘기지 않고 작업 행만 저장 (재개 주기는 한 시간)
+        deactivationRepository.save(new AccountDeactivation(target.getId(), null));
+
+        assertThatThrownBy(() -> userAuthService.login(new UserLoginRequest(target.getEmail(), "password")))
+                .isInstanceOf(ServiceException.class)
+                .extracting("status").isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(userRepository.existsById(target.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("탈퇴 완료 - 남아 있던 리프레시 토큰은 폐기된다")
+    void completedJob_revokesRefreshTokens() throws Exception {
+        tokenService.issueTokens(SubjectType.USER, target.getId(), target.getEmail());
+
+        AccountDeactivation job = deactivationService.request(target.getId(), null);
+        awaitStatus(job.getId(), AccountDeactivation.Status.COMPLETED);
+
+        assertThat(count("SELECT COUNT(*) FROM refresh_token WHERE subject_type = 'USER' AND subject_id = ?",
+                target.getId())).isZero();
+    }
+
+    private void assertCleanedUp() {
+        Long id = target.getId();
+        assertThat(userRepository.existsById(id)).isFalse();
+        assertThat(count("SELECT COUNT(*) FROM report WHERE reporter_id = ? OR reported_id = ?", id, id)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM matches WHERE sender_id = ? OR receiver_id = ?", id, id)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM notifications WHERE user_id = ?", id)).isZero();
+        assertThat(count("""
+                SELECT COUNT(*) FROM chatroom
+                 WHERE (user1_id = ? AND (status <> 'CLOSED' OR user1_status <> 'CLOSED'))
+                    OR (user2_id = ? AND (status <> 'CLOSED' OR user2_status <> 'CLOSED'))
+                """, id, id)).isZero();
+        assertThat(chatroomRepository.findAllById(chatroomIds)).hasSize(3);
+    }
+
+    private void markRunning(Long jobId, AccountDeactivation.Step step, LocalDateTime updatedAt) {
+        jdbcTemplate.update("UPDATE account_deactivation SET status = 'RUNNING', step = ?, attempts = 1, updated_at = ? WHERE id = ?",
+                step.name(), Timestamp.valueOf(updatedAt), jobId);
+    }
+
+    private AccountDeactivation awaitStatus(Long jobId, AccountDeactivation.Status status) throws InterruptedException {
+        return awaitStatus(jobId, status, 0);
+    }
+
+    // 워커 스레드가 끝낼 때까지 대기 (minAttempts: 재시도 대기 상태를 처음 PENDING 과 구분)
+    private AccountDeactivation awaitStatus(Long jobId, AccountDeactivation.Status status, int minAttempts)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        AccountDeactivation job = deactivationRepository.findById(jobId).orElseThrow();
+        while (System.currentTimeMillis() < deadline) {
+            job = deactivationRepository.findById(jobId).orElseThrow();
+            if (job.getStatus() == status && job.getAttempts() >= minAttempts) return job;
+            Thread.sleep(20);
+        }
+        assertThat(job.getStatus()).as("탈퇴 작업 상태").isEqualTo(status);
+        return job;
+    }
+
+    private int count(String sql, Object... args) {
+        Integer n = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return n != null ? n : 0;
+    }
+
+    private User newUser(String name) {
+        String email = UUID.randomUUID().toString().substring(0, 8) + "@university.ac.kr";
+        return userRepository.save(new User(name, email, "password", Gender.MALE, LocalDate.of(2000, 1, 1), "서울대학교"));
+    }
+}
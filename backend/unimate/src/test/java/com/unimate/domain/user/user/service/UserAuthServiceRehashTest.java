@@ -0,0 +1,87 @@
+package com.unimate.domain.user.user.service;
+
+import com.unimate.domain.user.user.dto.UserLoginRequest;
+import com.unimate.domain.user.user.entity.Gender;
+import com.unimate.domain.user.user.entity.User;
+import com.unimate.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 시 재해시 (H2)
+ * - 설정 cost 는 5, 저장된 해시는 cost 4 → 로그인 후 백그라운드로 cost 5 해시가 저장됨
+ * - 저장은 이전 해시가 그대로일 때만 (비밀번호가 그 사이 바뀌었으면 덮어쓰지 않음)
+ */
+@SpringBootTest(properties = {"auth.password.bcrypt-strength=5", "ratelimit.enabled=false"})
+@ActiveProfiles("test")
+class UserAuthServiceRehashTest {
+
+    private static final String RAW = "password123!";
+
+    @Autowired
+    private UserAuthService userAuthService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @AfterEach
+    void cleanup() {
+        if (user != null) {
+            jdbcTemplate.update("DELETE FROM refresh_token WHERE subject_type = 'USER' AND subject_id = ?", user.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("로그인 - cost 가 다른 해시는 새 cost 로 바꿔 저장하고, 낡은 해시 기준의 저장은 무시된다")
+    void login_rehashesWithCompareAndSet() throws Exception {
+        String oldHash = new BCryptPasswordEncoder(4).encode(RAW);
+        user = userRepository.save(new User("재해시", UUID.randomUUID().toString().substring(0, 8) + "@university.ac.kr",
+                oldHash, Gender.FEMALE, LocalDate.of(2000, 1, 1), "서울대학교"));
+
+        userAuthService.login(new UserLoginRequest(user.getEmail(), RAW));
+
+        String newHash = awaitPasswordChange(oldHash);
+        assertThat(newHash).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder(5).matches(RAW, newHash)).isTrue();
+
+        // 같은 이전 해시로 다시 저장을 시도해도 (늦게 끝난 재해시, 그 사이 비밀번호 변경) 현재 값은 유지
+        assertThat(userRepository.updatePasswordHash(user.getId(), oldHash, "$2a$05$stale")).isZero();
+        assertThat(password()).isEqualTo(newHash);
+
+        // 이미 설정 cost 인 해시는 다시 로그인해도 그대로
+        userAuthService.login(new UserLoginRequest(user.getEmail(), RAW));
+        Thread.sleep(200);
+        assertThat(password()).isEqualTo(newHash);
+    }
+
+    private String awaitPasswordChange(String from) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String current = password();
+        while (current.equals(from) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            current = password();
+        }
+        return current;
+    }
+
+    private String password() {
+        return jdbcTemplate.queryForObject("SELECT password FROM users WHERE id = ?", String.class, user.getId());
+    }
+}
@@ -0,0 +1,133 @@
+package com.unimate.domain.verification.service;
+
+import com.unimate.global.exception.ServiceException;
+import com.unimate.global.mail.EmailService;
+import com.unimate.global.ratelimit.TokenBucketRateLimiter;
+import com.unimate.global.util.VerificationCodeGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이메일 인증 요청 제한 (발송: IP·이메일별, 검증: 이메일별)
+ * - 로컬 버킷으로 판정 (Redis 비활성), 보충 속도를 거의 0 으로 두어 시간에 따라 흔들리지 않게 함
+ */
+class VerificationServiceRateLimitTest {
+
+    private static final double NO_REFILL = 0.0001;
+    private static final String IP = "10.0.0.1";
+
+    private VerificationCodeStore codeStore;
+    private EmailService emailService;
+    private VerificationService verificationService;
+
+    @BeforeEach
+    void setUp() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(mock(StringRedisTemplate.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "redisEnabled", false);
+
+        codeStore = mock(VerificationCodeStore.class);
+        emailService = mock(EmailService.class);
+        VerificationCodeGenerator generator = mock(VerificationCodeGenerator.class);
+        when(generator.generate6Digits()).thenReturn("123456");
+        when(codeStore.verify(anyString(), anyString())).thenReturn(VerificationCodeStore.VerifyResult.MISMATCH);
+
+        verificationService = new VerificationService(codeStore, emailService, generator, rateLimiter);
+        ReflectionTestUtils.setField(verificationService, "emailCapacity", 2);
+        ReflectionTestUtils.setField(verificationService, "emailRefillPerMinute", NO_REFILL);
+        ReflectionTestUtils.setField(verificationService, "ipCapacity", 3);
+        ReflectionTestUtils.setField(verificationService, "ipRefillPerMinute", NO_REFILL);
+        ReflectionTestUtils.setField(verificationService, "verifyCapacity", 2);
+        ReflectionTestUtils.setField(verificationService, "verifyRefillPerMinute", NO_REFILL);
+    }
+
+    @Test
+    @DisplayName("발송 - 같은 이메일은 용량을 넘으면 429, 다른 이메일은 영향 없음")
+    void send_perEmailBucket() {
+        verificationService.sendVerificationCode("a@university.ac.kr", IP);
+        verificationService.sendVerificationCode("a@university.ac.kr", "10.0.0.2");
+
+        assertTooManyRequests(() -> verificationService.sendVerificationCode("a@university.ac.kr", "10.0.0.3"));
+        assertThatCode(() -> verificationService.sendVerificationCode("b@university.ac.kr", "10.0.0.4"))
+                .doesNotThrowAnyException();
+        verify(emailService, times(3)).sendVerificationEmail(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("발송 - 같은 IP 는 이메일을 바꿔도 용량을 넘으면 429, 다른 IP 는 영향 없음")
+    void send_perIpBucket() {
+        for (int i = 0; i < 3; i++) {
+            verificationService.sendVerificationCode("user" + i + "@university.ac.kr", IP);
+        }
+
+        assertTooManyRequests(() -> verificationService.sendVerificationCode("fresh@university.ac.kr", IP));
+        assertThatCode(() -> verificationService.sendVerificationCode("fresh@university.ac.kr", "10.0.0.9"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("발송 - IP 에서 막힌 요청은 이메일 버킷을 소모하지 않는다")
+    void send_ipRejectionDoesNotConsumeEmailBucket() {
+        for (int i = 0; i < 3; i++) {
+            verificationService.sendVerificationCode("user" + i + "@university.ac.kr", IP);
+        }
+        assertTooManyRequests(() -> verificationService.sendVerificationCode("c@university.ac.kr", IP));
+
+        // c 의 이메일 버킷(용량 2)은 그대로
+        verificationService.sendVerificationCode("c@university.ac.kr", "10.0.1.1");
+        verificationService.sendVerificationCode("c@university.ac.kr", "10.0.1.2");
+    }
+
+    @Test
+    @DisplayName("검증 - 이메일별 시도 횟수를 넘으면 코드 저장소까지 가지 않고 429")
+    void verify_perEmailBucket() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> verificationService.verifyCode("v@university.ac.kr", "000000"))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting(e -> ((ServiceException) e).getStatus())
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        assertTooManyRequests(() -> verificationService.verifyCode("v@university.ac.kr", "123456"));
+        verify(codeStore, times(2)).verify(anyString(), anyString());
+        // 다른 이메일의 검증은 별도 버킷
+        assertThatThrownBy(() -> verificationService.verifyCode("w@university.ac.kr", "000000"))
+                .extracting(e -> ((ServiceException) e).getStatus())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("발송 제한에 걸리면 코드를 만들거나 저장하지 않는다")
+    void send_rejectedBeforeSavingCode() {
+        verificationService.sendVerificationCode("d@university.ac.kr", IP);
+        verificationService.sendVerificationCode("d@university.ac.kr", IP);
+        assertTooManyRequests(() -> verificationService.sendVerificationCode("d@university.ac.kr", IP));
+
+        verify(codeStore, times(2)).save(anyString(), anyString(), any());
+    }
+
+    private static void assertTooManyRequests(ThrowingCallable call) {
+        assertThatThrownBy(call)
+                .isInstanceOf(ServiceException.class)
+                .satisfies(e -> {
+                    assertThat(((ServiceException) e).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(e.getMessage()).contains("초 후 다시 시도해주세요.");
+                });
+    }
+}
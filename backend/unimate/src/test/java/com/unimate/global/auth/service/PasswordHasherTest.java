@@ -0,0 +1,147 @@
+package com.unimate.global.auth.service;
+
+import com.unimate.global.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비밀번호 해시 실행기 (스레드 1개, 대기열 1칸)
+ * - BCrypt 대신 래치에서 멈추는 목 인코더로 풀을 점유시켜 포화/시간 초과를 재현
+ */
+class PasswordHasherTest {
+
+    private final BCryptPasswordEncoder encoder = mock(BCryptPasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hasher != null) hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("풀 포화 - 실행 중 1건 + 대기 1건이 차 있으면 다음 요청은 바로 429")
+    void saturatedPool_rejectsWith429() throws Exception {
+        hasher = newHasher(10_000);
+        CountDownLatch started = blockOnMatches();
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hasher.matches("pw", "hash"));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> hasher.matches("pw", "hash"));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> hasher.matches("pw", "hash"))
+                .isInstanceOf(ServiceException.class)
+                .extracting("status").isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get("auth.password.rejected").gauge().value()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시간 초과 - 503 으로 응답하고 대기 중이던 작업은 대기열에서 빠진다")
+    void timeout_respondsWith503_andFreesQueueSlot() throws Exception {
+        hasher = newHasher(100);
+        CountDownLatch started = blockOnMatches();
+
+        CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> hasher.matches("pw", "hash"))
+                .handle((r, e) -> e != null ? e.getCause() : r);
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // 실행 중인 작업 뒤에서 기다리다 시간 초과
+        assertThatThrownBy(() -> hasher.matches("pw", "hash"))
+                .isInstanceOf(ServiceException.class)
+                .extracting("status").isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(queueDepth()).isZero();
+
+        // 비워진 자리로 다음 요청이 429 없이 들어감
+        ReflectionTestUtils.setField(hasher, "timeoutMs", 10_000L);
+        CompletableFuture<Boolean> next = CompletableFuture.supplyAsync(() -> hasher.matches("pw", "hash"));
+        awaitQueueDepth(1);
+        release.countDown();
+        assertThat(next.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(running.get(2, TimeUnit.SECONDS)).isInstanceOf(ServiceException.class);
+        assertThat(meterRegistry.get("auth.password.timed-out").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("재해시 판단 - 저장된 해시의 cost 가 설정값과 다를 때만 true")
+    void needsRehash_comparesCost() {
+        hasher = newHasher(1_000);
+        BCryptPasswordEncoder cost4 = new BCryptPasswordEncoder(4);
+
+        assertThat(hasher.needsRehash(cost4.encode("pw"))).isTrue();
+        assertThat(hasher.needsRehash("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")).isFalse();
+        assertThat(hasher.needsRehash("$2y$12$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")).isTrue();
+        assertThat(hasher.needsRehash("plain-text")).isFalse();
+        assertThat(hasher.needsRehash(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재해시 - cost 가 다르면 새 해시를 백그라운드로 만들어 저장 함수에 넘긴다")
+    void rehashIfNeeded_passesNewHashToSaver() throws Exception {
+        when(encoder.encode("pw")).thenReturn("$2a$10$new");
+        hasher = newHasher(1_000);
+
+        CompletableFuture<String> saved = new CompletableFuture<>();
+        hasher.rehashIfNeeded("pw", "$2a$04$old", saved::complete);
+        assertThat(saved.get(2, TimeUnit.SECONDS)).isEqualTo("$2a$10$new");
+
+        CompletableFuture<String> untouched = new CompletableFuture<>();
+        hasher.rehashIfNeeded("pw", "$2a$10$current", untouched::complete);
+        Thread.sleep(100);
+        assertThat(untouched).isNotDone();
+    }
+
+    private PasswordHasher newHasher(long timeoutMs) {
+        PasswordHasher h = new PasswordHasher(encoder, meterRegistry, 1, 1);
+        ReflectionTestUtils.setField(h, "asyncEnabled", true);
+        ReflectionTestUtils.setField(h, "timeoutMs", timeoutMs);
+        ReflectionTestUtils.setField(h, "strength", 10);
+        return h;
+    }
+
+    // 첫 matches 호출은 release 까지 멈춤, 이후 호출은 바로 true
+    private CountDownLatch blockOnMatches() {
+        CountDownLatch started = new CountDownLatch(1);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(inv -> {
+            if (started.getCount() > 0) {
+                started.countDown();
+                release.await();
+            }
+            return true;
+        });
+        return started;
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("auth.password.queue.depth").gauge().value();
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (queueDepth() < depth && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(queueDepth()).isEqualTo(depth);
+    }
+}
@@ -0,0 +1,211 @@
+package com.unimate.global.auth.service;
+
+import com.unimate.global.auth.entity.RefreshToken;
+import com.unimate.global.auth.model.SubjectType;
+import com.unimate.global.auth.repository.RefreshTokenRepository;
+import com.unimate.global.exception.ServiceException;
+import com.unimate.global.jwt.JwtProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리프레시 토큰 회전/재사용 탐지/DB 대체 조회
+ * - Redis 는 임베디드 서버, DB(refresh_token)는 주체별 한 행을 흉내 낸 저장소 목으로 대체
+ */
+class RefreshTokenStoreTest {
+
+    private static final SubjectType TYPE = SubjectType.USER;
+    private static final Long SUBJECT_ID = 7L;
+    private static final String EMAIL = "rt@university.ac.kr";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    // subjectId → 현재 토큰 행 (unique(subject_type, subject_id) 와 같은 한 행)
+    private final Map<Long, RefreshToken> table = new ConcurrentHashMap<>();
+    private RefreshTokenStore store;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (connectionFactory != null) connectionFactory.destroy();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        store = newStore(true);
+    }
+
+    @Test
+    @DisplayName("재발급 - 토큰을 소비하고 같은 family 의 새 토큰으로 회전한다")
+    void consume_thenRotate_keepsFamily() {
+        store.issue(TYPE, SUBJECT_ID, EMAIL, "token-1");
+
+        RefreshTokenStore.Entry first = store.consume("token-1");
+        store.rotate(first, "token-2");
+        RefreshTokenStore.Entry second = store.consume("token-2");
+
+        assertThat(first.subjectId()).isEqualTo(SUBJECT_ID);
+        assertThat(first.email()).isEqualTo(EMAIL);
+        assertThat(second.family()).isEqualTo(first.family());
+        assertThat(table.get(SUBJECT_ID).getTokenHash()).isEqualTo(RefreshTokenStore.hash("token-2"));
+    }
+
+    @Test
+    @DisplayName("재사용 탐지 - 회전된 토큰이 다시 오면 401 이고 family 전체가 폐기된다")
+    void consume_rotatedToken_revokesFamily() {
+        store.issue(TYPE, SUBJECT_ID, EMAIL, "token-1");
+        RefreshTokenStore.Entry entry = store.consume("token-1");
+        store.rotate(entry, "token-2");
+
+        assertThatThrownBy(() -> store.consume("token-1"))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getStatus())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        // 현재 토큰도 Redis/DB 양쪽에서 사라져 더는 재발급되지 않음
+        assertThat(redisTemplate.hasKey("rt:family:" + entry.family())).isFalse();
+        assertThat(table).doesNotContainKey(SUBJECT_ID);
+        assertThatThrownBy(() -> store.consume("token-2"))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getStatus())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("동시 재발급 - 같은 토큰은 한 번만 소비된다")
+    void consume_sameTokenTwice_secondIsReuse() {
+        store.issue(TYPE, SUBJECT_ID, EMAIL, "token-1");
+
+        store.consume("token-1");
+
+        assertThatThrownBy(() -> store.consume("token-1"))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("DB 대체 - Redis 에 없으면 refresh_token 의 현재 토큰으로 재발급한다")
+    void consume_fallsBackToDb_whenRedisLostTheToken() {
+        store.issue(TYPE, SUBJECT_ID, EMAIL, "token-1");
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        RefreshTokenStore.Entry entry = store.consume("token-1");
+
+        assertThat(entry.subjectId()).isEqualTo(SUBJECT_ID);
+        assertThat(entry.family()).isEqualTo(table.get(SUBJECT_ID).getFamily());
+    }
+
+    @Test
+    @DisplayName("DB 대체 - Redis 비활성 시 회전 후 이전 토큰은 401")
+    void consume_redisDisabled_usesDbOnly() {
+        RefreshTokenStore dbOnly = newStore(false);
+        dbOnly.issue(TYPE, SUBJECT_ID, EMAIL, "token-1");
+
+        RefreshTokenStore.Entry entry = dbOnly.consume("token-1");
+        dbOnly.rotate(entry, "token-2");
+
+        assertThat(dbOnly.consume("token-2").family()).isEqualTo(entry.family());
+        assertThatThrownBy(() -> dbOnly.consume("token-1"))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getStatus())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(redisTemplate.keys("rt:*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰 - 서명 검증 캐시에 남아 있어도 재발급은 401")
+    void reissue_revokedToken_isRejectedDespiteVerifyCache() {
+        JwtProvider jwtProvider = new JwtProvider(
+                "unimate-test-secret-key-for-jwt-provider-0123456789", 60_000L, 60_000L, true, 100);
+        TokenService tokenService = new TokenService(jwtProvider, store);
+        String refreshToken = tokenService.issueTokens(TYPE, SUBJECT_ID, EMAIL).getRefreshToken();
+
+        // 서명 검증 결과가 캐시된 뒤 로그아웃으로 폐기
+        assertThat(jwtProvider.validateToken(refreshToken)).isTrue();
+        tokenService.logout(refreshToken);
+
+        assertThat(jwtProvider.validateToken(refreshToken)).isTrue();
+        assertThatThrownBy(() -> tokenService.reissueTokens(refreshToken))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getStatus())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private RefreshTokenStore newStore(boolean redisEnabled) {
+        RefreshTokenStore s = new RefreshTokenStore(fakeRepository(), redisTemplate);
+        ReflectionTestUtils.setField(s, "redisEnabled", redisEnabled);
+        ReflectionTestUtils.setField(s, "refreshTokenExpirationMs", 60_000L);
+        return s;
+    }
+
+    private RefreshTokenRepository fakeRepository() {
+        RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+        when(repository.replaceToken(any(), any(), anyString(), anyString(), anyString(), any()))
+                .thenAnswer(inv -> {
+                    Long subjectId = inv.getArgument(1);
+                    if (!table.containsKey(subjectId)) return 0;
+                    table.put(subjectId, new RefreshToken(inv.getArgument(0), subjectId,
+                            inv.getArgument(2), inv.getArgument(3), inv.getArgument(4)));
+                    return 1;
+                });
+        when(repository.save(any(RefreshToken.class))).thenAnswer(inv -> {
+            RefreshToken rt = inv.getArgument(0);
+            table.put(rt.getSubjectId(), rt);
+            return rt;
+        });
+        when(repository.findByTokenHash(anyString())).thenAnswer(inv -> table.values().stream()
+                .filter(rt -> rt.getTokenHash().equals(inv.getArgument(0)))
+                .findFirst());
+        when(repository.findBySubjectTypeAndSubjectId(any(), any()))
+                .thenAnswer(inv -> Optional.ofNullable(table.get((Long) inv.getArgument(1))));
+        doAnswer(inv -> {
+            RefreshToken rt = inv.getArgument(0);
+            table.remove(rt.getSubjectId());
+            return null;
+        }).when(repository).delete(any(RefreshToken.class));
+        return repository;
+    }
+}
@@ -0,0 +1,236 @@
+package com.unimate.global.config;
+
+import com.unimate.domain.match.service.MatchService;
+import com.unimate.domain.message.dto.MessageType;
+import com.unimate.domain.message.dto.WsSendMessageRequest;
+import com.unimate.domain.message.ws.ChatWsController;
+import com.unimate.domain.notification.entity.NotificationType;
+import com.unimate.domain.notification.service.NotificationService;
+import com.unimate.domain.user.user.entity.Gender;
+import com.unimate.domain.user.user.entity.User;
+import com.unimate.domain.user.user.repository.UserRepository;
+import com.unimate.domain.userMatchPreference.entity.UserMatchPreference;
+import com.unimate.domain.userMatchPreference.repository.UserMatchPreferenceRepository;
+import com.unimate.global.jwt.CustomUserPrincipal;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /actuator/prometheus 노출 확인
+ * - 캐시 지표(cache.gets)가 실제로 쌓이도록 임베디드 Redis 에 붙여 띄움
+ * - 지표별로 실제 경로를 한 번 태운 뒤 이름과 태그가 의도대로 찍히는지 확인
+ */
+@SpringBootTest(properties = {
+        "metrics.scrape.username=prometheus",
+        "metrics.scrape.password=scrape-secret"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsConfigTest {
+
+    private static RedisServer redisServer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private ChatWsController chatWsController;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserMatchPreferenceRepository userMatchPreferenceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> port);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @AfterEach
+    void cleanup() {
+        for (User u : users) {
+            jdbcTemplate.update("DELETE FROM notifications WHERE user_id = ?", u.getId());
+            jdbcTemplate.update("DELETE FROM user_match_preference WHERE user_id = ?", u.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", u.getId());
+        }
+        users.clear();
+    }
+
+    @Test
+    @DisplayName("Prometheus 엔드포인트 - 인증 없이 조회하면 401")
+    void prometheus_requiresAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Prometheus 엔드포인트 - 수집 계정으로 조회되고 컴포넌트 게이지가 노출된다")
+    void prometheus_exposesComponentGauges() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(scraper()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("ws_sessions_active")))
+                .andExpect(content().string(containsString("ws_channel_queue_depth{application=\"unimate\",channel=\"inbound\"}")))
+                .andExpect(content().string(containsString("ws_channel_queue_depth{application=\"unimate\",channel=\"outbound\"}")))
+                .andExpect(content().string(containsString("ws_channel_queue_depth{application=\"unimate\",channel=\"broker\"}")))
+                .andExpect(content().string(containsString("notification_dispatch_queue_depth")));
+    }
+
+    @Test
+    @DisplayName("JWT 검증 시간 - 잘못된 토큰 요청 후 result=invalid 타이머가 기록된다")
+    void prometheus_recordsJwtValidation() throws Exception {
+        mockMvc.perform(get("/api/v1/notifications").header("Authorization", "Bearer invalid.token.value"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/prometheus").with(scraper()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("jwt_validation_seconds_count{application=\"unimate\",result=\"invalid\"}")));
+    }
+
+    @Test
+    @DisplayName("추천 단계 타이머 / 캐시 조회 - 추천 목록 조회 후 mode, stage 와 캐시 이름, hit/miss 태그로 기록된다")
+    void prometheus_recordsRecommendationStagesAndCacheGets() throws Exception {
+        User sender = newUser("추천요청자");
+        userMatchPreferenceRepository.save(UserMatchPreference.builder()
+                .user(sender)
+                .startUseDate(LocalDate.of(2025, 3, 1)).endUseDate(LocalDate.of(2025, 12, 31))
+                .sleepTime(3).cleaningFrequency(3).hygieneLevel(3).noiseSensitivity(3)
+                .guestFrequency(3).drinkingFrequency(3).preferredAgeGap(5)
+                .isPetAllowed(true).isSmoker(false).isSnoring(false)
+                .build());
+
+        // 두 번 조회하면 전체 후보 캐시(matchCandidatesV2)는 적어도 한 번 hit
+        matchService.getMatchRecommendations(sender.getEmail(), null, null, null, null, null);
+        matchService.getMatchRecommendations(sender.getEmail(), null, null, null, null, null);
+
+        String body = scrape();
+        for (String stage : List.of("load", "filter", "score", "assemble")) {
+            assertThat(sample(body, "matching_recommendation_stage_seconds_count",
+                    "application=\"unimate\"", "mode=\"cache\"", "stage=\"" + stage + "\"")).isEqualTo(2);
+        }
+        assertThat(sample(body, "matching_recommendation_stage_seconds_bucket",
+                "mode=\"cache\"", "stage=\"load\"", "le=\"+Inf\"")).isEqualTo(2);
+        assertThat(sample(body, "matching_recommendation_candidates_count",
+                "mode=\"cache\"", "phase=\"loaded\"")).isEqualTo(2);
+        assertThat(sample(body, "cache_gets_total",
+                "application=\"unimate\"", "cache=\"matchCandidatesV2\"", "result=\"hit\"")).isGreaterThanOrEqualTo(1);
+        assertThat(sample(body, "cache_gets_total",
+                "cache=\"matchCandidatesV2\"", "result=\"miss\"")).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("채팅 전송 타이머 - 보낼 수 없는 방으로 전송하면 result=error 로 기록된다")
+    void prometheus_recordsChatMessageSend() throws Exception {
+        CustomUserPrincipal principal = new CustomUserPrincipal(Long.MAX_VALUE, "nobody@uni.ac.kr");
+        WsSendMessageRequest req = WsSendMessageRequest.builder()
+                .chatroomId(Long.MAX_VALUE)
+                .clientMessageId(UUID.randomUUID().toString())
+                .type(MessageType.TEXT)
+                .content("안녕하세요")
+                .build();
+
+        chatWsController.sendMessage(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()), req, null);
+
+        assertThat(sample(scrape(), "chat_message_send_seconds_count",
+                "application=\"unimate\"", "result=\"error\"")).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림 푸시 카운터 - 알림 생성 후 type, result 태그로 기록된다")
+    void prometheus_recordsNotificationPush() throws Exception {
+        User receiver = newUser("수신자");
+        User sender = newUser("발신자");
+
+        notificationService.createNotification(receiver.getId(), NotificationType.LIKE,
+                "좋아요 알림", sender.getName(), sender.getId());
+
+        String body = scrape();
+        assertThat(sample(body, "notification_push_total",
+                "application=\"unimate\"", "type=\"LIKE\"", "result=\"ok\"")).isGreaterThanOrEqualTo(1);
+        assertThat(sample(body, "notification_push_total",
+                "type=\"UNREAD_COUNT\"", "result=\"ok\"")).isGreaterThanOrEqualTo(1);
+    }
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus").with(scraper()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    // 이름이 같고 주어진 라벨을 모두 가진 시계열의 값 (없으면 실패)
+    private static double sample(String body, String name, String... labels) {
+        return body.lines()
+                .filter(line -> line.startsWith(name + "{"))
+                .filter(line -> Arrays.stream(labels).allMatch(line::contains))
+                .mapToDouble(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(name + " " + Arrays.toString(labels) + " 시계열이 없습니다."));
+    }
+
+    private User newUser(String name) {
+        User user = userRepository.save(new User(name, UUID.randomUUID() + "@uni.ac.kr", "password",
+                Gender.MALE, LocalDate.of(2000, 1, 1), "서울대학교"));
+        users.add(user);
+        return user;
+    }
+
+    private static RequestPostProcessor scraper() {
+        return httpBasic("prometheus", "scrape-secret");
+    }
+}
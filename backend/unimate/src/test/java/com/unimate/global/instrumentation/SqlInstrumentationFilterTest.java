@@ -0,0 +1,77 @@
+package com.unimate.global.instrumentation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlInstrumentationFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlInstrumentationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlInstrumentationFilter(meterRegistry);
+        ReflectionTestUtils.setField(filter, "statementBudget", 2);
+        request = new MockHttpServletRequest("GET", "/api/v1/notifications");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("예산 초과 + fail-on-budget-exceeded - 응답이 커밋되기 전에 예외로 실패한다")
+    void overBudget_failsBeforeResponseIsCommitted() {
+        ReflectionTestUtils.setField(filter, "failOnBudgetExceeded", true);
+
+        assertThatThrownBy(() -> filter.doFilter(request, response, handler(3)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SQL 문 예산 초과 GET /api/v1/notifications - 3건 (예산 2");
+
+        // 핸들러가 쓰고 flush 한 본문은 버퍼에 남아 실제 응답으로 나가지 않음
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(meterRegistry.get("http.server.requests.sql.statements")
+                .tag("uri", "/api/v1/notifications").summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("예산 이내 + fail-on-budget-exceeded - 버퍼에 모은 본문을 그대로 내보낸다")
+    void withinBudget_copiesBufferedBody() throws Exception {
+        ReflectionTestUtils.setField(filter, "failOnBudgetExceeded", true);
+
+        filter.doFilter(request, response, handler(2));
+
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("예산 초과 + 경고 모드 - 경고만 남기고 응답은 정상 처리한다")
+    void overBudget_warnOnly_passesThrough() throws Exception {
+        filter.doFilter(request, response, handler(5));
+
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+    }
+
+    // 매핑된 핸들러가 statements 건의 SQL 을 실행한 뒤 본문을 쓰고 flush
+    private FilterChain handler(int statements) {
+        return (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/notifications");
+            for (int i = 0; i < statements; i++) {
+                SqlRequestStats.current().statementExecuted(1_000_000L);
+            }
+            res.getWriter().write("ok");
+            res.flushBuffer();
+        };
+    }
+}
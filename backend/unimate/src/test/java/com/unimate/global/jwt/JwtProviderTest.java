@@ -0,0 +1,135 @@
+package com.unimate.global.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증 캐시 동작 (jwt.verify-cache.*)
+ * - 같은 토큰은 다시 파싱하지 않고 캐시된 클레임 인스턴스를 그대로 돌려줌
+ * - 캐시 키는 토큰 전체의 해시라 변조/다른 키로 서명한 토큰은 캐시에 걸리지 않고 서명 검증에서 거부됨
+ */
+class JwtProviderTest {
+
+    private static final String SECRET = "unimate-test-secret-key-for-jwt-provider-0123456789";
+    private static final String EMAIL = "jwt@university.ac.kr";
+    private static final Long USER_ID = 11L;
+
+    @Test
+    @DisplayName("캐시 hit - 같은 토큰을 다시 검증하면 캐시된 클레임을 돌려준다")
+    void parse_sameToken_servedFromCache() {
+        JwtProvider provider = newProvider(60_000L, 100);
+        String token = provider.generateToken(EMAIL, USER_ID).getAccessToken();
+
+        JwtClaims first = provider.parse(token).orElseThrow();
+        JwtClaims second = provider.parse(token).orElseThrow();
+
+        assertThat(first.email()).isEqualTo(EMAIL);
+        assertThat(first.userId()).isEqualTo(USER_ID);
+        assertThat(second).isSameAs(first);
+        assertThat(cache(provider)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("캐시 비활성 - 매번 다시 파싱하고 아무것도 보관하지 않는다")
+    void parse_cacheDisabled_parsesEveryTime() {
+        JwtProvider provider = new JwtProvider(SECRET, 60_000L, 120_000L, false, 100);
+        String token = provider.generateToken(EMAIL, USER_ID).getAccessToken();
+
+        JwtClaims first = provider.parse(token).orElseThrow();
+        JwtClaims second = provider.parse(token).orElseThrow();
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(cache(provider)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료 - 캐시에 있던 토큰도 만료 시각이 지나면 거부되고 캐시에서 빠진다")
+    void parse_expiredCachedToken_isRejectedAndEvicted() throws Exception {
+        JwtProvider provider = newProvider(2_000L, 100);
+        String token = provider.generateToken(EMAIL, USER_ID).getAccessToken();
+        JwtClaims claims = provider.parse(token).orElseThrow();
+        assertThat(cache(provider)).hasSize(1);
+
+        // exp 는 초 단위로 잘리므로 캐시된 만료 시각이 지날 때까지 대기
+        long waitMs = claims.expiresAt().toEpochMilli() - System.currentTimeMillis() + 100;
+        Thread.sleep(Math.max(waitMs, 0));
+
+        assertThat(provider.parse(token)).isEmpty();
+        assertThat(cache(provider)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변조 - 캐시된 토큰의 페이로드/서명을 바꾸면 캐시에 걸리지 않고 거부된다")
+    void parse_tamperedToken_isNotServedFromCache() {
+        JwtProvider provider = newProvider(60_000L, 100);
+        String token = provider.generateToken(EMAIL, USER_ID).getAccessToken();
+        provider.parse(token).orElseThrow();
+
+        String[] parts = token.split("\\.");
+        String otherPayload = newProvider(60_000L, 100).generateToken("attacker@university.ac.kr", 99L)
+                .getAccessToken().split("\\.")[1];
+        String tamperedPayload = parts[0] + "." + otherPayload + "." + parts[2];
+        String tamperedSignature = parts[0] + "." + parts[1] + "." + flipFirstChar(parts[2]);
+
+        assertThat(provider.parse(tamperedPayload)).isEmpty();
+        assertThat(provider.parse(tamperedSignature)).isEmpty();
+        assertThat(cache(provider)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("다른 키 - 같은 클레임이라도 다른 키로 서명한 토큰은 거부된다")
+    void parse_tokenSignedWithOtherKey_isRejected() {
+        JwtProvider provider = newProvider(60_000L, 100);
+        String forged = Jwts.builder()
+                .subject(EMAIL)
+                .claim("userId", USER_ID)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-that-is-long-enough-0123456789".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(provider.parse(forged)).isEmpty();
+        assertThat(cache(provider)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LRU - 가득 차면 가장 오래 쓰이지 않은 토큰만 밀려난다")
+    void parse_fullCache_evictsLeastRecentlyUsed() {
+        JwtProvider provider = newProvider(60_000L, 2);
+        String t1 = provider.generateToken("a@university.ac.kr", 1L).getAccessToken();
+        String t2 = provider.generateToken("b@university.ac.kr", 2L).getAccessToken();
+        String t3 = provider.generateToken("c@university.ac.kr", 3L).getAccessToken();
+
+        JwtClaims c1 = provider.parse(t1).orElseThrow();
+        JwtClaims c2 = provider.parse(t2).orElseThrow();
+        provider.parse(t1); // t1 을 최근 사용으로 올림
+        provider.parse(t3); // t2 가 밀려남
+
+        assertThat(cache(provider)).hasSize(2);
+        assertThat(provider.parse(t1).orElseThrow()).isSameAs(c1);
+        assertThat(provider.parse(t2).orElseThrow()).isNotSameAs(c2).isEqualTo(c2);
+    }
+
+    private static JwtProvider newProvider(long accessTokenExpirationMs, int cacheMaxSize) {
+        return new JwtProvider(SECRET, accessTokenExpirationMs, 120_000L, true, cacheMaxSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, JwtClaims> cache(JwtProvider provider) {
+        return (Map<String, JwtClaims>) ReflectionTestUtils.getField(provider, "verifiedCache");
+    }
+
+    // 마지막 글자는 패딩 비트만 바뀔 수 있으므로 첫 글자를 바꿈
+    private static String flipFirstChar(String s) {
+        return (s.charAt(0) == 'A' ? 'B' : 'A') + s.substring(1);
+    }
+}
@@ -0,0 +1,87 @@
+package com.unimate.global.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.unimate.global.mail.entity.MailOutbox;
+import com.unimate.global.mail.repository.MailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "mail.outbox.poll-interval-ms=100",
+        "mail.outbox.backoff-initial-ms=200"
+})
+@ActiveProfiles("test")
+class MailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @AfterEach
+    void cleanup() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("아웃박스에 쌓인 메일이 워커에서 발송되고 SENT 로 바뀐다")
+    void enqueuedMails_areDeliveredInBackground() throws Exception {
+        emailService.sendVerificationEmail("a@uni.ac.kr", "111111");
+        emailService.sendVerificationEmail("b@uni.ac.kr", "222222");
+        emailService.sendVerificationEmail("c@uni.ac.kr", "333333");
+
+        assertThat(greenMail.waitForIncomingEmail(15000, 3)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(Arrays.stream(received).map(m -> {
+            try {
+                return m.getAllRecipients()[0].toString();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        })).containsExactlyInAnyOrder("a@uni.ac.kr", "b@uni.ac.kr", "c@uni.ac.kr");
+
+        awaitTrue(() -> mailOutboxRepository.countByStatus(MailOutbox.Status.SENT) == 3);
+    }
+
+    @Test
+    @DisplayName("SMTP 가 내려가 있으면 재시도가 예약되고, 다시 올라오면 발송된다")
+    void failedMail_isRetriedWithBackoff() throws Exception {
+        greenMail.stop();
+        emailService.sendVerificationEmail("retry@uni.ac.kr", "444444");
+
+        awaitTrue(() -> mailOutboxRepository.findAll().stream()
+                .anyMatch(m -> m.getStatus() == MailOutbox.Status.PENDING && m.getAttempts() >= 1 && m.getLastError() != null));
+
+        greenMail.start();
+        assertThat(greenMail.waitForIncomingEmail(15000, 1)).isTrue();
+        awaitTrue(() -> mailOutboxRepository.countByStatus(MailOutbox.Status.SENT) == 1);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건이 시간 안에 만족되지 않았습니다.");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.unimate.global.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unimate.global.jwt.CustomUserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * REST 요청 제한 필터
+ * - 로컬 버킷으로 판정 (Redis 비활성), 보충 속도를 거의 0 으로 두어 시간에 따라 흔들리지 않게 함
+ */
+class RateLimitFilterTest {
+
+    private static final double NO_REFILL = 0.0001;
+    private static final String RECOMMENDATIONS = "/api/v1/matches/recommendations";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(mock(StringRedisTemplate.class), meterRegistry);
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "redisEnabled", false);
+
+        filter = new RateLimitFilter(rateLimiter, objectMapper, 5, NO_REFILL,
+                "GET " + RECOMMENDATIONS + "=2/" + NO_REFILL);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("기본 버킷 초과 - 429 + Retry-After, 본문은 GlobalExceptionHandler 형식")
+    void defaultBucketExhausted_returns429WithRetryAfter() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(call("GET", "/api/v1/notifications", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletResponse rejected = call("GET", "/api/v1/notifications", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER))).isPositive();
+        JsonNode body = objectMapper.readTree(rejected.getContentAsString());
+        assertThat(body.get("status").asInt()).isEqualTo(429);
+        assertThat(body.get("error").asText()).isEqualTo("TOO_MANY_REQUESTS");
+        assertThat(body.get("message").asText()).contains(rejected.getHeader(HttpHeaders.RETRY_AFTER) + "초 후");
+        assertThat(meterRegistry.get("ratelimit.requests").tags("name", "http.default", "result", "rejected")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("경로 버킷 - 지정한 경로만 따로 조이고 다른 API 는 기본 버킷으로 계속 허용한다")
+    void routeBucket_limitsOnlyMatchingRoute() throws Exception {
+        assertThat(call("GET", RECOMMENDATIONS, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call("GET", RECOMMENDATIONS, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call("GET", RECOMMENDATIONS, "10.0.0.1").getStatus()).isEqualTo(429);
+
+        // 메서드가 다르면 경로 규칙에 걸리지 않음
+        assertThat(call("POST", RECOMMENDATIONS, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call("GET", "/api/v1/notifications", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("ratelimit.requests").tags("name", "http:GET " + RECOMMENDATIONS, "result", "rejected")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷 주인 - 인증된 요청은 사용자별, 아니면 IP 별로 따로 센다")
+    void clientKey_userOrIp() throws Exception {
+        authenticate(1L);
+        call("GET", RECOMMENDATIONS, "10.0.0.1");
+        call("GET", RECOMMENDATIONS, "10.0.0.1");
+        assertThat(call("GET", RECOMMENDATIONS, "10.0.0.1").getStatus()).isEqualTo(429);
+
+        // 같은 IP 라도 다른 사용자는 자기 버킷
+        authenticate(2L);
+        assertThat(call("GET", RECOMMENDATIONS, "10.0.0.1").getStatus()).isEqualTo(200);
+
+        SecurityContextHolder.clearContext();
+        assertThat(call("GET", RECOMMENDATIONS, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call("GET", RECOMMENDATIONS, "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("/api 밖의 요청 - 제한하지 않는다")
+    void nonApiPath_notLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(call("GET", "/actuator/health", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+        assertThat(meterRegistry.find("ratelimit.requests").counters()).isEmpty();
+    }
+
+    private MockHttpServletResponse call(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private void authenticate(Long userId) {
+        CustomUserPrincipal principal = new CustomUserPrincipal(userId, "user" + userId + "@university.ac.kr");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.unimate.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitRuleTest {
+
+    @Test
+    @DisplayName("parseAll - 메서드/패턴/버킷 크기/분당 보충을 ; 단위로 읽는다")
+    void parseAll_readsEachEntry() {
+        List<RateLimitRule> rules = RateLimitRule.parseAll(" get /api/v1/matches/recommendations=10/30; /pub/chat.send = 20/120 ;");
+
+        assertThat(rules).hasSize(2);
+        assertThat(rules.get(0).method()).isEqualTo("GET");
+        assertThat(rules.get(0).pattern()).isEqualTo("/api/v1/matches/recommendations");
+        assertThat(rules.get(0).limit()).isEqualTo(TokenBucketRateLimiter.Limit.perMinute(10, 30));
+        assertThat(rules.get(0).name()).isEqualTo("GET /api/v1/matches/recommendations");
+        assertThat(rules.get(1).method()).isNull();
+        assertThat(rules.get(1).pattern()).isEqualTo("/pub/chat.send");
+        assertThat(rules.get(1).limit()).isEqualTo(TokenBucketRateLimiter.Limit.perMinute(20, 120));
+        assertThat(rules.get(1).name()).isEqualTo("/pub/chat.send");
+    }
+
+    @Test
+    @DisplayName("parseAll - 비어 있으면 규칙 없음")
+    void parseAll_blank_returnsEmpty() {
+        assertThat(RateLimitRule.parseAll(null)).isEmpty();
+        assertThat(RateLimitRule.parseAll("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parseAll - 형식이 틀린 항목은 기동 시점에 실패한다")
+    void parseAll_invalidEntry_throws() {
+        assertThatThrownBy(() -> RateLimitRule.parseAll("/api/v1/reports=10"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("/api/v1/reports=10");
+        assertThatThrownBy(() -> RateLimitRule.parseAll("/api/v1/reports"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RateLimitRule.parseAll("/api/v1/reports=ten/30"))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    @DisplayName("matches - 메서드가 있으면 메서드까지, 없으면 경로 패턴만 비교한다")
+    void matches_methodAndAntPattern() {
+        RateLimitRule get = RateLimitRule.parseAll("GET /api/v1/reports/**=10/30").get(0);
+        RateLimitRule any = RateLimitRule.parseAll("/api/v1/reports/*=10/30").get(0);
+
+        assertThat(get.matches("GET", "/api/v1/reports/3/detail")).isTrue();
+        assertThat(get.matches("POST", "/api/v1/reports/3/detail")).isFalse();
+        assertThat(any.matches("POST", "/api/v1/reports/3")).isTrue();
+        assertThat(any.matches("POST", "/api/v1/reports/3/detail")).isFalse();
+    }
+}
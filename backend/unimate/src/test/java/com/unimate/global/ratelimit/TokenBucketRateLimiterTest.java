@@ -0,0 +1,207 @@
+package com.unimate.global.ratelimit;
+
+import com.unimate.global.ratelimit.TokenBucketRateLimiter.Limit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Redis 공유 버킷 + 로컬 우선 확인 / 토큰 몫 받아 두기
+ * - Redis 는 임베디드 서버, 인스턴스 두 개를 만들어 노드 두 대를 흉내 냄
+ */
+class TokenBucketRateLimiterTest {
+
+    private static final double NO_REFILL = 0.0001;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (connectionFactory != null) connectionFactory.destroy();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        flushRedis();
+    }
+
+    @Test
+    @DisplayName("몫 받아 두기 - 요청이 몰리면 한 번의 Redis 왕복으로 여러 요청을 허용한다")
+    void lease_servesRequestsWithoutRoundTrip() {
+        TokenBucketRateLimiter node = newLimiter(60_000L);
+        Limit limit = Limit.perMinute(40, NO_REFILL);
+
+        // 첫 요청은 하나만 차감, 이어지는 요청부터 한 번에 10개(lease-size) 받아 옴
+        assertThat(node.tryAcquire("http.default", "u1", limit).allowed()).isTrue();
+        assertThat(redisTokens("http.default", "u1")).isCloseTo(39, within(0.01));
+        assertThat(node.tryAcquire("http.default", "u1", limit).allowed()).isTrue();
+        assertThat(redisTokens("http.default", "u1")).isCloseTo(29, within(0.01));
+
+        for (int i = 0; i < 9; i++) {
+            assertThat(node.tryAcquire("http.default", "u1", limit).allowed()).isTrue();
+        }
+        assertThat(redisTokens("http.default", "u1")).isCloseTo(29, within(0.01));
+
+        assertThat(node.tryAcquire("http.default", "u1", limit).allowed()).isTrue();
+        assertThat(redisTokens("http.default", "u1")).isCloseTo(19, within(0.01));
+    }
+
+    @Test
+    @DisplayName("드문 요청 - 기본 lease-ms 에서도 노드 두 대를 합쳐 정확히 버킷 크기만큼 허용한다")
+    void sparseRequests_defaultLease_allowExactlyCapacity() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketRateLimiter nodeA = newLimiter(1_000L, clock);
+        TokenBucketRateLimiter nodeB = newLimiter(1_000L, clock);
+        Limit limit = Limit.perMinute(8, NO_REFILL);
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+            if (nodeA.tryAcquire("http:GET /api/v1/matches/recommendations", "u1", limit).allowed()) allowed++;
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+            if (nodeB.tryAcquire("http:GET /api/v1/matches/recommendations", "u1", limit).allowed()) allowed++;
+        }
+
+        assertThat(allowed).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("몫 반환 - 몰린 뒤 남은 몫은 만료 후 Redis 로 돌아가 허용량이 줄지 않는다")
+    void burstThenPause_returnsUnusedLease() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketRateLimiter nodeA = newLimiter(1_000L, clock);
+        TokenBucketRateLimiter nodeB = newLimiter(1_000L, clock);
+        Limit limit = Limit.perMinute(8, NO_REFILL);
+
+        // 연달아 두 번 → 두 번째에 2개를 받아 하나가 남음
+        assertThat(nodeA.tryAcquire("http.default", "u1", limit).allowed()).isTrue();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(nodeA.tryAcquire("http.default", "u1", limit).allowed()).isTrue();
+        assertThat(redisTokens("http.default", "u1")).isCloseTo(5, within(0.01));
+
+        // A 에 더 요청이 없어도 정리 주기에 남은 몫을 돌려줌
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        nodeA.evictFullLocalBuckets();
+        assertThat(redisTokens("http.default", "u1")).isCloseTo(6, within(0.01));
+
+        int allowed = 2;
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+            if (nodeB.tryAcquire("http.default", "u1", limit).allowed()) allowed++;
+        }
+        assertThat(allowed).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("노드 간 공유 - 두 노드가 받아 간 몫을 합쳐도 버킷 크기를 넘지 않는다")
+    void sharedAcrossNodes_neverExceedsCapacity() {
+        TokenBucketRateLimiter nodeA = newLimiter();
+        TokenBucketRateLimiter nodeB = newLimiter();
+        Limit limit = Limit.perMinute(8, NO_REFILL);
+
+        int allowed = 0;
+        for (int i = 0; i < 6; i++) {
+            if (nodeA.tryAcquire("http.default", "u1", limit).allowed()) allowed++;
+            if (nodeB.tryAcquire("http.default", "u1", limit).allowed()) allowed++;
+        }
+
+        assertThat(allowed).isEqualTo(8);
+        assertThat(nodeB.tryAcquire("http.default", "u1", limit).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("로컬 우선 - 이 노드만으로 한도를 넘기면 Redis 를 거치지 않고 거절한다")
+    void localBucketExhausted_rejectsWithoutRedis() {
+        TokenBucketRateLimiter node = newLimiter();
+        Limit limit = Limit.perMinute(4, NO_REFILL);
+        for (int i = 0; i < 4; i++) {
+            assertThat(node.tryAcquire("verify.email", "a@university.ac.kr", limit).allowed()).isTrue();
+        }
+
+        // Redis 쪽 버킷이 사라져도(새로 가득 찬 버킷) 로컬 판정에서 이미 거절
+        flushRedis();
+        TokenBucketRateLimiter.Decision decision = node.tryAcquire("verify.email", "a@university.ac.kr", limit);
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfterSeconds()).isPositive();
+        assertThat(redisTemplate.hasKey("rl:verify.email:a@university.ac.kr")).isFalse();
+    }
+
+    @Test
+    @DisplayName("작은 버킷 - 받아 두지 않고 요청마다 Redis 로 판정한다")
+    void smallBucket_noLease() {
+        TokenBucketRateLimiter nodeA = newLimiter();
+        TokenBucketRateLimiter nodeB = newLimiter();
+        Limit limit = Limit.perMinute(3, NO_REFILL);
+
+        assertThat(nodeA.tryAcquire("verify.ip", "10.0.0.1", limit).allowed()).isTrue();
+        assertThat(redisTokens("verify.ip", "10.0.0.1")).isCloseTo(2, within(0.01));
+        assertThat(nodeB.tryAcquire("verify.ip", "10.0.0.1", limit).allowed()).isTrue();
+        assertThat(nodeA.tryAcquire("verify.ip", "10.0.0.1", limit).allowed()).isTrue();
+        assertThat(nodeB.tryAcquire("verify.ip", "10.0.0.1", limit).allowed()).isFalse();
+    }
+
+    private TokenBucketRateLimiter newLimiter() {
+        return newLimiter(60_000L);
+    }
+
+    private TokenBucketRateLimiter newLimiter(long leaseMs) {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "redisEnabled", true);
+        ReflectionTestUtils.setField(limiter, "leaseSize", 10);
+        ReflectionTestUtils.setField(limiter, "leaseMs", leaseMs);
+        return limiter;
+    }
+
+    // 노드들이 같은 가짜 시계를 공유 (Redis 쪽 보충은 NO_REFILL 이라 실제 시간과 무관)
+    private TokenBucketRateLimiter newLimiter(long leaseMs, AtomicLong clock) {
+        TokenBucketRateLimiter limiter = newLimiter(leaseMs);
+        ReflectionTestUtils.setField(limiter, "nanoClock", (LongSupplier) clock::get);
+        return limiter;
+    }
+
+    private double redisTokens(String name, String id) {
+        Object tokens = redisTemplate.opsForHash().get("rl:" + name + ":" + id, "tokens");
+        return Double.parseDouble(String.valueOf(tokens));
+    }
+
+    private static void flushRedis() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+}
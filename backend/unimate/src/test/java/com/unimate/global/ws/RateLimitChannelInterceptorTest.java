@@ -0,0 +1,115 @@
+package com.unimate.global.ws;
+
+import com.unimate.domain.message.dto.WsError;
+import com.unimate.global.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Principal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * STOMP SEND 요청 제한 - 초과 프레임은 버리고 /user/queue/chat.errors 로 오류 전송
+ */
+class RateLimitChannelInterceptorTest {
+
+    private static final double NO_REFILL = 0.0001;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private SimpMessagingTemplate messagingTemplate;
+    private RateLimitChannelInterceptor interceptor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(mock(StringRedisTemplate.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        // STOMP 는 로컬 버킷만 쓰므로 Redis 설정과 무관해야 함
+        ReflectionTestUtils.setField(rateLimiter, "redisEnabled", true);
+
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        ObjectProvider<SimpMessagingTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(messagingTemplate);
+
+        interceptor = new RateLimitChannelInterceptor(rateLimiter, provider, "/pub/chat.send=2/" + NO_REFILL);
+    }
+
+    @Test
+    @DisplayName("초과한 SEND - 프레임을 버리고 StompExceptionAdvice 형식의 오류를 보낸다")
+    void overLimit_dropsFrame_andSendsWsError() {
+        Principal user = () -> "7";
+
+        assertThat(interceptor.preSend(send("/pub/chat.send", user), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("/pub/chat.send", user), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("/pub/chat.send", user), channel)).isNull();
+
+        verify(messagingTemplate).convertAndSendToUser(eq("7"), eq("/queue/chat.errors"),
+                argThat((Object payload) -> payload instanceof WsError error
+                        && "TOO_MANY_REQUESTS".equals(error.getCode())
+                        && error.getMessage().contains("초 후")
+                        && "ServiceException".equals(error.getDetail())));
+    }
+
+    @Test
+    @DisplayName("규칙에 없는 목적지/다른 사용자 - 따로 세거나 제한하지 않는다")
+    void otherDestinationOrUser_notLimited() {
+        Principal user = () -> "7";
+        interceptor.preSend(send("/pub/chat.send", user), channel);
+        interceptor.preSend(send("/pub/chat.send", user), channel);
+
+        assertThat(interceptor.preSend(send("/pub/chat.read", user), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("/pub/chat.send", () -> "8"), channel)).isNotNull();
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("SEND 가 아닌 프레임 - 그대로 통과한다")
+    void nonSendFrame_passesThrough() {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        acc.setDestination("/pub/chat.send");
+        acc.setSessionId("s1");
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders());
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+        }
+    }
+
+    @Test
+    @DisplayName("인증 전 세션 - 세션 기준으로 제한하고 오류는 보내지 않는다")
+    void anonymousSession_droppedSilently() {
+        interceptor.preSend(send("/pub/chat.send", null), channel);
+        interceptor.preSend(send("/pub/chat.send", null), channel);
+
+        assertThat(interceptor.preSend(send("/pub/chat.send", null), channel)).isNull();
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+    }
+
+    private Message<byte[]> send(String destination, Principal user) {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(StompCommand.SEND);
+        acc.setDestination(destination);
+        acc.setSessionId("s1");
+        acc.setUser(user);
+        return MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders());
+    }
+}
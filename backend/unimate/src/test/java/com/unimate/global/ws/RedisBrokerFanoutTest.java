@@ -0,0 +1,129 @@
+package com.unimate.global.ws;
+
+import com.unimate.UnimateApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ws.broker.mode=redis 두 노드를 임베디드 Redis 하나에 붙여 브로커 팬아웃 확인
+ * - 노드 A 브로커 채널로 보낸 메시지가 노드 B 브로커 채널로 재주입되는지, 보낸 노드로는 되돌아오지 않는지
+ */
+class RedisBrokerFanoutTest {
+
+    private static final String DESTINATION = "/sub/chatroom.99";
+
+    private static RedisServer redisServer;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws Exception {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        nodeA = startNode("fanout_a", port);
+        nodeB = startNode("fanout_b", port);
+        awaitTrue(() -> nodeA.getBean(RedisMessageListenerContainer.class).isListening()
+                && nodeB.getBean(RedisMessageListenerContainer.class).isListening());
+    }
+
+    @AfterAll
+    static void stopNodes() throws Exception {
+        if (nodeA != null) nodeA.close();
+        if (nodeB != null) nodeB.close();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 보낸 /sub 메시지가 다른 노드 브로커로 한 번 전달된다")
+    void subDestination_isFannedOutToOtherNode() throws Exception {
+        List<String> receivedOnA = capture(nodeA);
+        List<String> receivedOnB = capture(nodeB);
+
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSend(DESTINATION, "hello-from-a");
+
+        awaitTrue(() -> receivedOnB.contains("hello-from-a"));
+        Thread.sleep(300);
+        assertThat(receivedOnB).containsExactly("hello-from-a");
+        // 자기 노드가 보낸 메시지는 Redis 에서 다시 받아도 재주입하지 않음
+        assertThat(receivedOnA).containsExactly("hello-from-a");
+    }
+
+    private static ConfigurableApplicationContext startNode(String name, int redisPort) {
+        Map<String, Object> props = new HashMap<>();
+        props.put("server.port", 0);
+        props.put("spring.datasource.url", "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE");
+        props.put("spring.datasource.username", "sa");
+        props.put("spring.datasource.password", "");
+        props.put("spring.jpa.hibernate.ddl-auto", "create");
+        props.put("spring.data.redis.host", "localhost");
+        props.put("spring.data.redis.port", redisPort);
+        props.put("ws.broker.mode", "redis");
+        // 팬아웃 외 Redis 사용 기능은 끔 (두 노드가 캐시/카운터를 공유하지 않도록)
+        props.put("cache.redis.enabled", false);
+        props.put("ratelimit.enabled", false);
+        props.put("mail.outbox.enabled", false);
+        // 스프링 컨텍스트 캐시와 별개로 띄우므로 JMX 이름 충돌 방지
+        props.put("spring.jmx.enabled", false);
+        props.put("spring.application.name", name);
+        return new SpringApplicationBuilder(UnimateApplication.class)
+                .profiles("test")
+                .properties(props)
+                .run();
+    }
+
+    // 브로커 채널로 들어오는 대상 목적지 메시지의 페이로드 기록
+    private static List<String> capture(ConfigurableApplicationContext node) {
+        List<String> received = new CopyOnWriteArrayList<>();
+        node.getBean("brokerChannel", AbstractSubscribableChannel.class).addInterceptor(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (DESTINATION.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))
+                        && message.getPayload() instanceof byte[] payload) {
+                    received.add(new String(payload, StandardCharsets.UTF_8).replace("\"", ""));
+                }
+                return message;
+            }
+        });
+        return received;
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건이 시간 안에 만족되지 않았습니다.");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
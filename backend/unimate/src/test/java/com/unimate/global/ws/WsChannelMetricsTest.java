@@ -0,0 +1,78 @@
+package com.unimate.global.ws;
+
+import com.unimate.global.config.MetricsConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * STOMP 채널 실행기 측정
+ * - ThreadPoolTaskExecutor 가 아닌 실행기가 주입돼도 생성에 실패하지 않고 해당 채널 게이지만 빠지는지 확인
+ */
+class WsChannelMetricsTest {
+
+    private final ThreadPoolTaskExecutor inbound = pool();
+    private final ThreadPoolTaskExecutor broker = pool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        inbound.shutdown();
+        broker.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐가 없는 실행기 채널은 측정에서 빠지고 나머지 채널 게이지는 등록된다")
+    void nonPoolExecutor_isSkipped() throws Exception {
+        WsChannelMetrics metrics = new WsChannelMetrics(inbound, new SimpleAsyncTaskExecutor(), broker,
+                mock(WsSessionMonitor.class));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new MetricsConfig().wsMetrics(metrics, mock(WsSessionMonitor.class)).bindTo(registry);
+
+        assertThat(metrics.getChannels()).containsExactly("inbound", "broker");
+        assertThat(registry.find("ws.channel.queue.depth").gauges())
+                .extracting(g -> g.getId().getTag("channel"))
+                .containsExactlyInAnyOrder("inbound", "broker");
+        assertThat(metrics.queueDepth("outbound")).isZero();
+
+        // 스레드 하나를 막고 두 건을 더 넣으면 inbound 큐에 두 건이 쌓임
+        CountDownLatch started = new CountDownLatch(1);
+        inbound.execute(() -> {
+            started.countDown();
+            await();
+        });
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        inbound.execute(this::await);
+        inbound.execute(this::await);
+
+        assertThat(registry.get("ws.channel.queue.depth").tag("channel", "inbound").gauge().value()).isEqualTo(2.0);
+        assertThat(registry.get("ws.channel.active").tag("channel", "inbound").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("ws.channel.queue.depth").tag("channel", "broker").gauge().value()).isZero();
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadPoolTaskExecutor pool() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -12,6 +12,12 @@ export function useNotifications() {
   const [isLoading, setIsLoading] = useState(false)
   const { isAuthenticated } = useAuth()
   const notificationSubRef = useRef<StompSubscription | null>(null)
+  // WS 콜백에서 최신 목록을 보기 위한 참조
+  const notificationsRef = useRef<Notification[]>([])
+
+  useEffect(() => {
+    notificationsRef.current = notifications
+  }, [notifications])
 
   const loadNotifications = useCallback(async () => {
     if (!isAuthenticated) {
@@ -31,6 +37,7 @@ export function useNotifications() {
         senderName: n.senderName || undefined,
         senderId: n.senderId || undefined,
         chatroomId: n.chatroomId || undefined,
+        aggregationKey: n.aggregationKey || undefined,
         isRead: n.isRead,
         timestamp: n.createdAt
       }))
@@ -183,22 +190,40 @@ export function useNotifications() {
               try {
                 const notification = JSON.parse(msg.body);
 
+                // 읽지 않은 알림 수는 서버가 계산한 값을 그대로 사용
+                if (notification.type === 'UNREAD_COUNT') {
+                  setUnreadCount(notification.unreadCount);
+                  return;
+                }
+
+                const aggregationKey: string | undefined = notification.aggregationKey;
                 const newNotification: Notification = {
-                  id: notification.id?.toString() || Date.now().toString(),
+                  id: notification.id?.toString() || '',
                   type: notification.type?.toLowerCase() as 'like' | 'chat' | 'match' | 'like_canceled',
                   message: notification.message || '새 알림이 도착했습니다',
                   senderName: notification.senderName,
                   senderId: notification.senderId,
                   chatroomId: notification.chatroomId,
                   profileId: notification.profileId,
+                  aggregationKey,
                   isRead: false,
-                  timestamp: notification.createdAt || new Date().toISOString(),
+                  timestamp: notification.lastActivityAt || notification.createdAt || new Date().toISOString(),
                 };
 
+                // 접히거나 되살아난 알림은 id 없이 오므로 목록에 없으면 다시 불러와 id 를 받음
+                const known = !!aggregationKey && notificationsRef.current.some(n => n.aggregationKey === aggregationKey);
+                if (!known && !newNotification.id) {
+                  loadNotifications();
+                  return;
+                }
+
                 setNotifications(prev => {
-                  // 중복 알림 방지
-                  const exists = prev.some(n => n.id === newNotification.id);
-                  if (exists) return prev;
+                  const existing = aggregationKey ? prev.find(n => n.aggregationKey === aggregationKey) : undefined;
+                  if (existing) {
+                    const merged = { ...existing, ...newNotification, id: existing.id };
+                    return [merged, ...prev.filter(n => n !== existing)];
+                  }
+                  if (prev.some(n => n.id === newNotification.id)) return prev;
 
                   const senderId = newNotification.senderId;
                   let filtered = prev;
@@ -215,8 +240,6 @@ export function useNotifications() {
                   return [newNotification, ...filtered];
                 });
 
-                setUnreadCount(prev => prev + 1);
-
                 // 브라우저 데스크톱 알림
                 if (typeof window !== 'undefined' && 'Notification' in window && window.Notification && window.Notification.permission === 'granted') {
                   new window.Notification('Unimate', {
@@ -8,6 +8,7 @@ export interface Notification {
   senderId?: number
   chatroomId?: number
   profileId?: number
+  aggregationKey?: string // 같은 대상으로 접힌 알림을 식별 (WS 푸시로 기존 항목 갱신)
 }
 
 export interface NotificationState {